@@ -0,0 +1,118 @@
+package com.bc.ecommerce.benchmark;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * BenchmarkData class. Deterministic prices dataset shared by the benchmarks: every product of
+ * brand 1 has a base price for the whole year and a promotion of higher priority over one month.
+ * In com.bc.ecommerce.benchmark package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+final class BenchmarkData {
+
+  static final String BRAND_ID = "1";
+
+  static final int PRICES_PER_PRODUCT = 2;
+
+  private static final int BATCH_SIZE = 10_000;
+
+  private static final long SEED = 42L;
+
+  private static final Instant YEAR_START = Instant.parse("2020-01-01T00:00:00Z");
+
+  private static final Instant YEAR_END = Instant.parse("2020-12-31T23:59:59Z");
+
+  private static final String INSERT = "insert into public.prices (id, brand_id, product_id, price_list, "
+          + "start_date, end_date, price, currency, priority) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private BenchmarkData() {
+  }
+
+  /**
+   * The i-th price of the dataset.
+   *
+   * @param i The index.
+   * @return The entity.
+   */
+  static PricesDbo dbo(int i) {
+    int product = i / PRICES_PER_PRODUCT;
+    boolean promotion = i % PRICES_PER_PRODUCT == 1;
+    Instant start = promotion ? YEAR_START.plus(product % 330, ChronoUnit.DAYS) : YEAR_START;
+    PricesDbo dbo = new PricesDbo();
+    dbo.setId(new UUID(SEED, i).toString());
+    dbo.setBrandId(BRAND_ID);
+    dbo.setProductId(productId(product));
+    dbo.setPriceList(promotion ? 2 : 1);
+    dbo.setStartDate(start);
+    dbo.setEndDate(promotion ? start.plus(30, ChronoUnit.DAYS) : YEAR_END);
+    dbo.setPrice(BigDecimal.valueOf(promotion ? 2500 + product % 1000 : 3500 + product % 1000, 2));
+    dbo.setCurrency("EUR");
+    dbo.setPriority(promotion ? 1 : 0);
+    return dbo;
+  }
+
+  /**
+   * Inserts the given number of prices in batches.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param rows The number of prices.
+   */
+  static void seed(JdbcTemplate jdbcTemplate, int rows) {
+    jdbcTemplate.update("delete from public.prices");
+    List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < rows; i++) {
+      PricesDbo dbo = dbo(i);
+      batch.add(new Object[] {dbo.getId(), dbo.getBrandId(), dbo.getProductId(), dbo.getPriceList(),
+          Timestamp.from(dbo.getStartDate()), Timestamp.from(dbo.getEndDate()), dbo.getPrice(),
+          dbo.getCurrency(), dbo.getPriority()});
+      if (batch.size() == BATCH_SIZE) {
+        jdbcTemplate.batchUpdate(INSERT, batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+  }
+
+  /**
+   * Lookups over random seeded products along the year, hitting and missing their promotions.
+   *
+   * @param rows The number of prices seeded.
+   * @param size The number of criteria, a power of two.
+   * @return The criteria.
+   */
+  static PricesCriteria[] criteria(int rows, int size) {
+    Random random = new Random(SEED);
+    int products = Math.max(1, rows / PRICES_PER_PRODUCT);
+    PricesCriteria[] criteria = new PricesCriteria[size];
+    for (int i = 0; i < size; i++) {
+      criteria[i] = PricesCriteria.builder()
+              .brandId(BRAND_ID)
+              .productId(productId(random.nextInt(products)))
+              .issueDate(OffsetDateTime.ofInstant(YEAR_START.plus(random.nextInt(365), ChronoUnit.DAYS)
+                      .plus(random.nextInt(24), ChronoUnit.HOURS), ZoneOffset.UTC))
+              .build();
+    }
+    return criteria;
+  }
+
+  private static String productId(int product) {
+    return String.valueOf(30000 + product);
+  }
+
+}
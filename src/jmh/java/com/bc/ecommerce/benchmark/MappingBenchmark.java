@@ -0,0 +1,92 @@
+package com.bc.ecommerce.benchmark;
+
+import com.bc.ecommerce.application.mapper.DateUtilMapperImpl;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesDboMapper;
+import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesDboMapperImpl;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping benchmark class: the conversions of a price along the lookup.
+ * In com.bc.ecommerce.benchmark package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+  private AnnotationConfigApplicationContext context;
+
+  private PricesDboMapper dboMapper;
+
+  private PricesMapper dtoMapper;
+
+  private PricesDbo dbo;
+
+  private Prices prices;
+
+  /**
+   * Wires the generated mappers as the application does.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new AnnotationConfigApplicationContext(
+            DateUtilMapperImpl.class, PricesDboMapperImpl.class, PricesMapperImpl.class);
+    dboMapper = context.getBean(PricesDboMapper.class);
+    dtoMapper = context.getBean(PricesMapper.class);
+    dbo = BenchmarkData.dbo(0);
+    prices = dboMapper.map(dbo);
+  }
+
+  /**
+   * Closes the mappers context.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  /**
+   * Entity to domain.
+   *
+   * @return The domain price.
+   */
+  @Benchmark
+  public Prices dboToDomain() {
+    return dboMapper.map(dbo);
+  }
+
+  /**
+   * Domain to response.
+   *
+   * @return The response price.
+   */
+  @Benchmark
+  public PriceDto domainToDto() {
+    return dtoMapper.map(prices);
+  }
+
+}
@@ -0,0 +1,85 @@
+package com.bc.ecommerce.benchmark;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBuilder;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.DateIntervalFilter;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectByCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query builder benchmark class: the sql generation of the price lookup.
+ * In com.bc.ecommerce.benchmark package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBuilderBenchmark {
+
+  private final PricesCriteria criteria = PricesCriteria.builder()
+          .productId("35455")
+          .brandId("1")
+          .issueDate(OffsetDateTime.parse("2020-06-14T16:00:00.000Z"))
+          .build();
+
+  /**
+   * The select by criteria query built from scratch.
+   *
+   * @return The query.
+   */
+  @Benchmark
+  public CustomQuery selectByCriteriaBuild() {
+    return new SelectByCriteria().build(criteria);
+  }
+
+  /**
+   * The same sql generated directly with the custom query builder, without the filter composers.
+   *
+   * @return The sql.
+   */
+  @Benchmark
+  public String customQueryBuilderSql() {
+    DefaultCustomQueryBuilder sqlBuilder = new DefaultCustomQueryBuilder();
+    sqlBuilder.configureTableAlias(PricesTable.NAME, "p");
+    return sqlBuilder.select(new PricesDbo(), PricesTable.NAME)
+            .where(sqlBuilder.and(
+                    sqlBuilder.eq(PricesTable.PRODUCT_ID, criteria.getProductId()),
+                    sqlBuilder.eq(PricesTable.BRAND_ID, criteria.getBrandId()),
+                    sqlBuilder.parentheses(sqlBuilder.between(DateIntervalFilter.asParam(criteria.getIssueDate()),
+                            PricesTable.START_DATE, PricesTable.END_DATE))
+            )).sortBy(PricesTable.PRIORITY.getName())
+            .limit()
+            .compile()
+            .getSql();
+  }
+
+  /**
+   * The query as the repositories get it: the cached template of the criteria shape with its values bound.
+   *
+   * @return The query.
+   */
+  @Benchmark
+  public CustomQuery cachedTemplate() {
+    return QueryBuilder.retrieve(criteria);
+  }
+
+}
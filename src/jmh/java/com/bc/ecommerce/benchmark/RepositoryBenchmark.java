@@ -0,0 +1,109 @@
+package com.bc.ecommerce.benchmark;
+
+import com.bc.ecommerce.boot.spring.config.EcommerceRecorderSpringBootService;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.out.PricesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.IndexedPricesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.PricesTimelineMaterializer;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository benchmark class: the whole lookup of the configured adapter against an embedded H2
+ * seeded with the given number of prices.
+ * In com.bc.ecommerce.benchmark package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RepositoryBenchmark {
+
+  /**
+   * Number of prices seeded. Up to 10M: -p rows=10000000.
+   */
+  @Param({"1000", "100000"})
+  public int rows;
+
+  /**
+   * Prices repository adapter (ecommerce.prices.repository).
+   */
+  @Param({"sql", "jdbc", "memory", "timeline"})
+  public String repository;
+
+  private ConfigurableApplicationContext context;
+
+  private PricesRepository pricesRepository;
+
+  private PricesCriteria[] criteria;
+
+  private int next;
+
+  /**
+   * Starts the application without web server over an in-memory H2 migrated by flyway and seeds it. The adapters
+   * holding their own copy of the prices are reloaded after seeding.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    String url = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+    context = new SpringApplicationBuilder(EcommerceRecorderSpringBootService.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=" + url,
+                    "--spring.flyway.url=" + url,
+                    "--spring.flyway.schemas=PUBLIC",
+                    "--spring.jpa.hibernate.ddl-auto=none",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.com.bc.ecommerce=WARN",
+                    "--logging.level.org.springframework.web=WARN",
+                    "--ecommerce.prices.cache.enabled=false",
+                    "--ecommerce.prices.repository=" + repository);
+    BenchmarkData.seed(context.getBean(JdbcTemplate.class), rows);
+    context.getBeanProvider(IndexedPricesRepository.class).ifAvailable(IndexedPricesRepository::reload);
+    context.getBeanProvider(PricesTimelineMaterializer.class).ifAvailable(PricesTimelineMaterializer::rebuild);
+    pricesRepository = context.getBean(PricesRepository.class);
+    criteria = BenchmarkData.criteria(rows, 1024);
+  }
+
+  /**
+   * Stops the application, dropping the in-memory database.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.getBean(JdbcTemplate.class).execute("drop all objects");
+    context.close();
+  }
+
+  /**
+   * Resolves the price of a random seeded product.
+   *
+   * @return The price.
+   */
+  @Benchmark
+  public Prices lookup() {
+    next = (next + 1) & (criteria.length - 1);
+    return pricesRepository.pricesProjection(criteria[next]);
+  }
+
+}
@@ -0,0 +1,154 @@
+package com.bc.ecommerce.benchmark;
+
+import com.bc.ecommerce.boot.spring.config.EcommerceRecorderSpringBootService;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Web stack benchmark class: GET /price under concurrent load, served by the servlet stack (Tomcat, JDBC) on
+ * platform or on virtual threads, or by the reactive one (WebFlux on Netty, R2DBC), all over the same in-memory H2
+ * seeded with the given number of prices and without cache, so every request reaches the datastore. Coalescing,
+ * the stage timers, the slow query log and tracing are disabled too, since the reactive stack has none of them.
+ * The throughput gives the sustained requests per second and the sample time its percentiles (p0.99). The 128
+ * client threads run in the JVM of the server and compete with it for its cores, so the results compare the
+ * stacks with each other rather than give the capacity of a dedicated server.
+ * The reactive stack is only available when built with the reactive profile: -Pbenchmark,reactive
+ * -Djmh.options="WebStackBenchmark", and the virtual threads on JDK 21: -Pbenchmark,virtual-threads
+ * -Djmh.options="-p stack=servlet,virtual WebStackBenchmark".
+ * In com.bc.ecommerce.benchmark package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(128)
+@Fork(value = 1, jvmArgsAppend = "-Dnet.bytebuddy.experimental=true")
+public class WebStackBenchmark {
+
+  private static final String REACTIVE_APPLICATION =
+          "com.bc.ecommerce.boot.reactive.config.EcommerceReactiveSpringBootService";
+
+  /**
+   * Number of prices seeded.
+   */
+  @Param({"100000"})
+  public int rows;
+
+  /**
+   * Web stack: servlet (on the threads of Tomcat), virtual (servlet on virtual threads) or reactive.
+   */
+  @Param({"servlet", "reactive"})
+  public String stack;
+
+  private ConfigurableApplicationContext context;
+
+  private JdbcTemplate jdbcTemplate;
+
+  private HttpClient client;
+
+  private URI[] uris;
+
+  private final AtomicInteger next = new AtomicInteger();
+
+  /**
+   * Starts the application of the stack on a random port over an in-memory H2 migrated by flyway and seeds it,
+   * through a connection of its own since the reactive stack has no jdbc datasource.
+   *
+   * @throws ClassNotFoundException If the reactive stack is requested without the reactive profile.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws ClassNotFoundException {
+    boolean reactive = "reactive".equals(stack);
+    String url = "jdbc:h2:mem:webstack;DB_CLOSE_DELAY=-1";
+    SpringApplicationBuilder builder = reactive
+            ? new SpringApplicationBuilder(Class.forName(REACTIVE_APPLICATION)).web(WebApplicationType.REACTIVE)
+                    .profiles("reactive")
+            : new SpringApplicationBuilder(EcommerceRecorderSpringBootService.class).web(WebApplicationType.SERVLET);
+    context = builder.run("--spring.datasource.url=" + url,
+            "--spring.flyway.url=" + url,
+            "--spring.flyway.schemas=PUBLIC",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///webstack;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--spring.jpa.show-sql=false",
+            "--server.port=0",
+            "--management.server.port=-1",
+            "--logging.level.root=WARN",
+            "--logging.level.com.bc.ecommerce=WARN",
+            "--logging.level.org.springframework.web=WARN",
+            "--ecommerce.prices.cache.enabled=false",
+            "--ecommerce.prices.keys-filter.enabled=false",
+            "--ecommerce.prices.coalescing.enabled=false",
+            "--ecommerce.prices.stage-timers.enabled=false",
+            "--ecommerce.prices.slow-queries.enabled=false",
+            "--ecommerce.tracing.enabled=false",
+            "--ecommerce.prices.repository=jdbc",
+            "--ecommerce.virtual-threads.enabled=" + "virtual".equals(stack));
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    BenchmarkData.seed(jdbcTemplate, rows);
+    String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/price";
+    PricesCriteria[] criteria = BenchmarkData.criteria(rows, 1024);
+    uris = new URI[criteria.length];
+    for (int i = 0; i < criteria.length; i++) {
+      uris[i] = URI.create(String.format("%s?product_id=%s&brand_id=%s&issue_date=%s", base,
+              criteria[i].getProductId(), criteria[i].getBrandId(), criteria[i].getIssueDate().toInstant()));
+    }
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+  }
+
+  /**
+   * Stops the application, dropping the in-memory database.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbcTemplate.execute("drop all objects");
+    context.close();
+  }
+
+  /**
+   * Requests the price of a random seeded product.
+   *
+   * @return The status of the response.
+   * @throws IOException If the request fails.
+   * @throws InterruptedException If interrupted while waiting for the response.
+   */
+  @Benchmark
+  public int price() throws IOException, InterruptedException {
+    URI uri = uris[next.getAndIncrement() & (uris.length - 1)];
+    HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("X-B3-TraceId", "benchmark")
+            .header("Authorization", "benchmark")
+            .GET()
+            .build();
+    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+}
@@ -0,0 +1,175 @@
+package com.bc.ecommerce.application.async;
+
+import com.bc.ecommerce.application.exception.DeadlineExceededException;
+import com.bc.ecommerce.application.exception.LookupsSaturatedException;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import com.bc.ecommerce.application.tracing.Span;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * PricesLookupExecutor class. Runs the lookups that reach the datastore away from the request threads.
+ * In com.bc.ecommerce.application.async package.
+ * The pool has a fixed size, meant to match the connections of the datastore, and a bounded queue: a lookup
+ * that finds the queue full is rejected at once instead of waiting behind the others. Every lookup has a
+ * deadline from its submission; once it is exceeded its result completes with a
+ * {@link DeadlineExceededException}, and if it is still queued it is discarded without running.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesLookupExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final ScheduledThreadPoolExecutor deadlines;
+
+    private final Duration deadline;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder expired = new LongAdder();
+
+    /**
+     * Creates the executor.
+     *
+     * @param poolSize Number of threads running lookups.
+     * @param queueCapacity Number of lookups waiting for a thread before new ones are rejected.
+     * @param deadline Time from the submission of a lookup to its result.
+     */
+    public PricesLookupExecutor(int poolSize, int queueCapacity, Duration deadline) {
+        this(poolSize, queueCapacity, deadline, threads("prices-lookup-"));
+    }
+
+    /**
+     * Creates the executor running the lookups on the threads of the given factory, such as virtual threads.
+     * The pool size still bounds the lookups running at once.
+     *
+     * @param poolSize Number of threads running lookups.
+     * @param queueCapacity Number of lookups waiting for a thread before new ones are rejected.
+     * @param deadline Time from the submission of a lookup to its result.
+     * @param threadFactory Factory of the threads running lookups.
+     */
+    public PricesLookupExecutor(int poolSize, int queueCapacity, Duration deadline, ThreadFactory threadFactory) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+        this.deadlines = new ScheduledThreadPoolExecutor(1, threads("prices-lookup-deadline-"));
+        this.deadlines.setRemoveOnCancelPolicy(true);
+        this.deadline = deadline;
+    }
+
+    /**
+     * Submits the lookup. The span of the caller, if any, is carried along to the thread running it. The lookup
+     * is timed on a fork of the stage timings of the caller, if any, merged back into them once it is done: the
+     * caller may stop its timings as soon as the deadline is exceeded, while the lookup is still running.
+     *
+     * @param lookup The lookup.
+     * @param <T> The type of its result.
+     * @return The result, completed exceptionally with {@link DeadlineExceededException} if the deadline is
+     *     exceeded first.
+     * @throws LookupsSaturatedException if the queue is full.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> lookup) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        PriceStageTimings timings = PriceStageTimings.current();
+        Span span = Span.current();
+        try {
+            executor.execute(() -> {
+                if (result.isDone()) {
+                    expired.increment();
+                    return;
+                }
+                PriceStageTimings part = timings != null ? timings.fork() : null;
+                PriceStageTimings previous = PriceStageTimings.attach(part);
+                Span previousSpan = Span.attach(span);
+                try {
+                    T value = lookup.get();
+                    merge(timings, part);
+                    result.complete(value);
+                } catch (RuntimeException e) {
+                    merge(timings, part);
+                    result.completeExceptionally(e);
+                } finally {
+                    PriceStageTimings.attach(previous);
+                    Span.attach(previousSpan);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LookupsSaturatedException(executor.getQueue().size() + " queued", deadline, e);
+        }
+        ScheduledFuture<?> timeout = deadlines.schedule(
+                () -> result.completeExceptionally(new DeadlineExceededException(deadline.toMillis() + " ms")),
+                deadline.toNanos(), TimeUnit.NANOSECONDS);
+        result.whenComplete((value, e) -> timeout.cancel(false));
+        return result;
+    }
+
+    /**
+     * Number of lookups rejected because the queue was full.
+     *
+     * @return The rejected lookups.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Number of lookups discarded because their deadline was exceeded while queued.
+     *
+     * @return The expired lookups.
+     */
+    public long getExpired() {
+        return expired.sum();
+    }
+
+    /**
+     * The underlying pool, for its metrics.
+     *
+     * @return The pool.
+     */
+    public ThreadPoolExecutor getNativeExecutor() {
+        return executor;
+    }
+
+    /**
+     * Stops accepting lookups. The ones already submitted are run.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        deadlines.shutdown();
+    }
+
+    /**
+     * Merges the timings of a lookup into the ones of its caller, before its result is completed and the caller
+     * records them.
+     *
+     * @param timings The timings of the caller, null if none.
+     * @param part The timings of the lookup, null if none.
+     */
+    private static void merge(PriceStageTimings timings, PriceStageTimings part) {
+        if (timings != null) {
+            timings.merge(part);
+        }
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
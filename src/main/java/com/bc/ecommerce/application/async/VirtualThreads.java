@@ -0,0 +1,68 @@
+package com.bc.ecommerce.application.async;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * VirtualThreads class. Factories of virtual threads, available from JDK 21.
+ * In com.bc.ecommerce.application.async package.
+ * The application is compiled for JDK 11, so the virtual threads API is reached by reflection, once.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether the running JDK has virtual threads.
+     *
+     * @return True from JDK 21.
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Factory of virtual threads named prefix + N, from 1.
+     *
+     * @param prefix The prefix of the names.
+     * @return The factory.
+     * @throws IllegalStateException if the running JDK has no virtual threads.
+     */
+    public static ThreadFactory factory(String prefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads need JDK 21 or later, running " + Runtime.version());
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available", e);
+        }
+    }
+
+    /**
+     * Executor starting a new virtual thread, named prefix + N, per task.
+     *
+     * @param prefix The prefix of the names.
+     * @return The executor.
+     * @throws IllegalStateException if the running JDK has no virtual threads.
+     */
+    public static ExecutorService executor(String prefix) {
+        ThreadFactory factory = factory(prefix);
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available", e);
+        }
+    }
+
+}
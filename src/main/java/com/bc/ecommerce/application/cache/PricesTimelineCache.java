@@ -0,0 +1,157 @@
+package com.bc.ecommerce.application.cache;
+
+import com.bc.ecommerce.application.coalescing.SingleFlight;
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PricesChangedEvent;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * PricesTimelineCache class. Bounded cache of the resolved prices timelines.
+ * In com.bc.ecommerce.application.cache package.
+ * Every brand and product is cached as its {@link PricesTimeline}: the validity windows of
+ * its prices, so any issue date is resolved from the cached entry whatever its exact timestamp.
+ * Entries are evicted by size and by time since written, and invalidated on every {@link PricesChangedEvent}.
+ * Those events are only published by this instance, so the prices written by other instances, by sql or by
+ * migrations are only seen once the entry expires.
+ * Concurrent misses of the same brand and product share one load, and only the caller running it caches its
+ * result: a caller joining a load that started before an invalidation must not cache it as if it were fresh.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+public class PricesTimelineCache {
+
+    private final Cache<PricesKey, PricesTimeline> cache;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final SingleFlight<PricesKey, PricesTimeline> loads = new SingleFlight<>();
+
+    /**
+     * Creates a prices timeline cache.
+     *
+     * @param maximumSize Maximum number of brands and products cached.
+     * @param expireAfterWrite Time an entry is served since it was loaded.
+     */
+    public PricesTimelineCache(long maximumSize, Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The cached timeline of the brand and product.
+     * There is no loader on purpose: the datastore is never queried while holding a cache lock.
+     *
+     * @param key The brand and product.
+     * @return The timeline, or null if it is not cached.
+     */
+    public PricesTimeline get(PricesKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Loads the timeline of the brand and product and caches it, see {@link #put}. A caller arriving while
+     * the same brand and product is being loaded waits for that load and gets its result, but does not cache it.
+     *
+     * @param key The brand and product.
+     * @param loader Loads the timeline from the datastore.
+     * @return The timeline.
+     */
+    public PricesTimeline load(PricesKey key, Function<PricesKey, PricesTimeline> loader) {
+        return loads.execute(key, () -> {
+            long stamp = stamp();
+            PricesTimeline timeline = loader.apply(key);
+            put(key, timeline, stamp);
+            return timeline;
+        });
+    }
+
+    /**
+     * Stamp to take before loading a timeline from the datastore, see {@link #put}.
+     *
+     * @return The current stamp.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Caches the timeline of the brand and product, unless there has been any invalidation since
+     * the stamp was taken: the timeline could have been loaded before the change and it would be
+     * served stale until it expires.
+     *
+     * @param key The brand and product.
+     * @param timeline The timeline.
+     * @param stamp The stamp taken before loading the timeline.
+     */
+    public void put(PricesKey key, PricesTimeline timeline, long stamp) {
+        cache.put(key, timeline);
+        if (invalidations.get() != stamp) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Discards the timeline of the brand and product.
+     *
+     * @param key The brand and product.
+     */
+    public void invalidate(PricesKey key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    /**
+     * Discards every cached timeline.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Discards the timeline of the brand and product whose prices have changed. It runs after every other
+     * listener, once the repository adapters have rebuilt their own structures from the datastore: a miss
+     * reloading the timeline before that would cache the previous one.
+     *
+     * @param event The change event.
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        log.debug("Prices changed, invalidating {}.", event.getKey());
+        invalidate(event.getKey());
+    }
+
+    /**
+     * The underlying cache, for binding its statistics.
+     *
+     * @return The cache.
+     */
+    public Cache<PricesKey, PricesTimeline> getNativeCache() {
+        return cache;
+    }
+
+    /**
+     * The loads in flight, for binding their statistics.
+     *
+     * @return The single flight of the loads.
+     */
+    public SingleFlight<PricesKey, PricesTimeline> getLoads() {
+        return loads;
+    }
+
+}
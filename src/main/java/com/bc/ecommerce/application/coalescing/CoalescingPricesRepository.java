@@ -0,0 +1,111 @@
+package com.bc.ecommerce.application.coalescing;
+
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.PricesRepository;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import lombok.Getter;
+import lombok.Value;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * CoalescingPricesRepository class. Prices repository decorator sharing one datastore execution between
+ * the concurrent identical lookups.
+ * In com.bc.ecommerce.application.coalescing package.
+ * A lookup is identified by its brand, product and issue instant (whatever the offset it was requested
+ * with) and a timeline by its brand and product. A caller joining a lookup in flight may get the prices
+ * as they were when the lookup started, at most one query earlier than its own would have.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Getter
+public class CoalescingPricesRepository implements PricesRepository {
+
+    private final PricesRepository delegate;
+
+    private final SingleFlight<LookupKey, Prices> lookups = new SingleFlight<>();
+
+    private final SingleFlight<PricesKey, PricesTimeline> timelines = new SingleFlight<>();
+
+    /**
+     * Creates the decorator.
+     *
+     * @param delegate The prices repository adapter.
+     */
+    public CoalescingPricesRepository(PricesRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Prices pricesProjection(PricesCriteria criteria) {
+        return lookups.execute(LookupKey.of(criteria), () -> delegate.pricesProjection(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     * A batch is already a single query, so it is not coalesced.
+     */
+    @Override
+    public List<Prices> pricesProjections(List<PricesCriteria> criteria) {
+        return delegate.pricesProjections(criteria);
+    }
+
+    /**
+     * {@inheritDoc}
+     * A batch is already a single query, so it is not coalesced.
+     */
+    @Override
+    public List<Optional<PriceSegment>> segmentProjections(List<PricesCriteria> criteria) {
+        return delegate.segmentProjections(criteria);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The segments are streamed to a single consumer, so they are not coalesced.
+     */
+    @Override
+    public void segmentsProjection(PricesRangeCriteria criteria, Consumer<PriceSegment> consumer) {
+        delegate.segmentsProjection(criteria, consumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The loads into the cache are already coalesced by
+     * {@link com.bc.ecommerce.application.cache.PricesTimelineCache#load}, along with the stamp they are cached
+     * with; the ones coalesced here are the segment lookups without cache.
+     */
+    @Override
+    public PricesTimeline timelineProjection(PricesKey key) {
+        return timelines.execute(key, () -> delegate.timelineProjection(key));
+    }
+
+    /**
+     * Normalized key of a lookup.
+     */
+    @Value(staticConstructor = "of")
+    static class LookupKey {
+
+        String brandId;
+
+        String productId;
+
+        Instant issueDate;
+
+        static LookupKey of(PricesCriteria criteria) {
+            return of(criteria.getBrandId(), criteria.getProductId(),
+                    criteria.getIssueDate() != null ? criteria.getIssueDate().toInstant() : null);
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.bc.ecommerce.application.coalescing;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight class. Coalesces concurrent executions of the same key.
+ * In com.bc.ecommerce.application.coalescing package.
+ * The first caller of a key (the leader) runs the loader; every caller arriving while it is in flight
+ * waits for it and gets the same result, or the same exception. Nothing is kept once the flight lands:
+ * the next caller runs the loader again.
+ *
+ * @param <K> The key type, with value equality.
+ * @param <V> The result type. The result is shared between the callers, so it must not be modified.
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the loader, or joins the execution already in flight for the same key.
+     *
+     * @param key The key.
+     * @param loader The loader.
+     * @return The result of the loader.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            return join(leader);
+        }
+        executions.increment();
+        try {
+            V result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Number of times the loader has run.
+     *
+     * @return The executions.
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Number of callers that joined an execution in flight instead of running the loader.
+     *
+     * @return The coalesced callers.
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Number of keys in flight.
+     *
+     * @return The keys in flight.
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Waits for the leader, throwing its own exception if it failed.
+     *
+     * @param leader The execution in flight.
+     * @return The result.
+     */
+    private V join(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.bc.ecommerce.application.exception;
+
+/**
+ * Deadline exceeded exception.
+ */
+public class DeadlineExceededException extends ApiErrorException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a DeadlineExceededException.
+   * @param field The deadline.
+   */
+  public DeadlineExceededException(String field) {
+    super(ErrorCode.DEADLINE_EXCEEDED, field, null);
+  }
+
+}
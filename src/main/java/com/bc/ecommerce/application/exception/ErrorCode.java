@@ -34,6 +34,30 @@ public enum ErrorCode {
           ErrorLevel.FATAL,
           "Invalid request header",
           "Invalid request header: %s"),
+  INVALID_IMPORT_CONTENT(
+          "01400004",
+          HttpStatus.BAD_REQUEST,
+          ErrorLevel.FATAL,
+          "Invalid import content",
+          "Invalid prices import content: %s"),
+  INVALID_REQUEST_PARAMETER(
+          "01400005",
+          HttpStatus.BAD_REQUEST,
+          ErrorLevel.FATAL,
+          "Invalid request parameter",
+          "Invalid request parameter: %s"),
+  LOOKUPS_SATURATED(
+          "01503001",
+          HttpStatus.SERVICE_UNAVAILABLE,
+          ErrorLevel.FATAL,
+          "Service is unavailable",
+          "Too many price lookups in progress: %s"),
+  DEADLINE_EXCEEDED(
+          "01504001",
+          HttpStatus.GATEWAY_TIMEOUT,
+          ErrorLevel.FATAL,
+          "Deadline exceeded",
+          "The price lookup did not finish in time: %s"),
   FORMATTER_ERROR(
           "02500001",
           HttpStatus.INTERNAL_SERVER_ERROR,
@@ -0,0 +1,28 @@
+package com.bc.ecommerce.application.exception;
+
+/**
+ * Invalid import exception.
+ */
+public class InvalidImportException extends ApiErrorException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates an InvalidImportException.
+   * @param field The invalid content.
+   * @param cause The error.
+   */
+  public InvalidImportException(String field, Throwable cause) {
+    super(ErrorCode.INVALID_IMPORT_CONTENT, field, cause);
+  }
+
+  /**
+   * Creates an InvalidImportException.
+   *
+   * @param field The invalid content.
+   */
+  public InvalidImportException(String field) {
+    this(field, null);
+  }
+
+}
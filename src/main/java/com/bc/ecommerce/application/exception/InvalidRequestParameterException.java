@@ -0,0 +1,18 @@
+package com.bc.ecommerce.application.exception;
+
+/**
+ * Invalid request parameter exception.
+ */
+public class InvalidRequestParameterException extends ApiErrorException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates an InvalidRequestParameterException.
+   * @param field The invalid parameter.
+   */
+  public InvalidRequestParameterException(String field) {
+    super(ErrorCode.INVALID_REQUEST_PARAMETER, field, null);
+  }
+
+}
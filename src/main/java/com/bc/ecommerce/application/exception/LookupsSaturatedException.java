@@ -0,0 +1,36 @@
+package com.bc.ecommerce.application.exception;
+
+import lombok.Getter;
+import java.time.Duration;
+
+/**
+ * Lookups saturated exception.
+ */
+@Getter
+public class LookupsSaturatedException extends ApiErrorException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Duration retryAfter;
+
+  /**
+   * Creates a LookupsSaturatedException.
+   * @param field The saturated resource.
+   * @param retryAfter The time after which the lookups in progress are done.
+   * @param cause The rejection.
+   */
+  public LookupsSaturatedException(String field, Duration retryAfter, Throwable cause) {
+    super(ErrorCode.LOOKUPS_SATURATED, field, cause);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * The seconds the client should wait before retrying, rounded up.
+   *
+   * @return The delay in seconds, at least one.
+   */
+  public long getRetryAfterSeconds() {
+    return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+  }
+
+}
@@ -0,0 +1,105 @@
+package com.bc.ecommerce.application.filter;
+
+import lombok.Getter;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BloomFilter class. Probabilistic set of 64 bits hashes.
+ * In com.bc.ecommerce.application.filter package.
+ * {@link #mightContain} never answers false for a hash that was put, and answers true for a hash that
+ * was not with the false positive rate the filter was sized for, as long as no more hashes than expected
+ * are put. The bits are set atomically, so puts and reads can run concurrently.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Getter
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private final AtomicLongArray bits;
+
+    /**
+     * Creates an empty filter sized for the given insertions and false positive rate.
+     *
+     * @param expectedInsertions The number of hashes expected.
+     * @param falsePositiveRate The false positive rate, between 0 and 1 (exclusive).
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE));
+        this.bitCount = (long) bits.length() * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Adds the hash to the filter.
+     *
+     * @param hash The hash.
+     */
+    public void put(long hash) {
+        long h1 = mix(hash);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * Whether the hash might have been added to the filter.
+     *
+     * @param hash The hash.
+     * @return False if the hash has never been put, true if it might have been.
+     */
+    public boolean mightContain(long hash) {
+        long h1 = mix(hash);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spreads the bits of the hash (the murmur3 64 bits finalizer).
+     *
+     * @param hash The hash.
+     * @return The mixed hash.
+     */
+    private static long mix(long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
@@ -0,0 +1,289 @@
+package com.bc.ecommerce.application.filter;
+
+import com.bc.ecommerce.domain.operational.PricesChangedEvent;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.PricesKeysRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PricesKeysFilter class. Bloom filter over the brands and products having any price.
+ * In com.bc.ecommerce.application.filter package.
+ * A lookup of a brand and product the filter has never seen has no price for sure and is answered
+ * without reaching the datastore. The filter is built at startup from the prices relation and every
+ * brand and product of a {@link PricesChangedEvent} is added to it. Those events are only published by this
+ * instance, so the prices written by other instances, by sql or by migrations are only seen once the filter
+ * is rebuilt, every refresh: until then their lookups are answered with no price. A rebuild also drops the
+ * keys of the deleted prices. Until it is built, or if it can not be, every key might exist.
+ * It is guarded by locks instead of monitors so a virtual thread waiting for them does not pin its carrier thread.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+public class PricesKeysFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final PricesKeysRepository repository;
+
+    private final long expectedKeys;
+
+    private final double falsePositiveRate;
+
+    private final Duration refresh;
+
+    private final ScheduledExecutorService refresher;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder shortCircuited = new LongAdder();
+
+    private volatile BloomFilter filter;
+
+    /**
+     * Keys changed while a rebuild is reading the relation, guarded by lock.
+     */
+    private List<PricesKey> pending;
+
+    /**
+     * Approximate number of keys in the filter, guarded by lock.
+     */
+    private long keys;
+
+    /**
+     * Creates the filter, empty until {@link #rebuild()}, never rebuilt on its own.
+     *
+     * @param repository Prices keys repository out port.
+     * @param expectedKeys Minimum number of keys the filter is sized for.
+     * @param falsePositiveRate Rate of unknown keys that are not short-circuited.
+     */
+    public PricesKeysFilter(PricesKeysRepository repository, long expectedKeys, double falsePositiveRate) {
+        this(repository, expectedKeys, falsePositiveRate, Duration.ZERO);
+    }
+
+    /**
+     * Creates the filter, empty until {@link #start()}.
+     *
+     * @param repository Prices keys repository out port.
+     * @param expectedKeys Minimum number of keys the filter is sized for.
+     * @param falsePositiveRate Rate of unknown keys that are not short-circuited.
+     * @param refresh Time between rebuilds, zero to never rebuild it on its own.
+     */
+    public PricesKeysFilter(PricesKeysRepository repository, long expectedKeys, double falsePositiveRate,
+                            Duration refresh) {
+        this.repository = repository;
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refresh = refresh;
+        this.refresher = refresh.isZero() || refresh.isNegative() ? null
+                : Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "prices-keys-filter-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Whether the brand and product might have any price. Counts the keys that have not.
+     *
+     * @param key The brand and product.
+     * @return False if they have no price for sure.
+     */
+    public boolean mightExist(PricesKey key) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(hash(key))) {
+            return true;
+        }
+        shortCircuited.increment();
+        return false;
+    }
+
+    /**
+     * Builds the filter and schedules its rebuild every refresh.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        if (refresher != null) {
+            long period = refresh.toMillis();
+            refresher.scheduleWithFixedDelay(this::rebuild, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops rebuilding the filter.
+     */
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Builds the filter from the prices relation, sized for twice the keys found (and no less than the
+     * expected keys) so it absorbs new ones. The keys changed meanwhile are added once it is built.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                long[] hashes = load();
+                BloomFilter fresh = new BloomFilter(Math.max(expectedKeys, hashes.length * 2L), falsePositiveRate);
+                for (long hash : hashes) {
+                    fresh.put(hash);
+                }
+                lock.lock();
+                try {
+                    pending.forEach(key -> fresh.put(hash(key)));
+                    keys = hashes.length + (long) pending.size();
+                    filter = fresh;
+                } finally {
+                    lock.unlock();
+                }
+                log.info("Prices keys filter built with {} keys, {} bits and {} hashes.", hashes.length,
+                        fresh.getBitCount(), fresh.getHashCount());
+            } catch (RuntimeException e) {
+                log.warn("Prices keys filter could not be built, every key is looked up.", e);
+            } finally {
+                lock.lock();
+                try {
+                    pending = null;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the brand and product whose prices have changed. When the filter holds more keys than it was
+     * sized for, its false positive rate degrades, so it is rebuilt.
+     *
+     * @param event The change event.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        long hash = hash(event.getKey());
+        boolean full = false;
+        lock.lock();
+        try {
+            if (pending != null) {
+                pending.add(event.getKey());
+            }
+            BloomFilter current = filter;
+            if (current != null && !current.mightContain(hash)) {
+                current.put(hash);
+                full = ++keys > current.getExpectedInsertions();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full) {
+            log.info("Prices keys filter full, rebuilding.");
+            rebuild();
+        }
+    }
+
+    /**
+     * Number of lookups answered without reaching the datastore.
+     *
+     * @return The short-circuited lookups.
+     */
+    public long getShortCircuited() {
+        return shortCircuited.sum();
+    }
+
+    /**
+     * Approximate number of keys in the filter.
+     *
+     * @return The keys.
+     */
+    public long getKeys() {
+        lock.lock();
+        try {
+            return keys;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * False positive rate expected with the keys currently in the filter: (1 - e^(-k * n / m))^k.
+     *
+     * @return The expected false positive rate, 1 until the filter is built.
+     */
+    public double getExpectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        if (current == null) {
+            return 1;
+        }
+        int hashes = current.getHashCount();
+        return Math.pow(1 - Math.exp(-hashes * (double) getKeys() / current.getBitCount()), hashes);
+    }
+
+    /**
+     * Reads the hashes of every brand and product of the prices relation.
+     *
+     * @return The hashes.
+     */
+    private long[] load() {
+        long[][] hashes = {new long[1024]};
+        int[] size = {0};
+        repository.keysProjection(key -> {
+            if (size[0] == hashes[0].length) {
+                hashes[0] = Arrays.copyOf(hashes[0], size[0] * 2);
+            }
+            hashes[0][size[0]++] = hash(key);
+        });
+        return Arrays.copyOf(hashes[0], size[0]);
+    }
+
+    /**
+     * 64 bits FNV-1a hash of the brand and product.
+     *
+     * @param key The brand and product.
+     * @return The hash.
+     */
+    static long hash(PricesKey key) {
+        long hash = hash(FNV_OFFSET_BASIS, key.getBrandId());
+        hash = (hash ^ 0xff) * FNV_PRIME;
+        return hash(hash, key.getProductId());
+    }
+
+    private static long hash(long seed, String value) {
+        long hash = seed;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+}
@@ -2,6 +2,7 @@ package com.bc.ecommerce.application.handler;
 
 import com.bc.ecommerce.application.exception.ApiErrorException;
 import com.bc.ecommerce.application.exception.HeaderMissingException;
+import com.bc.ecommerce.application.exception.LookupsSaturatedException;
 import com.bc.ecommerce.application.exception.UnhandledException;
 import com.bc.ecommerce.application.mapper.ApiErrorMapper;
 import com.bc.ecommerce.infrastructure.rest.spring.dto.ErrorDto;
@@ -9,6 +10,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingRequestHeaderException;
@@ -51,6 +53,23 @@ public class ErrorHandler {
     return handleApiError(new HeaderMissingException(e.getHeaderName(), e));
   }
 
+  /**
+   * Handles the lookups rejected because too many are in progress, telling the client when to retry them.
+   *
+   * @param e The lookups saturated exception.
+   * @return The api response.
+   */
+  @ExceptionHandler(value = LookupsSaturatedException.class)
+  public ResponseEntity<ErrorDto> handleApiError(LookupsSaturatedException e) {
+    ErrorDto resp = apiErrorMapper.toApiErrorDto(e);
+    log.error("Handling exception. Response: {}, error: ",resp, e);
+    return ResponseEntity
+            .status(e.getHttpStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(resp);
+  }
+
   /**
    * Handles ApiError exceptions.
    *
@@ -0,0 +1,133 @@
+package com.bc.ecommerce.application.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PriceLookupEvent class. Flight recorder event of a price lookup of the use case: its brand and product, how
+ * the cache served it and the rows it read from the datastore.
+ * In com.bc.ecommerce.application.jfr package.
+ * Disabled unless a recording enables it, see {@link PricesFlightRecorder}: until then a lookup only costs the
+ * check of its enabled flag. The lookup in progress is bound to the thread running it, so the cache outcome and
+ * the rows scanned are reported from wherever they are known; rows read on another thread, as by a lookup that
+ * joined another one's execution, are not counted.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Name(PriceLookupEvent.NAME)
+@Label("Price Lookup")
+@Category({"Ecommerce", "Prices"})
+@Description("A price lookup, from its criteria to its price")
+@Enabled(false)
+@StackTrace(false)
+public class PriceLookupEvent extends Event implements AutoCloseable {
+
+    public static final String NAME = "com.bc.ecommerce.PriceLookup";
+
+    /**
+     * Served from the cached timeline.
+     */
+    public static final String HIT = "hit";
+
+    /**
+     * Timeline loaded from the datastore into the cache.
+     */
+    public static final String MISS = "miss";
+
+    /**
+     * Resolved by the datastore without the cache: disabled, or incomplete criteria.
+     */
+    public static final String BYPASS = "bypass";
+
+    /**
+     * Resolved as no price by the keys filter, without the cache nor the datastore.
+     */
+    public static final String FILTERED = "filtered";
+
+    private static final ThreadLocal<PriceLookupEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Brand")
+    private String brandId;
+
+    @Label("Product")
+    private String productId;
+
+    @Label("Cache")
+    @Description("hit, miss, bypass or filtered")
+    private String cache = BYPASS;
+
+    @Label("Rows Scanned")
+    @Description("Rows read from the datastore by the lookup")
+    private long rowsScanned;
+
+    private transient boolean started;
+
+    private transient PriceLookupEvent enclosing;
+
+    /**
+     * Starts the event of a lookup, if enabled, and binds it to the current thread until closed.
+     *
+     * @param brandId The brand.
+     * @param productId The product.
+     * @return The event.
+     */
+    public static PriceLookupEvent start(String brandId, String productId) {
+        PriceLookupEvent event = new PriceLookupEvent();
+        if (event.isEnabled()) {
+            event.brandId = brandId;
+            event.productId = productId;
+            event.enclosing = CURRENT.get();
+            event.started = true;
+            CURRENT.set(event);
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Reports how the cache served the lookup bound to the current thread, if any.
+     *
+     * @param outcome {@link #HIT}, {@link #MISS}, {@link #BYPASS} or {@link #FILTERED}.
+     */
+    public static void cache(String outcome) {
+        PriceLookupEvent event = CURRENT.get();
+        if (event != null) {
+            event.cache = outcome;
+        }
+    }
+
+    /**
+     * Adds rows read from the datastore to the lookup bound to the current thread, if any.
+     *
+     * @param rows The rows read.
+     */
+    public static void scanned(long rows) {
+        PriceLookupEvent event = CURRENT.get();
+        if (event != null) {
+            event.rowsScanned += rows;
+        }
+    }
+
+    /**
+     * Ends the lookup, committing its event and binding the enclosing one again.
+     */
+    @Override
+    public void close() {
+        if (!started) {
+            return;
+        }
+        if (enclosing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(enclosing);
+        }
+        commit();
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.bc.ecommerce.application.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PricesFlightRecorder class. Runs the on-demand flight recording of the application: a recording with one of
+ * the settings of the JDK (default or profile) plus the price lookup, sql build and sql execution events, which
+ * are disabled otherwise. Only one runs at a time, and it keeps the events of the last max age. The environment
+ * variables and system properties are never recorded, since they hold the credentials of the datastore.
+ * In com.bc.ecommerce.application.jfr package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+public class PricesFlightRecorder {
+
+    public static final List<Class<? extends Event>> EVENTS =
+            List.of(PriceLookupEvent.class, SqlBuildEvent.class, SqlExecutionEvent.class);
+
+    /**
+     * Events of the JDK settings never recorded.
+     */
+    public static final List<String> SECRET_EVENTS = List.of("jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty");
+
+    private static final String NAME = "ecommerce-prices";
+
+    private final String configuration;
+
+    private final Duration maxAge;
+
+    private final Lock lock = new ReentrantLock();
+
+    private Recording recording;
+
+    /**
+     * Creates the recorder.
+     *
+     * @param configuration The settings of the JDK recordings start with by default: default or profile.
+     * @param maxAge The age of the oldest events kept by default.
+     */
+    public PricesFlightRecorder(String configuration, Duration maxAge) {
+        this.configuration = configuration;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Starts the recording, unless it is already running.
+     *
+     * @param configuration The settings of the JDK it starts with, null for the default ones.
+     * @param maxAge The age of the oldest events kept, null for the default one.
+     * @return The status of the recording running.
+     * @throws IllegalArgumentException if the settings do not exist.
+     */
+    public RecordingStatus start(String configuration, Duration maxAge) {
+        String settings = configuration == null ? this.configuration : configuration;
+        lock.lock();
+        try {
+            if (recording != null) {
+                return status(recording);
+            }
+            Recording started = new Recording(Configuration.getConfiguration(settings));
+            started.setName(NAME);
+            started.setMaxAge(maxAge == null ? this.maxAge : maxAge);
+            started.setToDisk(true);
+            EVENTS.forEach(event -> started.enable(event).withoutStackTrace());
+            SECRET_EVENTS.forEach(started::disable);
+            started.start();
+            log.info("Flight recording {} started with the {} settings", started.getId(), settings);
+            recording = started;
+            return status(started);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Settings " + settings + " not available: " + e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Dumps the events recorded so far to a temporary file. The recording goes on.
+     *
+     * @return The file, to be deleted by the caller, null if no recording is running.
+     * @throws IOException if the file can not be written.
+     */
+    public Path dump() throws IOException {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return null;
+            }
+            Path file = Files.createTempFile(NAME + "-", ".jfr");
+            try {
+                recording.dump(file);
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return file;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the recording and discards its events.
+     *
+     * @return Whether a recording was running.
+     */
+    public boolean stop() {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return false;
+            }
+            recording.close();
+            log.info("Flight recording {} stopped", recording.getId());
+            recording = null;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the recording, if running.
+     */
+    public void shutdown() {
+        stop();
+    }
+
+    private static RecordingStatus status(Recording recording) {
+        return new RecordingStatus(recording.getId(), recording.getState(), recording.getStartTime(),
+                recording.getMaxAge().toSeconds());
+    }
+
+    /**
+     * Status of a recording.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RecordingStatus {
+
+        private final long id;
+
+        private final RecordingState state;
+
+        private final Instant startTime;
+
+        /**
+         * Age in seconds of the oldest events kept.
+         */
+        private final long maxAgeSeconds;
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.bc.ecommerce.application.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SqlBuildEvent class. Flight recorder event of building a query: assembling it for its criteria, or compiling
+ * a custom query into a sql template.
+ * In com.bc.ecommerce.application.jfr package.
+ * Disabled unless a recording enables it, see {@link PricesFlightRecorder}.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Name(SqlBuildEvent.NAME)
+@Label("SQL Build")
+@Category({"Ecommerce", "SQL"})
+@Description("A query built for its criteria or compiled into a sql template")
+@Enabled(false)
+@StackTrace(false)
+public class SqlBuildEvent extends Event {
+
+    public static final String NAME = "com.bc.ecommerce.SqlBuild";
+
+    @Label("Query")
+    @Description("The query built, or compile for a custom query compiled")
+    private String query;
+
+    @Label("SQL")
+    @Description("The sql sentence with positional params, if already known")
+    private String sql;
+
+    @Label("Params")
+    private int params;
+
+    /**
+     * Starts the event.
+     *
+     * @return The event.
+     */
+    public static SqlBuildEvent start() {
+        SqlBuildEvent event = new SqlBuildEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event, if enabled.
+     *
+     * @param query The query built.
+     * @param sql The sql sentence, null if not known yet.
+     * @param params The number of positional params.
+     */
+    public void finish(String query, String sql, int params) {
+        if (shouldCommit()) {
+            this.query = query;
+            this.sql = sql;
+            this.params = params;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.bc.ecommerce.application.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SqlExecutionEvent class. Flight recorder event of a query executed by the datastore, from the statement
+ * prepared to the rows read.
+ * In com.bc.ecommerce.application.jfr package.
+ * Disabled unless a recording enables it, see {@link PricesFlightRecorder}.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Name(SqlExecutionEvent.NAME)
+@Label("SQL Execution")
+@Category({"Ecommerce", "SQL"})
+@Description("A query executed by the datastore")
+@Enabled(false)
+@StackTrace(false)
+public class SqlExecutionEvent extends Event {
+
+    public static final String NAME = "com.bc.ecommerce.SqlExecution";
+
+    @Label("SQL")
+    @Description("The sql sentence with positional params")
+    private String sql;
+
+    @Label("Rows")
+    @Description("Rows read, -1 if streamed to the caller or failed")
+    private long rows;
+
+    /**
+     * Starts the event.
+     *
+     * @return The event.
+     */
+    public static SqlExecutionEvent start() {
+        SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event, if enabled.
+     *
+     * @param sql The sql sentence.
+     * @param rows The rows read, -1 if not known.
+     */
+    public void finish(String sql, long rows) {
+        if (shouldCommit()) {
+            this.sql = sql;
+            this.rows = rows;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.bc.ecommerce.application.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * PriceStage enum. Stages the time of a price lookup is split into, see {@link PriceStageTimings}.
+ * In com.bc.ecommerce.application.metrics package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Getter
+@AllArgsConstructor
+public enum PriceStage {
+
+    /**
+     * Anything else: the controller, the use case, the cache, the keys filter, the coalescing and the queue of
+     * the lookup executor.
+     */
+    APPLICATION("application"),
+
+    /**
+     * Generation of the sql sentence and binding of its params.
+     */
+    SQL_BUILD("sql.build"),
+
+    /**
+     * Acquisition of a connection from the pool.
+     */
+    CONNECTION("connection"),
+
+    /**
+     * Execution of the statement by the datastore.
+     */
+    QUERY("query"),
+
+    /**
+     * The rest of a query: preparing the statement and reading its rows into objects (entities with JPA).
+     */
+    HYDRATION("hydration"),
+
+    /**
+     * Mapstruct mapping between entities, domain and dtos.
+     */
+    MAPPING("mapping"),
+
+    /**
+     * Serialization of the response body.
+     */
+    SERIALIZATION("serialization");
+
+    private final String tag;
+
+}
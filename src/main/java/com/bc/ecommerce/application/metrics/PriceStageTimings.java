@@ -0,0 +1,173 @@
+package com.bc.ecommerce.application.metrics;
+
+/**
+ * PriceStageTimings class. Splits the time of a single price lookup into its {@link PriceStage}s.
+ * In com.bc.ecommerce.application.metrics package.
+ * At any time the lookup is in exactly one stage and the elapsed time is charged to it: entering a stage
+ * charges the time so far to the enclosing one, and leaving it resumes the enclosing one. A stage entered
+ * within another is thus excluded from it (a connection acquired while a query is read is not charged to
+ * the query), and the stages add up to the whole lookup. It costs a clock read per stage switch.
+ * The timings of the lookup in progress are bound to the thread running it. A part of the lookup run on another
+ * thread is timed on timings of its own ({@link #fork()}) and merged back once done, so a request stopping its
+ * timings, such as once its deadline is exceeded, never races with that thread switching stages. The timings
+ * are synchronized, an uncontended lock per stage switch. On a thread without timings every stage is a no-op.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public final class PriceStageTimings {
+
+    private static final ThreadLocal<PriceStageTimings> CURRENT = new ThreadLocal<>();
+
+    private static final Scope NONE = () -> { };
+
+    private final long[] nanos = new long[PriceStage.values().length];
+
+    private PriceStage stage = PriceStage.APPLICATION;
+
+    private long mark = System.nanoTime();
+
+    private boolean stopped;
+
+    /**
+     * Starts the timings of a lookup, in the application stage, and binds them to the current thread.
+     *
+     * @return The timings.
+     */
+    public static PriceStageTimings start() {
+        PriceStageTimings timings = new PriceStageTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * The timings bound to the current thread.
+     *
+     * @return The timings, null if none.
+     */
+    public static PriceStageTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the timings to the current thread, as when a lookup moves to it.
+     *
+     * @param timings The timings, null to unbind them.
+     * @return The timings bound until now, null if none.
+     */
+    public static PriceStageTimings attach(PriceStageTimings timings) {
+        PriceStageTimings previous = CURRENT.get();
+        if (timings == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timings);
+        }
+        return previous;
+    }
+
+    /**
+     * Enters the stage on the timings bound to the current thread, if any.
+     *
+     * @param stage The stage.
+     * @return The scope of the stage, which resumes the enclosing one once closed.
+     */
+    public static Scope enter(PriceStage stage) {
+        PriceStageTimings timings = CURRENT.get();
+        if (timings == null) {
+            return NONE;
+        }
+        PriceStage enclosing = timings.switchTo(stage);
+        return () -> timings.switchTo(enclosing);
+    }
+
+    /**
+     * Charges the time since the last switch to the current stage and moves to the given one, with no
+     * scope: the lookup stays in it until the next switch.
+     *
+     * @param next The stage.
+     * @return The stage left.
+     */
+    public synchronized PriceStage switchTo(PriceStage next) {
+        if (stopped) {
+            return next;
+        }
+        long now = System.nanoTime();
+        nanos[stage.ordinal()] += now - mark;
+        mark = now;
+        PriceStage previous = stage;
+        stage = next;
+        return previous;
+    }
+
+    /**
+     * Starts the timings of a part of this lookup to be run on another thread, in the application stage. They
+     * are not bound to any thread.
+     *
+     * @return The timings of the part, to be merged back into these ones once it is done.
+     */
+    public PriceStageTimings fork() {
+        return new PriceStageTimings();
+    }
+
+    /**
+     * Charges the stages of a part of this lookup run on another thread, and stops the part. The part ran
+     * while this lookup was waiting in its current stage, so its time is moved from that stage to the stages
+     * of the part: the stages still add up to the whole lookup. Once these timings are stopped, the part is
+     * not charged.
+     *
+     * @param part The timings of the part, from {@link #fork()}.
+     */
+    public void merge(PriceStageTimings part) {
+        part.stop();
+        long[] partNanos = new long[nanos.length];
+        long total = 0;
+        for (PriceStage each : PriceStage.values()) {
+            partNanos[each.ordinal()] = part.getNanos(each);
+            total += partNanos[each.ordinal()];
+        }
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            switchTo(stage);
+            for (int i = 0; i < nanos.length; i++) {
+                nanos[i] += partNanos[i];
+            }
+            nanos[stage.ordinal()] = Math.max(0, nanos[stage.ordinal()] - total);
+        }
+    }
+
+    /**
+     * Charges the time since the last switch to the current stage and stops the timings: the stages still
+     * running, such as a lookup whose deadline was exceeded, are no longer charged.
+     */
+    public synchronized void stop() {
+        switchTo(stage);
+        stopped = true;
+    }
+
+    /**
+     * Time charged to the stage so far.
+     *
+     * @param stage The stage.
+     * @return The nanoseconds.
+     */
+    public synchronized long getNanos(PriceStage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    /**
+     * Scope of a stage, closed to leave it.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        /**
+         * Leaves the stage, resuming the enclosing one.
+         */
+        @Override
+        void close();
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.bc.ecommerce.application.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * InMemorySpanSink class. Keeps the latest finished spans in a ring buffer, so the traces of the last requests
+ * can be looked up without a tracing backend.
+ * In com.bc.ecommerce.application.tracing package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class InMemorySpanSink implements SpanSink {
+
+    private final AtomicReferenceArray<Span> spans;
+
+    private final AtomicLong exported = new AtomicLong();
+
+    /**
+     * Creates the sink.
+     *
+     * @param capacity Number of spans kept, the oldest are overwritten.
+     */
+    public InMemorySpanSink(int capacity) {
+        this.spans = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void export(Span span) {
+        spans.set((int) (exported.getAndIncrement() % spans.length()), span);
+    }
+
+    /**
+     * The spans still kept, the latest finished first.
+     *
+     * @return The spans.
+     */
+    public List<Span> getSpans() {
+        long last = exported.get();
+        List<Span> latest = new ArrayList<>(spans.length());
+        for (long i = last - 1; i >= 0 && i >= last - spans.length(); i--) {
+            Span span = spans.get((int) (i % spans.length()));
+            if (span != null) {
+                latest.add(span);
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * The spans of the trace still kept, in the order they started: the request first, then the work it was
+     * decomposed into, an enclosing span before the ones it encloses.
+     *
+     * @param traceId The trace.
+     * @return The spans.
+     */
+    public List<Span> getTrace(String traceId) {
+        return getSpans().stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .sorted(Comparator.comparingLong(Span::getTimestamp)
+                        .thenComparing(Span::getDuration, Comparator.reverseOrder()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Number of spans exported so far, including the ones overwritten.
+     *
+     * @return The exported spans.
+     */
+    public long getExported() {
+        return exported.get();
+    }
+
+    /**
+     * Forgets the spans kept.
+     */
+    public void clear() {
+        for (int i = 0; i < spans.length(); i++) {
+            spans.set(i, null);
+        }
+    }
+
+}
@@ -0,0 +1,269 @@
+package com.bc.ecommerce.application.tracing;
+
+import lombok.Getter;
+import org.slf4j.MDC;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Span class. A timed operation of a trace, in the Zipkin v2 model: its fields are the ones of the Zipkin json, so
+ * an exported span can be forwarded to it as is.
+ * In com.bc.ecommerce.application.tracing package.
+ * The span in progress is bound to the thread running it, and carried along when the work moves to another
+ * thread, and its trace, span and parent ids are put into the MDC (traceId, spanId and parentId) for the log
+ * lines written meanwhile. A span entered within it becomes its child. On a thread without a span every span
+ * entered is a no-op, so only the traced requests pay for them.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public final class Span {
+
+    public static final String TRACE_ID = "traceId";
+
+    public static final String SPAN_ID = "spanId";
+
+    public static final String PARENT_ID = "parentId";
+
+    public static final String ERROR = "error";
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private static final Scope NONE = () -> { };
+
+    @Getter
+    private final String traceId;
+
+    @Getter
+    private final String id;
+
+    @Getter
+    private final String parentId;
+
+    @Getter
+    private final String name;
+
+    /**
+     * SERVER for the span of a request received, null for a local one.
+     */
+    @Getter
+    private final String kind;
+
+    /**
+     * Start of the span, in microseconds since the epoch.
+     */
+    @Getter
+    private final long timestamp;
+
+    /**
+     * Duration of the span in microseconds, 0 until finished.
+     */
+    @Getter
+    private volatile long duration;
+
+    @Getter
+    private final Map<String, String> tags = new ConcurrentHashMap<>();
+
+    private final Tracer tracer;
+
+    private final boolean sampled;
+
+    private final long start = System.nanoTime();
+
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    Span(Tracer tracer, String traceId, String id, String parentId, String name, String kind, boolean sampled) {
+        this.tracer = tracer;
+        this.traceId = traceId;
+        this.id = id;
+        this.parentId = parentId;
+        this.name = name;
+        this.kind = kind;
+        this.sampled = sampled;
+        this.timestamp = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    }
+
+    /**
+     * The span bound to the current thread.
+     *
+     * @return The span, null if none.
+     */
+    public static Span current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the span to the current thread, as when its work moves to it, and puts its ids into the MDC.
+     *
+     * @param span The span, null to unbind it.
+     * @return The span bound until now, null if none.
+     */
+    public static Span attach(Span span) {
+        Span previous = CURRENT.get();
+        if (span == null) {
+            CURRENT.remove();
+            MDC.remove(TRACE_ID);
+            MDC.remove(SPAN_ID);
+            MDC.remove(PARENT_ID);
+        } else {
+            CURRENT.set(span);
+            MDC.put(TRACE_ID, span.traceId);
+            MDC.put(SPAN_ID, span.id);
+            if (span.parentId == null) {
+                MDC.remove(PARENT_ID);
+            } else {
+                MDC.put(PARENT_ID, span.parentId);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Starts a child of the span bound to the current thread, if any, without binding it: it is finished
+     * explicitly, as when its work completes on another thread.
+     *
+     * @param name The name of the child.
+     * @return The child, null if no span is bound.
+     */
+    public static Span child(String name) {
+        Span parent = CURRENT.get();
+        return parent == null ? null
+                : new Span(parent.tracer, parent.traceId, Tracer.newId(), parent.id, name, null, parent.sampled);
+    }
+
+    /**
+     * Enters a child of the span bound to the current thread, if any, binding it until the scope is closed.
+     *
+     * @param name The name of the child.
+     * @return The scope of the child, which finishes it and binds its parent again once closed.
+     */
+    public static Scope enter(String name) {
+        Span child = child(name);
+        if (child == null) {
+            return NONE;
+        }
+        Span parent = attach(child);
+        return new Scope() {
+            @Override
+            public Scope tag(String key, String value) {
+                child.tag(key, value);
+                return this;
+            }
+
+            @Override
+            public void error(Throwable e) {
+                child.error(e);
+            }
+
+            @Override
+            public void close() {
+                attach(parent);
+                child.finish();
+            }
+        };
+    }
+
+    /**
+     * Runs the work within a child of the span bound to the current thread, if any, tagged as an error if
+     * it fails.
+     *
+     * @param name The name of the child.
+     * @param work The work.
+     * @param <T> The type of its result.
+     * @return The result of the work.
+     */
+    public static <T> T trace(String name, Supplier<T> work) {
+        try (Scope span = enter(name)) {
+            try {
+                return work.get();
+            } catch (RuntimeException e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Tags the span.
+     *
+     * @param key The tag.
+     * @param value Its value, ignored if null.
+     * @return The span.
+     */
+    public Span tag(String key, String value) {
+        if (value != null) {
+            tags.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Tags the span as failed by the exception.
+     *
+     * @param e The exception.
+     * @return The span.
+     */
+    public Span error(Throwable e) {
+        return tag(ERROR, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+    }
+
+    /**
+     * Finishes the span and, if its trace is sampled, exports it. Only the first call counts.
+     */
+    public void finish() {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        duration = Math.max(1, (System.nanoTime() - start) / 1_000);
+        if (sampled) {
+            tracer.export(this);
+        }
+    }
+
+    /**
+     * Local endpoint of the span: the service that recorded it.
+     *
+     * @return The endpoint.
+     */
+    public Map<String, String> getLocalEndpoint() {
+        return Map.of("serviceName", tracer.getServiceName());
+    }
+
+    /**
+     * Scope of a span, closed to finish it.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        /**
+         * Tags the span.
+         *
+         * @param key The tag.
+         * @param value Its value, ignored if null.
+         * @return The scope.
+         */
+        default Scope tag(String key, String value) {
+            return this;
+        }
+
+        /**
+         * Tags the span as failed by the exception.
+         *
+         * @param e The exception.
+         */
+        default void error(Throwable e) {
+        }
+
+        /**
+         * Finishes the span, binding its parent again.
+         */
+        @Override
+        void close();
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.bc.ecommerce.application.tracing;
+
+/**
+ * SpanSink interface. Destination of the finished spans, such as a log or an in-memory collector. Every span
+ * sink bean receives them, so a reporter to a tracing backend is plugged in by declaring one.
+ * In com.bc.ecommerce.application.tracing package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@FunctionalInterface
+public interface SpanSink {
+
+    /**
+     * Exports the span. Called on the thread that finished it, so it must not block.
+     *
+     * @param span The finished span.
+     */
+    void export(Span span);
+
+}
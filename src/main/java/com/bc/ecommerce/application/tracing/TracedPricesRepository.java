@@ -0,0 +1,87 @@
+package com.bc.ecommerce.application.tracing;
+
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.PricesRepository;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * TracedPricesRepository class. Prices repository decorator running every projection within a span of the
+ * repository adapter, a child of the span in progress, if any. It wraps the adapter itself, so a lookup served
+ * by the cache or by another one's execution has no repository span.
+ * In com.bc.ecommerce.application.tracing package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class TracedPricesRepository implements PricesRepository {
+
+    private final PricesRepository delegate;
+
+    /**
+     * Creates the decorator.
+     *
+     * @param delegate The prices repository adapter.
+     */
+    public TracedPricesRepository(PricesRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Prices pricesProjection(PricesCriteria criteria) {
+        return Span.trace("PricesRepository.pricesProjection", () -> delegate.pricesProjection(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Prices> pricesProjections(List<PricesCriteria> criteria) {
+        return Span.trace("PricesRepository.pricesProjections", () -> delegate.pricesProjections(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PricesTimeline timelineProjection(PricesKey key) {
+        return Span.trace("PricesRepository.timelineProjection", () -> delegate.timelineProjection(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<PriceSegment> segmentProjection(PricesCriteria criteria) {
+        return Span.trace("PricesRepository.segmentProjection", () -> delegate.segmentProjection(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Optional<PriceSegment>> segmentProjections(List<PricesCriteria> criteria) {
+        return Span.trace("PricesRepository.segmentProjections", () -> delegate.segmentProjections(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void segmentsProjection(PricesRangeCriteria criteria, Consumer<PriceSegment> consumer) {
+        Span.trace("PricesRepository.segmentsProjection", () -> {
+            delegate.segmentsProjection(criteria, consumer);
+            return null;
+        });
+    }
+
+}
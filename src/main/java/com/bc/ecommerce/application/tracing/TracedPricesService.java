@@ -0,0 +1,104 @@
+package com.bc.ecommerce.application.tracing;
+
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.in.PricesService;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * TracedPricesService class. Prices service decorator running every search within a span of the use case, a
+ * child of the span of the request, if any.
+ * In com.bc.ecommerce.application.tracing package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class TracedPricesService implements PricesService {
+
+    private final PricesService delegate;
+
+    /**
+     * Creates the decorator.
+     *
+     * @param delegate The prices use case.
+     */
+    public TracedPricesService(PricesService delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Prices search(PricesCriteria criteria) {
+        return Span.trace("PricesService.search", () -> delegate.search(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<PriceSegment> searchSegment(PricesCriteria criteria) {
+        return Span.trace("PricesService.searchSegment", () -> delegate.searchSegment(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The span is bound while the search is submitted, so the lookup carries it to the thread running it, and
+     * finished once the result completes.
+     */
+    @Override
+    public CompletableFuture<Optional<PriceSegment>> searchSegmentAsync(PricesCriteria criteria) {
+        Span span = Span.child("PricesService.searchSegmentAsync");
+        if (span == null) {
+            return delegate.searchSegmentAsync(criteria);
+        }
+        Span parent = Span.attach(span);
+        try {
+            return delegate.searchSegmentAsync(criteria).whenComplete((segment, e) -> {
+                if (e != null) {
+                    span.error(e);
+                }
+                span.finish();
+            });
+        } catch (RuntimeException e) {
+            span.error(e).finish();
+            throw e;
+        } finally {
+            Span.attach(parent);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Prices> searchAll(List<PricesCriteria> criteria) {
+        return Span.trace("PricesService.searchAll", () -> delegate.searchAll(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Optional<PriceSegment>> searchAllSegments(List<PricesCriteria> criteria) {
+        return Span.trace("PricesService.searchAllSegments", () -> delegate.searchAllSegments(criteria));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void searchSegments(PricesRangeCriteria criteria, Consumer<PriceSegment> consumer) {
+        Span.trace("PricesService.searchSegments", () -> {
+            delegate.searchSegments(criteria, consumer);
+            return null;
+        });
+    }
+
+}
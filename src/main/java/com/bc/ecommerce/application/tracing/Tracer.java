@@ -0,0 +1,91 @@
+package com.bc.ecommerce.application.tracing;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Tracer class. Starts the traces of the requests received, joining the trace of the caller when it propagates
+ * one with the B3 headers, and hands every finished span of a sampled trace to the span sinks.
+ * In com.bc.ecommerce.application.tracing package.
+ * Trace and span ids are 64 or 128 bit lower-hex, as B3 requires: an id that is not is replaced by a new one.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+public class Tracer {
+
+    private static final Pattern ID = Pattern.compile("[0-9a-f]{16}|[0-9a-f]{32}");
+
+    @Getter
+    private final String serviceName;
+
+    private final List<SpanSink> sinks;
+
+    /**
+     * Creates the tracer.
+     *
+     * @param serviceName The service recording the spans.
+     * @param sinks The sinks every finished span is exported to.
+     */
+    public Tracer(String serviceName, List<SpanSink> sinks) {
+        this.serviceName = serviceName;
+        this.sinks = List.copyOf(sinks);
+    }
+
+    /**
+     * Starts the server span of a request, not bound to any thread.
+     *
+     * @param name The name of the span.
+     * @param traceId The trace of the caller (X-B3-TraceId), a new one is started if null or not valid.
+     * @param parentId The span of the caller (X-B3-SpanId), the parent of the new one, if any.
+     * @param sampled Whether the spans of the trace are exported (X-B3-Sampled).
+     * @return The span.
+     */
+    public Span startTrace(String name, String traceId, String parentId, boolean sampled) {
+        String trace = normalize(traceId);
+        return new Span(this, trace == null ? newId() : trace, newId(), trace == null ? null : normalize(parentId),
+                name, "SERVER", sampled);
+    }
+
+    /**
+     * Hands the finished span to every sink. A failing sink does not fail the traced work.
+     *
+     * @param span The span.
+     */
+    void export(Span span) {
+        for (SpanSink sink : sinks) {
+            try {
+                sink.export(span);
+            } catch (RuntimeException e) {
+                log.warn("Span {} of trace {} not exported: {}", span.getId(), span.getTraceId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A new random 64 bit id.
+     *
+     * @return The id, in lower-hex.
+     */
+    static String newId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return String.format("%016x", id);
+    }
+
+    private static String normalize(String id) {
+        if (id == null) {
+            return null;
+        }
+        String lowerHex = id.trim().toLowerCase(Locale.ROOT);
+        return ID.matcher(lowerHex).matches() ? lowerHex : null;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.bc.ecommerce.application.usescases;
+
+import com.bc.ecommerce.domain.operational.PriceChange;
+import com.bc.ecommerce.domain.operational.PriceChangesPage;
+import com.bc.ecommerce.domain.port.in.PricesChangesService;
+import com.bc.ecommerce.domain.port.out.PricesChangesRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import java.util.List;
+
+/**
+ * PricesChangesService interface implementation.
+ * In com.bc.ecommerce.application.usescases package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+@AllArgsConstructor
+public class PricesChangesUseCase implements PricesChangesService {
+
+    private final PricesChangesRepository repository;
+
+    /**
+     * {@inheritDoc}
+     * One change more than the limit is read to know whether there is a next page.
+     */
+    @Override
+    public PriceChangesPage searchChanges(long since, int limit) {
+        List<PriceChange> changes = repository.changesSince(since, limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        long next = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+        log.debug("Prices changes since {}: {} changes, next {}, more {}.", since, changes.size(), next, hasMore);
+        return new PriceChangesPage(changes, next, hasMore);
+    }
+
+}
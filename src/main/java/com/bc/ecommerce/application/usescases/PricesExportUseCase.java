@@ -0,0 +1,41 @@
+package com.bc.ecommerce.application.usescases;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.in.PricesExportService;
+import com.bc.ecommerce.domain.port.out.PricesSnapshotRepository;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import java.util.function.Consumer;
+
+/**
+ * PricesExportService interface implementation.
+ * In com.bc.ecommerce.application.usescases package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+@AllArgsConstructor
+public class PricesExportUseCase implements PricesExportService {
+
+    private final PricesSnapshotRepository repository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long exportPrices(PricesCriteria criteria, Consumer<Prices> consumer) {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        repository.snapshotProjection(criteria, prices -> {
+            consumer.accept(prices);
+            rows[0]++;
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Prices export finished: brand id {} , issue date {} , {} prices in {} ms.",
+                criteria.getBrandId(), criteria.getIssueDate(), rows[0], elapsedMillis);
+        return rows[0];
+    }
+
+}
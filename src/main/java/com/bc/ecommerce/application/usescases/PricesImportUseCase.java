@@ -0,0 +1,86 @@
+package com.bc.ecommerce.application.usescases;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesImportReport;
+import com.bc.ecommerce.domain.port.in.PricesImportService;
+import com.bc.ecommerce.domain.port.out.PricesStore;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * PricesImportService interface implementation.
+ * In com.bc.ecommerce.application.usescases package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+@AllArgsConstructor
+public class PricesImportUseCase implements PricesImportService {
+
+    private final PricesStore store;
+
+    /**
+     * Number of prices written per batch and transaction.
+     */
+    private final int chunkSize;
+
+    /**
+     * {@inheritDoc}
+     * Only one chunk is held in memory at a time.
+     */
+    @Override
+    public PricesImportReport importPrices(Iterator<Prices> prices) {
+        long start = System.nanoTime();
+        long rows = 0;
+        long chunks = 0;
+        List<Prices> chunk = new ArrayList<>(chunkSize);
+        while (prices.hasNext()) {
+            chunk.add(prices.next());
+            if (chunk.size() == chunkSize) {
+                rows += write(chunk);
+                chunks++;
+                log.debug("Prices import: {} prices written.", rows);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            rows += write(chunk);
+            chunks++;
+        }
+        PricesImportReport report = new PricesImportReport(rows, chunks, (System.nanoTime() - start) / 1_000_000);
+        log.info("Prices import finished: {} prices in {} chunks, {} ms, {} prices/s.",
+                report.getRows(), report.getChunks(), report.getElapsedMillis(), Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The prices are deleted in chunks, each one in its own transaction.
+     */
+    @Override
+    public int deletePrices(List<String> ids) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            deleted += store.delete(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        log.info("Prices delete finished: {} of {} prices deleted.", deleted, ids.size());
+        return deleted;
+    }
+
+    /**
+     * Writes the chunk and clears it for the next one.
+     *
+     * @param chunk The chunk.
+     * @return The number of prices written.
+     */
+    private int write(List<Prices> chunk) {
+        int size = chunk.size();
+        store.upsert(chunk);
+        chunk.clear();
+        return size;
+    }
+
+}
@@ -1,14 +1,32 @@
 package com.bc.ecommerce.application.usescases;
 
+import com.bc.ecommerce.application.async.PricesLookupExecutor;
+import com.bc.ecommerce.application.cache.PricesTimelineCache;
+import com.bc.ecommerce.application.filter.PricesKeysFilter;
+import com.bc.ecommerce.application.jfr.PriceLookupEvent;
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
 import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
 import com.bc.ecommerce.domain.port.in.PricesService;
 import com.bc.ecommerce.domain.port.out.PricesRepository;
 import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
 import lombok.AllArgsConstructor;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * PricesService interface implementation.
  * In com.bc.ecommerce.application.usescases package.
+ * Every single search is emitted as a {@link PriceLookupEvent} for the flight recorder, when enabled.
  *
  * @author Álvaro Carmona
  * @since 27/01/2024
@@ -18,12 +36,252 @@ public class PricesUseCase implements PricesService {
 
     private final PricesRepository repository;
 
+    /**
+     * Cache of the prices timelines, null when disabled.
+     */
+    private final PricesTimelineCache cache;
+
+    /**
+     * Filter of the brands and products having any price, null when disabled.
+     */
+    private final PricesKeysFilter keysFilter;
+
+    /**
+     * Executor of the asynchronous searches that reach the repository, null to resolve them on the caller thread.
+     */
+    private final PricesLookupExecutor executor;
+
+    /**
+     * Creates the use case without cache nor keys filter: every search is resolved by the repository.
+     *
+     * @param repository Prices repository out port.
+     */
+    public PricesUseCase(PricesRepository repository) {
+        this(repository, null, null);
+    }
+
+    /**
+     * Creates the use case without keys filter.
+     *
+     * @param repository Prices repository out port.
+     * @param cache Cache of the prices timelines, null to disable it.
+     */
+    public PricesUseCase(PricesRepository repository, PricesTimelineCache cache) {
+        this(repository, cache, null);
+    }
+
+    /**
+     * Creates the use case resolving the asynchronous searches on the caller thread.
+     *
+     * @param repository Prices repository out port.
+     * @param cache Cache of the prices timelines, null to disable it.
+     * @param keysFilter Filter of the brands and products having any price, null to disable it.
+     */
+    public PricesUseCase(PricesRepository repository, PricesTimelineCache cache, PricesKeysFilter keysFilter) {
+        this(repository, cache, keysFilter, null);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Prices search(PricesCriteria criteria) {
-        return repository.pricesProjection(criteria);
+        try (PriceLookupEvent lookup = PriceLookupEvent.start(criteria.getBrandId(), criteria.getProductId())) {
+            if (isUnknown(criteria)) {
+                PriceLookupEvent.cache(PriceLookupEvent.FILTERED);
+                return new Prices();
+            }
+            if (!isCacheable(criteria)) {
+                return repository.pricesProjection(criteria);
+            }
+            return timeline(PricesKey.of(criteria)).priceAt(criteria.getIssueDate().toInstant());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<PriceSegment> searchSegment(PricesCriteria criteria) {
+        try (PriceLookupEvent lookup = PriceLookupEvent.start(criteria.getBrandId(), criteria.getProductId())) {
+            if (isUnknown(criteria)) {
+                PriceLookupEvent.cache(PriceLookupEvent.FILTERED);
+                return Optional.empty();
+            }
+            if (!isComplete(criteria)) {
+                Prices prices = repository.pricesProjection(criteria);
+                return prices.getProductId() == null ? Optional.empty()
+                        : Optional.of(new PriceSegment(null, null, prices));
+            }
+            if (cache == null) {
+                return repository.segmentProjection(criteria);
+            }
+            return timeline(PricesKey.of(criteria)).segmentAt(criteria.getIssueDate().toInstant());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unknown brands and products and cached timelines are resolved on the caller thread, the rest on the
+     * executor.
+     */
+    @Override
+    public CompletableFuture<Optional<PriceSegment>> searchSegmentAsync(PricesCriteria criteria) {
+        if (executor == null || isUnknown(criteria)) {
+            return CompletableFuture.completedFuture(searchSegment(criteria));
+        }
+        if (!isCacheable(criteria)) {
+            return executor.submit(() -> searchSegment(criteria));
+        }
+        PricesKey key = PricesKey.of(criteria);
+        Instant issueDate = criteria.getIssueDate().toInstant();
+        PricesTimeline cached = cache.get(key);
+        if (cached != null) {
+            try (PriceLookupEvent lookup = PriceLookupEvent.start(key.getBrandId(), key.getProductId())) {
+                PriceLookupEvent.cache(PriceLookupEvent.HIT);
+                return CompletableFuture.completedFuture(cached.segmentAt(issueDate));
+            }
+        }
+        return executor.submit(() -> {
+            try (PriceLookupEvent lookup = PriceLookupEvent.start(key.getBrandId(), key.getProductId())) {
+                PriceLookupEvent.cache(PriceLookupEvent.MISS);
+                return load(key).segmentAt(issueDate);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * The criteria of unknown brands and products are resolved as no price, the ones whose timeline is cached
+     * from the cache, and the rest with a single repository call.
+     */
+    @Override
+    public List<Prices> searchAll(List<PricesCriteria> criteria) {
+        if (cache == null && keysFilter == null) {
+            return repository.pricesProjections(criteria);
+        }
+        return resolveAll(criteria, PricesTimeline::priceAt, repository::pricesProjections, Prices::new);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Resolved as {@link #searchAll(List)}.
+     */
+    @Override
+    public List<Optional<PriceSegment>> searchAllSegments(List<PricesCriteria> criteria) {
+        if (cache == null && keysFilter == null) {
+            return repository.segmentProjections(criteria);
+        }
+        return resolveAll(criteria, PricesTimeline::segmentAt, repository::segmentProjections, Optional::empty);
+    }
+
+    /**
+     * {@inheritDoc}
+     * An unknown brand and product has no segment, and a cached timeline is not read again.
+     */
+    @Override
+    public void searchSegments(PricesRangeCriteria criteria, Consumer<PriceSegment> consumer) {
+        PricesKey key = PricesKey.of(criteria);
+        if (keysFilter != null && !keysFilter.mightExist(key)) {
+            return;
+        }
+        if (cache == null) {
+            repository.segmentsProjection(criteria, consumer);
+            return;
+        }
+        timeline(key).segmentsBetween(criteria.getFrom().toInstant(), criteria.getTo().toInstant(), consumer);
+    }
+
+    /**
+     * Resolves the criteria of unknown brands and products as none, the ones whose timeline is cached from the
+     * cache, and the rest with a single repository call.
+     *
+     * @param criteria The criteria to be applied.
+     * @param fromTimeline Resolves a criteria from the timeline at its issue date.
+     * @param fromRepository Resolves the missed criteria from the repository.
+     * @param none Supplies the result of a criteria that can not match any price.
+     * @param <T> The type of the result of each criteria.
+     * @return The result of each criteria, in the same order.
+     */
+    private <T> List<T> resolveAll(List<PricesCriteria> criteria, BiFunction<PricesTimeline, Instant, T> fromTimeline,
+                                   Function<List<PricesCriteria>, List<T>> fromRepository, Supplier<T> none) {
+        List<T> result = new ArrayList<>(criteria.size());
+        List<PricesCriteria> misses = new ArrayList<>();
+        List<Integer> missPositions = new ArrayList<>();
+        for (PricesCriteria item : criteria) {
+            if (isUnknown(item)) {
+                result.add(none.get());
+                continue;
+            }
+            PricesTimeline timeline = isCacheable(item) ? cache.get(PricesKey.of(item)) : null;
+            if (timeline != null) {
+                result.add(fromTimeline.apply(timeline, item.getIssueDate().toInstant()));
+            } else {
+                missPositions.add(result.size());
+                misses.add(item);
+                result.add(null);
+            }
+        }
+        if (!misses.isEmpty()) {
+            List<T> resolved = fromRepository.apply(misses);
+            for (int i = 0; i < missPositions.size(); i++) {
+                result.set(missPositions.get(i), resolved.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether the brand and product of the criteria have no price for sure.
+     *
+     * @param criteria The criteria.
+     * @return True if the criteria can not match any price.
+     */
+    private boolean isUnknown(PricesCriteria criteria) {
+        return keysFilter != null && criteria.getProductId() != null && criteria.getBrandId() != null
+                && !keysFilter.mightExist(PricesKey.of(criteria));
+    }
+
+    /**
+     * Only complete criteria are cached.
+     *
+     * @param criteria The criteria.
+     * @return Whether the criteria can be resolved from the cache.
+     */
+    private boolean isCacheable(PricesCriteria criteria) {
+        return cache != null && isComplete(criteria);
+    }
+
+    /**
+     * Whether all the fields of the criteria are informed.
+     *
+     * @param criteria The criteria.
+     * @return True if the criteria is complete.
+     */
+    private static boolean isComplete(PricesCriteria criteria) {
+        return criteria.getProductId() != null && criteria.getBrandId() != null && criteria.getIssueDate() != null;
+    }
+
+    /**
+     * The timeline of the brand and product, loaded from the repository on a miss.
+     *
+     * @param key The brand and product.
+     * @return The timeline.
+     */
+    private PricesTimeline timeline(PricesKey key) {
+        PricesTimeline timeline = cache.get(key);
+        PriceLookupEvent.cache(timeline != null ? PriceLookupEvent.HIT : PriceLookupEvent.MISS);
+        return timeline != null ? timeline : load(key);
+    }
+
+    /**
+     * Loads the timeline of the brand and product from the repository into the cache.
+     *
+     * @param key The brand and product.
+     * @return The timeline.
+     */
+    private PricesTimeline load(PricesKey key) {
+        return cache.load(key, repository::timelineProjection);
     }
 
 }
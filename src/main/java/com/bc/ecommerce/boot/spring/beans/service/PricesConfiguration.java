@@ -1,10 +1,38 @@
 package com.bc.ecommerce.boot.spring.beans.service;
 
+import com.bc.ecommerce.application.async.PricesLookupExecutor;
+import com.bc.ecommerce.application.async.VirtualThreads;
+import com.bc.ecommerce.application.cache.PricesTimelineCache;
+import com.bc.ecommerce.application.coalescing.CoalescingPricesRepository;
+import com.bc.ecommerce.application.coalescing.SingleFlight;
+import com.bc.ecommerce.application.filter.PricesKeysFilter;
+import com.bc.ecommerce.application.tracing.TracedPricesRepository;
+import com.bc.ecommerce.application.tracing.TracedPricesService;
+import com.bc.ecommerce.application.usescases.PricesChangesUseCase;
+import com.bc.ecommerce.application.usescases.PricesExportUseCase;
+import com.bc.ecommerce.application.usescases.PricesImportUseCase;
 import com.bc.ecommerce.application.usescases.PricesUseCase;
+import com.bc.ecommerce.domain.port.in.PricesChangesService;
+import com.bc.ecommerce.domain.port.in.PricesExportService;
+import com.bc.ecommerce.domain.port.in.PricesImportService;
 import com.bc.ecommerce.domain.port.in.PricesService;
+import com.bc.ecommerce.domain.port.out.PricesChangesRepository;
+import com.bc.ecommerce.domain.port.out.PricesKeysRepository;
 import com.bc.ecommerce.domain.port.out.PricesRepository;
+import com.bc.ecommerce.domain.port.out.PricesSnapshotRepository;
+import com.bc.ecommerce.domain.port.out.PricesStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
 
 /**
  * Prices service configuration class.
@@ -20,11 +48,189 @@ public class PricesConfiguration {
      * Prices service bean.
      *
      * @param repository Prices repository out port.
+     * @param cache Prices timeline cache, if enabled.
+     * @param keysFilter Prices keys filter, if enabled.
+     * @param executor Prices lookup executor, if the asynchronous mode is enabled.
+     * @param coalescing Whether the concurrent identical lookups share one repository execution.
+     * @param tracing Whether the use case and the repository adapter are traced.
+     * @param registry Meter registry.
      * @return The created bean.
      */
     @Bean
-    public PricesService pricesService(PricesRepository repository) {
-        return new PricesUseCase(repository);
+    public PricesService pricesService(
+            PricesRepository repository,
+            ObjectProvider<PricesTimelineCache> cache,
+            ObjectProvider<PricesKeysFilter> keysFilter,
+            ObjectProvider<PricesLookupExecutor> executor,
+            @Value("${ecommerce.prices.coalescing.enabled:true}") boolean coalescing,
+            @Value("${ecommerce.tracing.enabled:true}") boolean tracing,
+            MeterRegistry registry) {
+        PricesRepository adapter = tracing ? new TracedPricesRepository(repository) : repository;
+        PricesService useCase = new PricesUseCase(coalescing ? coalesce(adapter, registry) : adapter,
+                cache.getIfAvailable(), keysFilter.getIfAvailable(), executor.getIfAvailable());
+        return tracing ? new TracedPricesService(useCase) : useCase;
+    }
+
+    /**
+     * Prices lookup executor bean, for the asynchronous mode of GET /price. Its pool is published as the
+     * executor.* metrics (name=prices.lookups), and the lookups it rejects or discards as
+     * prices.lookups.rejected and prices.lookups.expired.
+     *
+     * @param poolSize Number of threads running lookups.
+     * @param queueCapacity Number of lookups waiting for a thread before new ones are rejected with a 503.
+     * @param deadline Time from the submission of a lookup to its result, a 504 once exceeded.
+     * @param virtualThreads Whether the lookups run on virtual threads.
+     * @param registry Meter registry.
+     * @return The created bean.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "ecommerce.prices.async.enabled", havingValue = "true")
+    public PricesLookupExecutor pricesLookupExecutor(
+            @Value("${ecommerce.prices.async.pool-size:10}") int poolSize,
+            @Value("${ecommerce.prices.async.queue-capacity:100}") int queueCapacity,
+            @Value("${ecommerce.prices.async.deadline:2s}") Duration deadline,
+            @Value("${ecommerce.virtual-threads.enabled:false}") boolean virtualThreads,
+            MeterRegistry registry) {
+        PricesLookupExecutor executor = virtualThreads
+                ? new PricesLookupExecutor(poolSize, queueCapacity, deadline, VirtualThreads.factory("prices-lookup-"))
+                : new PricesLookupExecutor(poolSize, queueCapacity, deadline);
+        new ExecutorServiceMetrics(executor.getNativeExecutor(), "prices.lookups", Tags.empty()).bindTo(registry);
+        FunctionCounter.builder("prices.lookups.rejected", executor, PricesLookupExecutor::getRejected)
+                .description("Asynchronous lookups rejected because the queue of the executor was full")
+                .register(registry);
+        FunctionCounter.builder("prices.lookups.expired", executor, PricesLookupExecutor::getExpired)
+                .description("Asynchronous lookups discarded because their deadline was exceeded while queued")
+                .register(registry);
+        return executor;
+    }
+
+    /**
+     * Prices timeline cache bean. Its hit, miss and eviction statistics are published as cache.* metrics, and
+     * its concurrent loads of the same brand and product as the prices.lookups.* metrics of type cache.
+     *
+     * @param maximumSize Maximum number of brands and products cached.
+     * @param expireAfterWrite Time an entry is served since it was loaded, and so the longest a price written by
+     *     another instance goes unseen.
+     * @param registry Meter registry.
+     * @return The created bean.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ecommerce.prices.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public PricesTimelineCache pricesTimelineCache(
+            @Value("${ecommerce.prices.cache.maximum-size:10000}") long maximumSize,
+            @Value("${ecommerce.prices.cache.expire-after-write:30s}") Duration expireAfterWrite,
+            MeterRegistry registry) {
+        PricesTimelineCache cache = new PricesTimelineCache(maximumSize, expireAfterWrite);
+        CaffeineCacheMetrics.monitor(registry, cache.getNativeCache(), "prices");
+        monitor(registry, cache.getLoads(), "cache");
+        return cache;
+    }
+
+    /**
+     * Prices keys filter bean, disabled by default since the prices written by other instances are only seen
+     * once it is rebuilt. The lookups it answers without reaching the datastore are published as the
+     * prices.lookups.short.circuited metric.
+     *
+     * @param repository Prices keys repository out port.
+     * @param expectedKeys Minimum number of brands and products the filter is sized for.
+     * @param falsePositiveRate Rate of unknown brands and products that still reach the datastore.
+     * @param refresh Time between rebuilds from the datastore, zero for never.
+     * @param registry Meter registry.
+     * @return The created bean.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "ecommerce.prices.keys-filter.enabled", havingValue = "true")
+    public PricesKeysFilter pricesKeysFilter(
+            PricesKeysRepository repository,
+            @Value("${ecommerce.prices.keys-filter.expected-keys:100000}") long expectedKeys,
+            @Value("${ecommerce.prices.keys-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${ecommerce.prices.keys-filter.refresh:5m}") Duration refresh,
+            MeterRegistry registry) {
+        PricesKeysFilter filter = new PricesKeysFilter(repository, expectedKeys, falsePositiveRate, refresh);
+        FunctionCounter.builder("prices.lookups.short.circuited", filter, PricesKeysFilter::getShortCircuited)
+                .description("Lookups of brands and products without prices answered without reaching the datastore")
+                .register(registry);
+        Gauge.builder("prices.keys.filter.keys", filter, PricesKeysFilter::getKeys)
+                .description("Brands and products in the prices keys filter")
+                .register(registry);
+        Gauge.builder("prices.keys.filter.false.positive.rate", filter, PricesKeysFilter::getExpectedFalsePositiveRate)
+                .description("Expected false positive rate of the prices keys filter")
+                .register(registry);
+        return filter;
+    }
+
+    /**
+     * Wraps the repository so that the concurrent identical lookups share one execution. The callers served
+     * by another one's execution are published as the prices.lookups.coalesced metric, and the executions
+     * as prices.lookups.executed.
+     *
+     * @param repository Prices repository out port.
+     * @param registry Meter registry.
+     * @return The decorated repository.
+     */
+    private static PricesRepository coalesce(PricesRepository repository, MeterRegistry registry) {
+        CoalescingPricesRepository coalescing = new CoalescingPricesRepository(repository);
+        monitor(registry, coalescing.getLookups(), "lookup");
+        monitor(registry, coalescing.getTimelines(), "timeline");
+        return coalescing;
+    }
+
+    /**
+     * Publishes the metrics of a single flight.
+     *
+     * @param registry Meter registry.
+     * @param flight The single flight.
+     * @param type The type tag of its metrics.
+     */
+    private static void monitor(MeterRegistry registry, SingleFlight<?, ?> flight, String type) {
+        FunctionCounter.builder("prices.lookups.coalesced", flight, SingleFlight::getCoalesced)
+                .description("Callers served by the execution in flight of an identical lookup")
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("prices.lookups.executed", flight, SingleFlight::getExecutions)
+                .description("Lookups executed against the repository")
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("prices.lookups.in.flight", flight, SingleFlight::getInFlight)
+                .description("Distinct lookups in flight")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    /**
+     * Prices import service bean.
+     *
+     * @param store Prices store out port.
+     * @param chunkSize Number of prices written per batch and transaction.
+     * @return The created bean.
+     */
+    @Bean
+    public PricesImportService pricesImportService(
+            PricesStore store,
+            @Value("${ecommerce.prices.import.chunk-size:1000}") int chunkSize) {
+        return new PricesImportUseCase(store, chunkSize);
+    }
+
+    /**
+     * Prices export service bean.
+     *
+     * @param repository Prices snapshot repository out port.
+     * @return The created bean.
+     */
+    @Bean
+    public PricesExportService pricesExportService(PricesSnapshotRepository repository) {
+        return new PricesExportUseCase(repository);
+    }
+
+    /**
+     * Prices changes service bean.
+     *
+     * @param repository Prices changes repository out port.
+     * @return The created bean.
+     */
+    @Bean
+    public PricesChangesService pricesChangesService(PricesChangesRepository repository) {
+        return new PricesChangesUseCase(repository);
     }
 
 }
@@ -0,0 +1,49 @@
+package com.bc.ecommerce.boot.spring.config;
+
+import com.bc.ecommerce.application.jfr.PricesFlightRecorder;
+import com.bc.ecommerce.infrastructure.rest.spring.actuator.FlightRecordingEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+/**
+ * Flight recorder configuration class. The price lookups, sql builds and sql executions are emitted as flight
+ * recorder events, disabled unless a recording enables them, and the jfr actuator endpoint starts and dumps such
+ * a recording on demand. Disabled by default, since the management port is not authenticated.
+ * In com.bc.ecommerce.boot.spring.config package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "ecommerce.jfr.enabled", havingValue = "true")
+public class FlightRecorderConfig {
+
+    /**
+     * Flight recorder bean. The recording is stopped on shutdown.
+     *
+     * @param configuration The settings of the JDK recordings start with: default or profile.
+     * @param maxAge The age of the oldest events kept.
+     * @return The recorder.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PricesFlightRecorder pricesFlightRecorder(
+            @Value("${ecommerce.jfr.configuration:default}") String configuration,
+            @Value("${ecommerce.jfr.max-age:10m}") Duration maxAge) {
+        return new PricesFlightRecorder(configuration, maxAge);
+    }
+
+    /**
+     * Flight recording actuator endpoint bean.
+     *
+     * @param recorder The flight recorder.
+     * @return The endpoint.
+     */
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(PricesFlightRecorder recorder) {
+        return new FlightRecordingEndpoint(recorder);
+    }
+
+}
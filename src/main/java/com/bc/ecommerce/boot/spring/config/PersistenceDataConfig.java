@@ -1,5 +1,6 @@
 package com.bc.ecommerce.boot.spring.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,13 +12,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.SimpleDriverDataSource;
 import javax.sql.DataSource;
-import java.sql.Driver;
-import java.sql.DriverManager;
-import java.sql.SQLException;
 import java.util.Optional;
-import java.util.Properties;
 
 /**
  * Datasource configuration class.
@@ -40,26 +36,26 @@ public class PersistenceDataConfig {
 
   private String username;
 
+  private String password;
+
   private String driverClassName;
 
   /**
-   * dataSource.
+   * dataSource. A pool of connections: the pool sizes, timeouts, leak detection and the driver
+   * properties (such as the prepared statement cache) are bound from spring.datasource.hikari.
+   * Actuator publishes the pool metrics as hikaricp.connections.*.
    *
    * @return a {@link DataSource} object.
-   * @throws SQLException if any.
-   * @throws ClassNotFoundException if any.
    */
-  @SuppressWarnings("unchecked")
-  @Bean
+  @Bean(destroyMethod = "close")
   @Primary
-  public DataSource dataSource() throws SQLException, ClassNotFoundException {
-    SimpleDriverDataSource dataSource = new SimpleDriverDataSource();
-    dataSource.setDriver(DriverManager.getDriver(url));
-    dataSource.setUrl(url);
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource dataSource() {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(url);
     dataSource.setUsername(username);
-    dataSource.setDriverClass((Class<? extends Driver>) Class.forName(driverClassName));
-    Properties connectionProperties = new Properties();
-    dataSource.setConnectionProperties(connectionProperties);
+    dataSource.setPassword(password);
+    dataSource.setDriverClassName(driverClassName);
     return dataSource;
   }
 
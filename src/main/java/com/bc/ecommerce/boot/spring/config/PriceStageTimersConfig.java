@@ -0,0 +1,67 @@
+package com.bc.ecommerce.boot.spring.config;
+
+import com.bc.ecommerce.infrastructure.db.springdata.metrics.PriceStageDataSource;
+import com.bc.ecommerce.infrastructure.rest.spring.metrics.PriceStageInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import javax.sql.DataSource;
+
+/**
+ * Price stage timers configuration class. Splits the time of every GET /price request into its stages (sql
+ * generation, connection acquisition, query execution, hydration, mapping and serialization) and publishes
+ * them as the prices.lookup.stage timers, tagged by stage and outcome (hit, no-content or error), with
+ * percentile histograms. They are scraped with the rest of the metrics from /actuator/prometheus on the
+ * management port.
+ * In com.bc.ecommerce.boot.spring.config package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "ecommerce.prices.stage-timers.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceStageTimersConfig implements WebMvcConfigurer {
+
+    private final PriceStageInterceptor interceptor;
+
+    /**
+     * Creates the configuration.
+     *
+     * @param registry Meter registry.
+     */
+    public PriceStageTimersConfig(MeterRegistry registry) {
+        this.interceptor = new PriceStageInterceptor(registry);
+    }
+
+    /**
+     * Times the GET /price requests.
+     *
+     * @param registry The interceptor registry.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/price");
+    }
+
+    /**
+     * Wraps the data sources so the connections and statements of the timed requests are timed too. Wrapped once
+     * their properties are bound, so the pool is configured as usual, and still unwrapped by the pool metrics.
+     *
+     * @return The post processor.
+     */
+    @Bean
+    public static BeanPostProcessor priceStageDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource && !(bean instanceof PriceStageDataSource)
+                        ? new PriceStageDataSource((DataSource) bean) : bean;
+            }
+        };
+    }
+
+}
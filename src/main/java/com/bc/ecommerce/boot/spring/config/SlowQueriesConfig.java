@@ -0,0 +1,63 @@
+package com.bc.ecommerce.boot.spring.config;
+
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
+import com.bc.ecommerce.infrastructure.rest.spring.actuator.SlowQueriesEndpoint;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Duration;
+
+/**
+ * Slow queries configuration class. Captures the query executions slower than a threshold, instead of logging
+ * every sql sentence at DEBUG, and lists them through the slowqueries actuator endpoint. Disabled by default,
+ * since the management port is not authenticated.
+ * In com.bc.ecommerce.boot.spring.config package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "ecommerce.prices.slow-queries.enabled", havingValue = "true")
+public class SlowQueriesConfig {
+
+    /**
+     * Slow query log bean, injected into the repositories, which record the queries they execute with it. The
+     * executions it captures are published as the prices.slow.queries metric.
+     *
+     * @param threshold Executions taking longer are captured.
+     * @param capacity Number of captured executions kept.
+     * @param explain Whether the plan of every captured execution is explained.
+     * @param jdbcTemplate The jdbc template the plans are explained with.
+     * @param registry Meter registry.
+     * @return The slow query log.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public SlowQueryLog slowQueryLog(
+            @Value("${ecommerce.prices.slow-queries.threshold:200ms}") Duration threshold,
+            @Value("${ecommerce.prices.slow-queries.capacity:100}") int capacity,
+            @Value("${ecommerce.prices.slow-queries.explain:false}") boolean explain,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry registry) {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(threshold, capacity, explain ? jdbcTemplate : null);
+        FunctionCounter.builder("prices.slow.queries", slowQueryLog, SlowQueryLog::getCaptured)
+                .description("Query executions slower than the slow query threshold")
+                .register(registry);
+        return slowQueryLog;
+    }
+
+    /**
+     * Slow queries actuator endpoint bean.
+     *
+     * @param slowQueryLog The slow query log.
+     * @return The endpoint.
+     */
+    @Bean
+    public SlowQueriesEndpoint slowQueriesEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueriesEndpoint(slowQueryLog);
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.bc.ecommerce.boot.spring.config;
+
+import com.bc.ecommerce.application.tracing.InMemorySpanSink;
+import com.bc.ecommerce.application.tracing.SpanSink;
+import com.bc.ecommerce.application.tracing.Tracer;
+import com.bc.ecommerce.infrastructure.rest.spring.actuator.SpansEndpoint;
+import com.bc.ecommerce.infrastructure.rest.spring.tracing.TracingInterceptor;
+import com.bc.ecommerce.infrastructure.tracing.LogSpanSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.util.stream.Collectors;
+
+/**
+ * Tracing configuration class. Traces every request, joining the trace of the caller propagated with the B3
+ * headers, with spans of the request, the prices use case, the repository adapter and each sql execution, and
+ * puts the trace and span ids into the MDC. The finished spans are exported to every span sink bean: the
+ * in-memory one, listed by the spans actuator endpoint, the log one, writing them as Zipkin json, or any other
+ * declared, such as a reporter to the tracing backend. The in-memory sink is disabled by default, since the
+ * management port is not authenticated.
+ * In com.bc.ecommerce.boot.spring.config package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "ecommerce.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Tracer> tracer;
+
+    /**
+     * Creates the configuration.
+     *
+     * @param tracer The tracer, resolved once the interceptors are registered.
+     */
+    public TracingConfig(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * Tracer bean.
+     *
+     * @param serviceName The service the spans are recorded by.
+     * @param sinks The span sinks.
+     * @return The tracer.
+     */
+    @Bean
+    public Tracer tracer(@Value("${spring.application.name:ecommerce-recorder}") String serviceName,
+                         ObjectProvider<SpanSink> sinks) {
+        return new Tracer(serviceName, sinks.orderedStream().collect(Collectors.toList()));
+    }
+
+    /**
+     * In-memory span sink bean.
+     *
+     * @param capacity Number of spans kept.
+     * @return The sink.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ecommerce.tracing.sinks.memory.enabled", havingValue = "true")
+    public InMemorySpanSink inMemorySpanSink(@Value("${ecommerce.tracing.sinks.memory.capacity:1000}") int capacity) {
+        return new InMemorySpanSink(capacity);
+    }
+
+    /**
+     * Spans actuator endpoint bean.
+     *
+     * @param sink The in-memory span sink.
+     * @return The endpoint.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ecommerce.tracing.sinks.memory.enabled", havingValue = "true")
+    public SpansEndpoint spansEndpoint(InMemorySpanSink sink) {
+        return new SpansEndpoint(sink);
+    }
+
+    /**
+     * Log span sink bean.
+     *
+     * @param objectMapper The object mapper.
+     * @return The sink.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ecommerce.tracing.sinks.log.enabled", havingValue = "true")
+    public LogSpanSink logSpanSink(ObjectMapper objectMapper) {
+        return new LogSpanSink(objectMapper);
+    }
+
+    /**
+     * Traces every request.
+     *
+     * @param registry The interceptor registry.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TracingInterceptor(tracer.getObject()));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.bc.ecommerce.boot.spring.config;
+
+import com.bc.ecommerce.application.async.VirtualThreads;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Virtual threads configuration class. Runs every request, and the streaming responses written after it, on a
+ * virtual thread of its own instead of on the bounded pool of Tomcat (server.tomcat.max-threads), so a request
+ * waiting for the datastore does not hold a platform thread. The JDBC driver still pins the carrier thread of a
+ * virtual thread running a query, since H2 executes every statement within a monitor of its session, so the
+ * queries in progress are bounded by the carrier threads rather than by the connections of the datastore. Needs
+ * JDK 21 or later, see the virtual-threads build profile, which traces the pinned threads.
+ * In com.bc.ecommerce.boot.spring.config package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "ecommerce.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfig implements WebMvcConfigurer {
+
+    private final ExecutorService requests = VirtualThreads.executor("http-request-");
+
+    private final ExecutorService responses = VirtualThreads.executor("http-response-");
+
+    /**
+     * Hands the requests accepted by Tomcat to virtual threads.
+     *
+     * @return The customizer.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadsTomcatCustomizer() {
+        log.info("Requests are run on virtual threads.");
+        return factory -> factory.addProtocolHandlerCustomizers(handler -> handler.setExecutor(requests));
+    }
+
+    /**
+     * Writes the asynchronous and streaming responses on virtual threads.
+     *
+     * @param configurer The async support configurer.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(responses));
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.bc.ecommerce.boot.spring.runner;
+
+import com.bc.ecommerce.domain.operational.PricesImportReport;
+import com.bc.ecommerce.domain.port.in.PricesImportService;
+import com.bc.ecommerce.infrastructure.io.PricesImportFormat;
+import com.bc.ecommerce.infrastructure.io.PricesReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * PricesImportRunner class.
+ * Command line loader: imports the file given by ecommerce.prices.import.file (.csv or .ndjson)
+ * once the application has started. Run it with --spring.main.web-application-type=none to exit when done.
+ * In com.bc.ecommerce.boot.spring.runner package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ecommerce.prices.import.file")
+public class PricesImportRunner implements ApplicationRunner {
+
+    private final PricesImportService service;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${ecommerce.prices.import.file}")
+    private String file;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path path = Path.of(file);
+        PricesImportFormat format = PricesImportFormat.ofFileName(path.getFileName().toString());
+        log.info("Importing prices from {} ({}).", path, format);
+        try (InputStream source = Files.newInputStream(path);
+             PricesReader reader = format.reader(source, objectMapper)) {
+            PricesImportReport report = service.importPrices(reader);
+            log.info("Imported {} prices from {} at {} prices/s.", report.getRows(), path,
+                    Math.round(report.getRowsPerSecond()));
+        }
+    }
+
+}
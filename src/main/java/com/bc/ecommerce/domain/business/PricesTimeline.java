@@ -0,0 +1,240 @@
+package com.bc.ecommerce.domain.business;
+
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * PricesTimeline class.
+ * In com.bc.ecommerce.domain.business package.
+ * Flattens the prices of a product and brand, which may overlap, into a sorted list of
+ * disjoint segments holding the price with the highest priority for each interval.
+ * Resolving the price to apply at a given date is then a floor search over the segment starts.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public final class PricesTimeline {
+
+  /**
+   * Dates are stored with microsecond precision and both start and end dates are inclusive,
+   * so a price stops being applicable one microsecond after its end date.
+   */
+  public static final ChronoUnit RESOLUTION = ChronoUnit.MICROS;
+
+  /**
+   * Highest priority first. Ties are resolved in favour of the highest price list.
+   */
+  private static final Comparator<Prices> BY_PRIORITY =
+          Comparator.comparing(Prices::getPriority).thenComparing(Prices::getPriceList).reversed();
+
+  private final Instant[] starts;
+  private final PriceSegment[] segments;
+
+  private PricesTimeline(List<PriceSegment> segments) {
+    this.segments = segments.toArray(new PriceSegment[0]);
+    this.starts = segments.stream().map(PriceSegment::getFrom).toArray(Instant[]::new);
+  }
+
+  /**
+   * Builds the timeline of the given prices, which must belong to the same product and brand.
+   *
+   * @param prices The prices.
+   * @return The timeline.
+   */
+  public static PricesTimeline of(Collection<Prices> prices) {
+    List<Prices> byStartDate = new ArrayList<>(prices);
+    byStartDate.sort(Comparator.comparing(Prices::getStartDate));
+    List<PriceSegment> segments = new ArrayList<>();
+    new SegmentIterator(byStartDate.iterator()).forEachRemaining(segments::add);
+    return new PricesTimeline(segments);
+  }
+
+  /**
+   * Instant from which the given price is no longer applicable.
+   *
+   * @param prices The price.
+   * @return The exclusive end of the price interval.
+   */
+  public static Instant exclusiveEnd(Prices prices) {
+    return prices.getEndDate().plus(1, RESOLUTION);
+  }
+
+  /**
+   * Finds the segment containing the given instant.
+   *
+   * @param instant The instant.
+   * @return The segment, if any price is applicable at that instant.
+   */
+  public Optional<PriceSegment> segmentAt(Instant instant) {
+    int position = Arrays.binarySearch(starts, instant);
+    int floor = position >= 0 ? position : -position - 2;
+    if (floor < 0 || !segments[floor].contains(instant)) {
+      return Optional.empty();
+    }
+    return Optional.of(segments[floor]);
+  }
+
+  /**
+   * Resolves the price to apply at the given instant.
+   *
+   * @param instant The instant.
+   * @return The price, or an empty price if none is applicable.
+   */
+  public Prices priceAt(Instant instant) {
+    return segmentAt(instant).map(PriceSegment::getPrice).orElseGet(Prices::new);
+  }
+
+  /**
+   * Hands to the consumer, sorted by start date, the segments applicable during the interval [from, to),
+   * clipped to it.
+   *
+   * @param from The inclusive start of the interval.
+   * @param to The exclusive end of the interval.
+   * @param consumer The segments consumer.
+   */
+  public void segmentsBetween(Instant from, Instant to, Consumer<PriceSegment> consumer) {
+    int position = Arrays.binarySearch(starts, from);
+    int first = Math.max(0, position >= 0 ? position : -position - 2);
+    clip(Arrays.asList(segments).subList(first, segments.length).iterator(), from, to, consumer);
+  }
+
+  /**
+   * Sweeps the given prices as they are read, handing to the consumer the segments applicable during the
+   * interval [from, to), clipped to it, without building the whole timeline. The prices must belong to the
+   * same product and brand and include at least every price applicable during the interval.
+   *
+   * @param pricesByStartDate The prices, sorted by start date.
+   * @param from The inclusive start of the interval.
+   * @param to The exclusive end of the interval.
+   * @param consumer The segments consumer.
+   */
+  public static void sweep(Iterator<Prices> pricesByStartDate, Instant from, Instant to,
+                           Consumer<PriceSegment> consumer) {
+    clip(new SegmentIterator(pricesByStartDate), from, to, consumer);
+  }
+
+  /**
+   * The segments of the timeline sorted by start date.
+   *
+   * @return The segments.
+   */
+  public List<PriceSegment> getSegments() {
+    return Collections.unmodifiableList(Arrays.asList(segments));
+  }
+
+  /**
+   * Hands to the consumer the segments overlapping the interval [from, to), clipped to it. The bounds of the
+   * segments outside the interval may depend on prices that are not applicable during it, so they are not
+   * informed.
+   *
+   * @param segments The segments, sorted by start date.
+   * @param from The inclusive start of the interval.
+   * @param to The exclusive end of the interval.
+   * @param consumer The segments consumer.
+   */
+  private static void clip(Iterator<PriceSegment> segments, Instant from, Instant to,
+                           Consumer<PriceSegment> consumer) {
+    while (segments.hasNext()) {
+      PriceSegment segment = segments.next();
+      if (!segment.getFrom().isBefore(to)) {
+        return;
+      }
+      if (segment.getTo().isAfter(from)) {
+        consumer.accept(segment.getFrom().isBefore(from) || segment.getTo().isAfter(to)
+                ? new PriceSegment(max(segment.getFrom(), from), min(segment.getTo(), to), segment.getPrice())
+                : segment);
+      }
+    }
+  }
+
+  private static Instant max(Instant first, Instant second) {
+    return first.isAfter(second) ? first : second;
+  }
+
+  private static Instant min(Instant first, Instant second) {
+    return first.isBefore(second) ? first : second;
+  }
+
+  /**
+   * Sweeps the prices sorted by start date, keeping the applicable ones in a priority queue.
+   * A segment ends either when its price ends or when a new price starts, and consecutive
+   * segments of the same price are merged.
+   */
+  private static final class SegmentIterator implements Iterator<PriceSegment> {
+
+    private final Iterator<Prices> pending;
+    private final PriorityQueue<Prices> active = new PriorityQueue<>(BY_PRIORITY);
+    private Prices upcoming;
+    private Instant cursor;
+    private PriceSegment buffered;
+
+    SegmentIterator(Iterator<Prices> pricesByStartDate) {
+      this.pending = pricesByStartDate;
+      this.upcoming = pending.hasNext() ? pending.next() : null;
+      this.buffered = step();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return buffered != null;
+    }
+
+    @Override
+    public PriceSegment next() {
+      if (buffered == null) {
+        throw new NoSuchElementException();
+      }
+      PriceSegment current = buffered;
+      buffered = step();
+      while (buffered != null && buffered.getPrice() == current.getPrice()
+              && buffered.getFrom().equals(current.getTo())) {
+        current = new PriceSegment(current.getFrom(), buffered.getTo(), current.getPrice());
+        buffered = step();
+      }
+      return current;
+    }
+
+    private PriceSegment step() {
+      while (true) {
+        if (active.isEmpty()) {
+          if (upcoming == null) {
+            return null;
+          }
+          cursor = upcoming.getStartDate();
+        }
+        while (upcoming != null && !upcoming.getStartDate().isAfter(cursor)) {
+          active.add(upcoming);
+          upcoming = pending.hasNext() ? pending.next() : null;
+        }
+        while (!active.isEmpty() && !exclusiveEnd(active.peek()).isAfter(cursor)) {
+          active.poll();
+        }
+        if (!active.isEmpty()) {
+          Prices winner = active.peek();
+          Instant to = exclusiveEnd(winner);
+          if (upcoming != null && upcoming.getStartDate().isBefore(to)) {
+            to = upcoming.getStartDate();
+          }
+          PriceSegment segment = new PriceSegment(cursor, to, winner);
+          cursor = to;
+          return segment;
+        }
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,17 @@
+package com.bc.ecommerce.domain.operational;
+
+import lombok.Data;
+
+/**
+ * "PriceChange" is the last change of a price, identified by the change version
+ * it took. The price is null when it has been deleted.
+ */
+@Data
+public class PriceChange {
+    private final long version;
+    private final PriceChangeOperation operation;
+    private final String id;
+    private final String brandId;
+    private final String productId;
+    private final Prices price;
+}
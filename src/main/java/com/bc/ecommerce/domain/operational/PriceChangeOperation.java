@@ -0,0 +1,12 @@
+package com.bc.ecommerce.domain.operational;
+
+/**
+ * "PriceChangeOperation" is the kind of change a price went through after a
+ * given change version: it did not exist before it, it existed and was updated
+ * or it was deleted.
+ */
+public enum PriceChangeOperation {
+    INSERTED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,16 @@
+package com.bc.ecommerce.domain.operational;
+
+import lombok.Data;
+import java.util.List;
+
+/**
+ * "PriceChangesPage" is a page of the price changes after a change version, in
+ * version order. The next page is the one after the version of its last change,
+ * or after the same version if the page is empty.
+ */
+@Data
+public class PriceChangesPage {
+    private final List<PriceChange> changes;
+    private final long next;
+    private final boolean hasMore;
+}
@@ -0,0 +1,25 @@
+package com.bc.ecommerce.domain.operational;
+
+import lombok.Data;
+import java.time.Instant;
+
+/**
+ * "PriceSegment" is the interval [from, to) during which a single price is the one
+ * to be applied for a product and brand, once the priorities of all the overlapping
+ * prices have been resolved.
+ */
+@Data
+public class PriceSegment {
+    private final Instant from;
+    private final Instant to;
+    private final Prices price;
+
+    /**
+     * Checks whether the given instant falls inside the segment.
+     * @param instant The instant.
+     * @return True if from &lt;= instant &lt; to.
+     */
+    public boolean contains(Instant instant) {
+        return !instant.isBefore(from) && instant.isBefore(to);
+    }
+}
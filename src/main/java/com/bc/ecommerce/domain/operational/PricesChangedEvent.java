@@ -0,0 +1,12 @@
+package com.bc.ecommerce.domain.operational;
+
+import lombok.Data;
+
+/**
+ * "PricesChangedEvent" notifies that the prices of a product for a brand have been
+ * inserted, updated or deleted, so every structure derived from them must be rebuilt.
+ */
+@Data
+public class PricesChangedEvent {
+    private final PricesKey key;
+}
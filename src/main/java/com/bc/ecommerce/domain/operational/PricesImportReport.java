@@ -0,0 +1,22 @@
+package com.bc.ecommerce.domain.operational;
+
+import lombok.Data;
+
+/**
+ * "PricesImportReport" summarizes a bulk import of prices: how many prices were
+ * written, in how many chunks, and the throughput achieved.
+ */
+@Data
+public class PricesImportReport {
+    private final long rows;
+    private final long chunks;
+    private final long elapsedMillis;
+
+    /**
+     * Throughput of the import.
+     * @return The prices written per second.
+     */
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rows : rows * 1000d / elapsedMillis;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bc.ecommerce.domain.operational;
+
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import lombok.Data;
+
+/**
+ * "PricesKey" identifies the set of prices of a product for a brand. Every price
+ * resolution is scoped to a single key, so it is used to partition indexes and caches.
+ */
+@Data
+public class PricesKey {
+    private final String brandId;
+    private final String productId;
+
+    /**
+     * Key of the given price.
+     * @param prices The price.
+     * @return The key.
+     */
+    public static PricesKey of(Prices prices) {
+        return new PricesKey(prices.getBrandId(), prices.getProductId());
+    }
+
+    /**
+     * Key of the given search criteria.
+     * @param criteria The criteria.
+     * @return The key.
+     */
+    public static PricesKey of(PricesCriteria criteria) {
+        return new PricesKey(criteria.getBrandId(), criteria.getProductId());
+    }
+
+    /**
+     * Key of the given range search criteria.
+     * @param criteria The criteria.
+     * @return The key.
+     */
+    public static PricesKey of(PricesRangeCriteria criteria) {
+        return new PricesKey(criteria.getBrandId(), criteria.getProductId());
+    }
+}
@@ -0,0 +1,22 @@
+package com.bc.ecommerce.domain.port.in;
+
+import com.bc.ecommerce.domain.operational.PriceChangesPage;
+
+/**
+ * PricesChangesService class.
+ * In com.bc.ecommerce.domain.port.in package.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public interface PricesChangesService {
+
+  /**
+   * Searches a page of the changes of the prices after the given change version.
+   * @param since The exclusive change version to start after, 0 for every price.
+   * @param limit The maximum number of changes of the page.
+   * @return The page.
+   */
+  PriceChangesPage searchChanges(long since, int limit);
+
+}
@@ -0,0 +1,25 @@
+package com.bc.ecommerce.domain.port.in;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import java.util.function.Consumer;
+
+/**
+ * PricesExportService class.
+ * In com.bc.ecommerce.domain.port.in package.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public interface PricesExportService {
+
+  /**
+   * Hands to the consumer, sorted by product, the price pvp to be applied at the issue date for every product of
+   * the brand having one. The prices are handed as they are resolved, so the snapshot does not need to fit in memory.
+   * @param criteria The brand and issue date, and optionally a single product.
+   * @param consumer The consumer of the prices.
+   * @return The number of prices exported.
+   */
+  long exportPrices(PricesCriteria criteria, Consumer<Prices> consumer);
+
+}
@@ -0,0 +1,32 @@
+package com.bc.ecommerce.domain.port.in;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesImportReport;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * PricesImportService class.
+ * In com.bc.ecommerce.domain.port.in package.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public interface PricesImportService {
+
+  /**
+   * Inserts or updates the given prices, identified by product, price list and priority.
+   * The prices are consumed as they are written, so the source does not need to fit in memory.
+   * @param prices The prices to be imported.
+   * @return The import summary.
+   */
+  PricesImportReport importPrices(Iterator<Prices> prices);
+
+  /**
+   * Deletes the prices with the given ids. The ids without price are ignored.
+   * @param ids The ids of the prices to be deleted.
+   * @return The number of prices deleted.
+   */
+  int deletePrices(List<String> ids);
+
+}
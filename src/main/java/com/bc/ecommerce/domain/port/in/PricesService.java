@@ -1,7 +1,13 @@
 package com.bc.ecommerce.domain.port.in;
 
+import com.bc.ecommerce.domain.operational.PriceSegment;
 import com.bc.ecommerce.domain.operational.Prices;
 import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * PricesService class.
@@ -19,4 +25,47 @@ public interface PricesService {
    */
   Prices search(PricesCriteria criteria);
 
+  /**
+   * Builds and retrieves the price pvp detail for the given criteria, together with the interval during
+   * which it stays the price to be applied.
+   * @param criteria The criteria to be applied.
+   * @return The segment of the price pvp to be applied, empty if none applies. Its bounds are null when
+   *     the criteria is not complete.
+   */
+  Optional<PriceSegment> searchSegment(PricesCriteria criteria);
+
+  /**
+   * Non blocking variant of {@link #searchSegment(PricesCriteria)}: the searches that have to wait for the
+   * datastore are resolved on another thread. By default every search is resolved on the caller thread.
+   * @param criteria The criteria to be applied.
+   * @return The segment of the price pvp to be applied, once resolved.
+   */
+  default CompletableFuture<Optional<PriceSegment>> searchSegmentAsync(PricesCriteria criteria) {
+    return CompletableFuture.completedFuture(searchSegment(criteria));
+  }
+
+  /**
+   * Builds and retrieves the price pvp detail for each one of the given criteria.
+   * @param criteria The criteria to be applied.
+   * @return The price pvp to be applied for each criteria, in the same order. An empty price when none applies.
+   */
+  List<Prices> searchAll(List<PricesCriteria> criteria);
+
+  /**
+   * Builds and retrieves the price pvp detail for each one of the given criteria, together with the interval
+   * during which it stays the price to be applied.
+   * @param criteria The criteria to be applied.
+   * @return The segment of the price pvp to be applied for each criteria, in the same order. Empty when none
+   *     applies.
+   */
+  List<Optional<PriceSegment>> searchAllSegments(List<PricesCriteria> criteria);
+
+  /**
+   * Hands to the consumer, sorted by start date, the disjoint segments during which a single price pvp is the one
+   * to be applied for the brand and product within the range, clipped to it.
+   * @param criteria The brand, product and range to be applied, all their fields must be informed.
+   * @param consumer The segments consumer.
+   */
+  void searchSegments(PricesRangeCriteria criteria, Consumer<PriceSegment> consumer);
+
 }
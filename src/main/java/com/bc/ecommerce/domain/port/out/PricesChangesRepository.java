@@ -0,0 +1,24 @@
+package com.bc.ecommerce.domain.port.out;
+
+import com.bc.ecommerce.domain.operational.PriceChange;
+import java.util.List;
+
+/**
+ * PricesChangesRepository class.
+ * In com.bc.ecommerce.domain.port.out package.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public interface PricesChangesRepository {
+
+  /**
+   * Retrieves the changes of the prices inserted, updated or deleted after the given change version: the
+   * last one of each price, in version order.
+   * @param version The exclusive change version to start after.
+   * @param limit The maximum number of changes.
+   * @return The changes.
+   */
+  List<PriceChange> changesSince(long version, int limit);
+
+}
@@ -0,0 +1,21 @@
+package com.bc.ecommerce.domain.port.out;
+
+import com.bc.ecommerce.domain.operational.PricesKey;
+import java.util.function.Consumer;
+
+/**
+ * PricesKeysRepository class.
+ * In com.bc.ecommerce.domain.port.out package.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public interface PricesKeysRepository {
+
+  /**
+   * Hands every brand and product having at least one price to the consumer, once each, as they are read.
+   * @param consumer The consumer of the keys.
+   */
+  void keysProjection(Consumer<PricesKey> consumer);
+
+}
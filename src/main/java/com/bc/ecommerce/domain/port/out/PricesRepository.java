@@ -1,7 +1,15 @@
 package com.bc.ecommerce.domain.port.out;
 
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
 import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
 import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * PricesRepository class.
@@ -19,4 +27,57 @@ public interface PricesRepository {
    */
   Prices pricesProjection(PricesCriteria criteria);
 
+  /**
+   * Builds and retrieves the price pvp detail for each one of the given criteria.
+   * By default resolves them one by one: adapters with a set-based lookup should override it.
+   * @param criteria The criteria to be applied.
+   * @return The price pvp to be applied for each criteria, in the same order. An empty price when none applies.
+   */
+  default List<Prices> pricesProjections(List<PricesCriteria> criteria) {
+    return criteria.stream().map(this::pricesProjection).collect(Collectors.toList());
+  }
+
+  /**
+   * Builds the timeline of all the prices of a product for a brand.
+   * @param key The brand and product.
+   * @return The timeline, empty if there is no price for them.
+   */
+  PricesTimeline timelineProjection(PricesKey key);
+
+  /**
+   * Builds the segment of the timeline of the brand and product of the criteria containing its issue date:
+   * the price to be applied and the interval during which it stays the one to be applied.
+   * @param criteria The criteria to be applied, all its fields must be informed.
+   * @return The segment, empty if no price applies.
+   */
+  default Optional<PriceSegment> segmentProjection(PricesCriteria criteria) {
+    return timelineProjection(PricesKey.of(criteria)).segmentAt(criteria.getIssueDate().toInstant());
+  }
+
+  /**
+   * Builds the segment containing the issue date for each one of the given criteria.
+   * By default resolves them one by one: adapters with a set-based lookup should override it.
+   * @param criteria The criteria to be applied.
+   * @return The segment for each criteria, in the same order. Empty when no price applies or the criteria
+   *     is not complete.
+   */
+  default List<Optional<PriceSegment>> segmentProjections(List<PricesCriteria> criteria) {
+    return criteria.stream()
+            .map(item -> item.getProductId() == null || item.getBrandId() == null || item.getIssueDate() == null
+                    ? Optional.<PriceSegment>empty() : segmentProjection(item))
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * Hands to the consumer, sorted by start date, the segments of the timeline of the brand and product applicable
+   * during the range, clipped to it.
+   * By default builds the whole timeline: adapters able to read the prices of the range sorted should override it.
+   * @param criteria The brand, product and range, all their fields must be informed.
+   * @param consumer The segments consumer.
+   */
+  default void segmentsProjection(PricesRangeCriteria criteria, Consumer<PriceSegment> consumer) {
+    timelineProjection(PricesKey.of(criteria))
+            .segmentsBetween(criteria.getFrom().toInstant(), criteria.getTo().toInstant(), consumer);
+  }
+
 }
@@ -0,0 +1,24 @@
+package com.bc.ecommerce.domain.port.out;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import java.util.function.Consumer;
+
+/**
+ * PricesSnapshotRepository class.
+ * In com.bc.ecommerce.domain.port.out package.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public interface PricesSnapshotRepository {
+
+  /**
+   * Hands to the consumer, sorted by product and as they are read, the price pvp to be applied at the issue date
+   * for every product of the brand having one.
+   * @param criteria The brand and issue date, and optionally a single product.
+   * @param consumer The consumer of the prices.
+   */
+  void snapshotProjection(PricesCriteria criteria, Consumer<Prices> consumer);
+
+}
@@ -0,0 +1,30 @@
+package com.bc.ecommerce.domain.port.out;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import java.util.List;
+
+/**
+ * PricesStore class.
+ * In com.bc.ecommerce.domain.port.out package.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public interface PricesStore {
+
+  /**
+   * Inserts the given prices, or updates them when there is already a price for the same product,
+   * price list and priority. The chunk is written atomically.
+   * @param prices The chunk of prices.
+   */
+  void upsert(List<Prices> prices);
+
+  /**
+   * Deletes the prices with the given ids, leaving a tombstone of each one for the changes feed. The ids
+   * without price are ignored. The chunk is written atomically.
+   * @param ids The ids of the prices.
+   * @return The number of prices deleted.
+   */
+  int delete(List<String> ids);
+
+}
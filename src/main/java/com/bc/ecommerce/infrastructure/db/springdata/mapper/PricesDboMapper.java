@@ -23,6 +23,13 @@ public interface PricesDboMapper {
      */
      Prices map(PricesDbo prices);
 
+    /**
+     * Map each one of the given dbo prices to domain.
+     * @param prices {@link PricesDbo} objects.
+     * @return The mapped domain objects.
+     */
+    List<Prices> mapAll(List<PricesDbo> prices);
+
     /**
      * Map the given dbo prices list to domain.
      * @param prices {@link PricesDbo} object.
@@ -0,0 +1,53 @@
+package com.bc.ecommerce.infrastructure.db.springdata.mapper;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import org.springframework.jdbc.core.RowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * PricesRowMapper class. Hand-written mapper from a prices row straight to the domain, with no
+ * intermediate entity.
+ * In com.bc.ecommerce.infrastructure.db.springdata.mapper.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public final class PricesRowMapper implements RowMapper<Prices> {
+
+    public static final PricesRowMapper INSTANCE = new PricesRowMapper();
+
+    private PricesRowMapper() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Prices mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Prices prices = new Prices();
+        prices.setId(rs.getString(PricesTable.ID.getName()));
+        prices.setBrandId(rs.getString(PricesTable.BRAND_ID.getName()));
+        prices.setProductId(rs.getString(PricesTable.PRODUCT_ID.getName()));
+        prices.setPriceList(integer(rs, PricesTable.PRICE_LIST.getName()));
+        prices.setStartDate(instant(rs.getTimestamp(PricesTable.START_DATE.getName())));
+        prices.setEndDate(instant(rs.getTimestamp(PricesTable.END_DATE.getName())));
+        prices.setPrice(rs.getBigDecimal(PricesTable.PRICE.getName()));
+        prices.setCurrency(rs.getString(PricesTable.CURRENCY.getName()));
+        prices.setPriority(integer(rs, PricesTable.PRIORITY.getName()));
+        return prices;
+    }
+
+    private static Integer integer(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+}
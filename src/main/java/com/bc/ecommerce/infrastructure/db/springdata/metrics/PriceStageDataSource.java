@@ -0,0 +1,119 @@
+package com.bc.ecommerce.infrastructure.db.springdata.metrics;
+
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * PriceStageDataSource class. Times the connections and statements of the lookup in progress.
+ * In com.bc.ecommerce.infrastructure.db.springdata.metrics package.
+ * Acquiring a connection is timed as the connection stage and executing a statement as the query stage of
+ * the {@link PriceStageTimings} bound to the thread. The connections acquired by a thread without timings
+ * (migrations, imports, exports) are handed over untouched.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PriceStageDataSource extends DelegatingDataSource {
+
+  /**
+   * Creates the data source.
+   *
+   * @param dataSource The pool of connections.
+   */
+  public PriceStageDataSource(DataSource dataSource) {
+    super(dataSource);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (PriceStageTimings.current() == null) {
+      return super.getConnection();
+    }
+    try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.CONNECTION)) {
+      return timed(super.getConnection());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (PriceStageTimings.current() == null) {
+      return super.getConnection(username, password);
+    }
+    try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.CONNECTION)) {
+      return timed(super.getConnection(username, password));
+    }
+  }
+
+  /**
+   * Wraps the connection so the statements it creates are timed.
+   *
+   * @param connection The connection.
+   * @return The wrapped connection.
+   */
+  private static Connection timed(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(PriceStageDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+              Object result = invoke(proxy, connection, method, args);
+              return result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())
+                      ? timed((Statement) result, method.getReturnType()) : result;
+            });
+  }
+
+  /**
+   * Wraps the statement so its executions are timed as the query stage.
+   *
+   * @param statement The statement.
+   * @param type The statement interface: Statement, PreparedStatement or CallableStatement.
+   * @return The wrapped statement.
+   */
+  private static Statement timed(Statement statement, Class<?> type) {
+    return (Statement) Proxy.newProxyInstance(PriceStageDataSource.class.getClassLoader(),
+            new Class<?>[] {type}, (proxy, method, args) -> {
+              if (!method.getName().startsWith("execute")) {
+                return invoke(proxy, statement, method, args);
+              }
+              try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.QUERY)) {
+                return invoke(proxy, statement, method, args);
+              }
+            });
+  }
+
+  /**
+   * Invokes the method on the wrapped target. A proxy is only equal to itself.
+   *
+   * @param proxy The proxy.
+   * @param target The wrapped target.
+   * @param method The method.
+   * @param args The arguments.
+   * @return The result.
+   * @throws Throwable What the method throws.
+   */
+  private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+    if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+      return proxy == args[0];
+    }
+    if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+      return System.identityHashCode(proxy);
+    }
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+}
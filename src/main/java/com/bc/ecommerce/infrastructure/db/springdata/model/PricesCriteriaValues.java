@@ -0,0 +1,21 @@
+package com.bc.ecommerce.infrastructure.db.springdata.model;
+
+/**
+ * PricesCriteriaValues class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.model package.
+ * Inline relation (values list) holding the criteria of a batch lookup.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public class PricesCriteriaValues {
+
+  public static final String NAME = "criteria";
+  public static final Column PRODUCT_ID = Column.of(NAME, "product_id");
+  public static final Column BRAND_ID = Column.of(NAME, "brand_id");
+  public static final Column ISSUE_DATE = Column.of(NAME, "issue_date");
+
+  private PricesCriteriaValues() {
+  }
+
+}
@@ -0,0 +1,23 @@
+package com.bc.ecommerce.infrastructure.db.springdata.model;
+
+import java.util.List;
+
+/**
+ * PricesKeysProjection class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.model package.
+ * Brand and product of the prices relation.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public class PricesKeysProjection implements Projection {
+
+  @Override
+  public List<Column> getColumns() {
+    return List.of(
+            PricesTable.BRAND_ID,
+            PricesTable.PRODUCT_ID
+    );
+  }
+
+}
@@ -0,0 +1,45 @@
+package com.bc.ecommerce.infrastructure.db.springdata.model;
+
+import java.util.List;
+
+/**
+ * PricesTimelineTable class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.model package.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public class PricesTimelineTable {
+
+  public static final String NAME = "public.prices_timeline";
+  public static final Column BRAND_ID = Column.of(NAME, "brand_id");
+  public static final Column PRODUCT_ID = Column.of(NAME, "product_id");
+  public static final Column SEGMENT_START = Column.of(NAME, "segment_start");
+  public static final Column SEGMENT_END = Column.of(NAME, "segment_end");
+  public static final Column ID = Column.of(NAME, "id");
+  public static final Column PRICE_LIST = Column.of(NAME, "price_list");
+  public static final Column START_DATE = Column.of(NAME, "start_date");
+  public static final Column END_DATE = Column.of(NAME, "end_date");
+  public static final Column PRICE = Column.of(NAME, "price");
+  public static final Column CURRENCY = Column.of(NAME, "currency");
+  public static final Column PRIORITY = Column.of(NAME, "priority");
+
+  /**
+   * The columns of the segment price, in the same order as {@link PricesDbo#getColumns()}.
+   */
+  public static final Projection PRICES = () -> List.of(
+          ID,
+          BRAND_ID,
+          PRODUCT_ID,
+          PRICE_LIST,
+          START_DATE,
+          END_DATE,
+          PRICE,
+          CURRENCY,
+          PRIORITY
+  );
+
+  private PricesTimelineTable() {
+  }
+
+}
@@ -1,6 +1,10 @@
 package com.bc.ecommerce.infrastructure.db.springdata.query;
 
 import com.bc.ecommerce.infrastructure.db.springdata.model.Projection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
@@ -24,4 +28,54 @@ public interface CustomQuery {
    */
   <T extends Projection> List<T> doQuery(EntityManager entityManager, Class<T> outClass);
 
+  /**
+   * Executes the custom query with a plain prepared statement, out of the persistence context, mapping
+   * every row with the given mapper.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param rowMapper The row mapper.
+   * @param <T> The item result type.
+   * @return The result.
+   */
+  <T> List<T> doQuery(JdbcTemplate jdbcTemplate, RowMapper<T> rowMapper);
+
+  /**
+   * Executes the custom query with a plain prepared statement, handing every row to the handler as it
+   * is read instead of collecting them.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param rowHandler The row handler.
+   */
+  void doQuery(JdbcTemplate jdbcTemplate, RowCallbackHandler rowHandler);
+
+  /**
+   * Executes the custom query with a plain prepared statement, handing the result set to the extractor, which
+   * pulls the rows as it needs them. The driver fetches them from the database in chunks of the given size.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param fetchSize The number of rows fetched at once.
+   * @param extractor The result set extractor.
+   * @param <T> The result type.
+   * @return The result.
+   */
+  <T> T doQuery(JdbcTemplate jdbcTemplate, int fetchSize, ResultSetExtractor<T> extractor);
+
+  /**
+   * The sql of the custom query with its values bound, for the clients executing it by themselves.
+   *
+   * @return The bound sql template.
+   */
+  SqlTemplate.Bound bound();
+
+  /**
+   * The custom query with its values bound, whose executions slower than the threshold of the slow query log are
+   * captured by it.
+   *
+   * @param slowQueryLog The slow query log, null to capture none.
+   * @return The bound sql template.
+   */
+  default SqlTemplate.Bound recordedBy(SlowQueryLog slowQueryLog) {
+    return bound().recordedBy(slowQueryLog);
+  }
+
 }
@@ -1,21 +1,24 @@
 package com.bc.ecommerce.infrastructure.db.springdata.query;
 
-import com.bc.ecommerce.application.exception.ProblemsPersistingException;
+import com.bc.ecommerce.application.jfr.SqlBuildEvent;
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
 import com.bc.ecommerce.infrastructure.db.springdata.model.Column;
 import com.bc.ecommerce.infrastructure.db.springdata.model.ColumnDerived;
 import com.bc.ecommerce.infrastructure.db.springdata.model.ColumnExpression;
 import com.bc.ecommerce.infrastructure.db.springdata.model.ColumnSubquery;
 import com.bc.ecommerce.infrastructure.db.springdata.model.Projection;
 import io.micrometer.core.instrument.util.StringUtils;
-import lombok.extern.slf4j.Slf4j;
 import org.mapstruct.ap.internal.util.Collections;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import javax.persistence.EntityManager;
-import javax.persistence.Query;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -27,10 +30,10 @@ import java.util.stream.Collectors;
  * @author Álvaro Carmona.
  * @since 27/01/2024
  */
-@Slf4j
 public class DefaultCustomQueryBuilder implements CustomQuery {
 
   private static final String TEMPLATE_POSITIONAL_PARAM = "?%d";
+  private static final String COMPILE_EVENT_QUERY = "compile";
 
   private StringBuilder queryBuilder = new StringBuilder();
   private Map<String, String> tableAliases = new HashMap<>();
@@ -47,12 +50,72 @@ public class DefaultCustomQueryBuilder implements CustomQuery {
    */
   @Override
   public <T extends Projection> List<T> doQuery(EntityManager entityManager, Class<T> outClass) {
-    try {
-      return prepare(entityManager, queryBuilder.toString(), Optional.of(outClass)).getResultList();
-    } catch (Exception e) {
-      throw new ProblemsPersistingException(e.getMessage(), e);
+    return bound().doQuery(entityManager, outClass);
+  }
+
+  /**
+   * Executes the custom query with a plain prepared statement.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param rowMapper The row mapper.
+   * @param <T> The item result type.
+   * @return The result.
+   */
+  @Override
+  public <T> List<T> doQuery(JdbcTemplate jdbcTemplate, RowMapper<T> rowMapper) {
+    return bound().doQuery(jdbcTemplate, rowMapper);
+  }
+
+  /**
+   * Executes the custom query with a plain prepared statement, handing every row to the handler as it
+   * is read.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param rowHandler The row handler.
+   */
+  @Override
+  public void doQuery(JdbcTemplate jdbcTemplate, RowCallbackHandler rowHandler) {
+    bound().doQuery(jdbcTemplate, rowHandler);
+  }
+
+  /**
+   * Executes the custom query with a plain prepared statement, handing the result set to the extractor.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param fetchSize The number of rows fetched at once.
+   * @param extractor The result set extractor.
+   * @param <T> The result type.
+   * @return The result.
+   */
+  @Override
+  public <T> T doQuery(JdbcTemplate jdbcTemplate, int fetchSize, ResultSetExtractor<T> extractor) {
+    return bound().doQuery(jdbcTemplate, fetchSize, extractor);
+  }
+
+  /**
+   * {@inheritDoc}
+   * Compiling the sql is timed as the sql.build stage, and emitted as a {@link SqlBuildEvent} when enabled.
+   */
+  @Override
+  public SqlTemplate.Bound bound() {
+    SqlBuildEvent event = SqlBuildEvent.start();
+    try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.SQL_BUILD)) {
+      Object[] values = new Object[position];
+      params.forEach((paramPosition, value) -> values[paramPosition - 1] = value);
+      SqlTemplate template = compile();
+      event.finish(COMPILE_EVENT_QUERY, template.getSql(), position);
+      return template.bind(values);
     }
+  }
 
+  /**
+   * Freezes the sql built so far into an immutable template. The params added up to now only determine
+   * the number of positional params: their values must be bound again on every {@link SqlTemplate#bind}.
+   *
+   * @return The sql template.
+   */
+  public SqlTemplate compile() {
+    return new SqlTemplate(queryBuilder.toString(), position);
   }
 
   /**
@@ -70,6 +133,18 @@ public class DefaultCustomQueryBuilder implements CustomQuery {
     return columns(projection, fromTable, onTheFlyColumns);
   }
 
+  /**
+   * Builds a select distinct column1, column2, ..., columnN from table basic query.
+   *
+   * @param projection The projection to extract the columns to include in the select.
+   * @param fromTable The first table appearing in the sql query (and the alias).
+   * @return This builder.
+   */
+  public DefaultCustomQueryBuilder selectDistinct(Projection projection, String fromTable) {
+    queryBuilder.append("select distinct ");
+    return columns(projection, fromTable);
+  }
+
   /**
    * Adds the column projections and the from to the query.
    *
@@ -165,21 +240,87 @@ public class DefaultCustomQueryBuilder implements CustomQuery {
   /**
    * Ables to create an between clause given a specific interval
    *
-   * @param issueDate The issue date to be applied.
+   * @param issueDate The issue date to be applied, bound as a positional param (never inlined).
+   * @param sqlColumnStart Start date.
+   * @param sqlColumnEnd End date.
+   * @return The formed clause.
+   */
+  public String between(Object issueDate,  Column sqlColumnStart, Column sqlColumnEnd) {
+    return  addParam(issueDate) +
+            " between " +
+            column(sqlColumnStart) +
+            " and " +
+            column(sqlColumnEnd);
+  }
+
+  /**
+   * Ables to create an between clause where the value is another column.
+   *
+   * @param sqlColumn The column holding the value.
    * @param sqlColumnStart Start date.
    * @param sqlColumnEnd End date.
    * @return The formed clause.
    */
-  public String between(String issueDate,  Column sqlColumnStart, Column sqlColumnEnd) {
-    return  "'" +
-            issueDate +
-            "'" +
+  public String betweenColumns(Column sqlColumn, Column sqlColumnStart, Column sqlColumnEnd) {
+    return  column(sqlColumn) +
             " between " +
             column(sqlColumnStart) +
             " and " +
             column(sqlColumnEnd);
   }
 
+  /**
+   * Adds an inner join with the given relation to the query.
+   *
+   * @param relation The relation, a table or an inline relation such as {@link #values}.
+   * @param on The join condition.
+   * @return This builder.
+   */
+  public DefaultCustomQueryBuilder join(String relation, String on) {
+    queryBuilder.append(" join ");
+    queryBuilder.append(relation);
+    queryBuilder.append(" on ");
+    queryBuilder.append(on);
+    return this;
+  }
+
+  /**
+   * Creates an inline relation "(values row1, ..., rowN) alias(column1, ..., columnN)".
+   * The alias is the one configured for the table of the columns.
+   *
+   * @param table The name of the inline relation.
+   * @param columns The columns of the inline relation.
+   * @param rows Each one of the rows, see {@link #row}.
+   * @return The inline relation.
+   */
+  public String values(String table, List<Column> columns, List<String> rows) {
+    return String.format("(values %s) %s(%s)",
+            String.join(", ", rows),
+            tableAliases.getOrDefault(table, table),
+            columns.stream().map(Column::getName).collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * Creates a row of an inline relation: "(value1, ..., valueN)".
+   *
+   * @param values The values of the row, usually positional params.
+   * @return The row.
+   */
+  public String row(String... values) {
+    return String.format("(%s)", String.join(", ", values));
+  }
+
+  /**
+   * Casts an expression to the given sql type.
+   *
+   * @param expression The expression.
+   * @param type The sql type.
+   * @return The cast expression.
+   */
+  public String cast(String expression, String type) {
+    return String.format("cast(%s as %s)", expression, type);
+  }
+
   /**
    * Sets the where section.
    * @return This builder.
@@ -207,6 +348,38 @@ public class DefaultCustomQueryBuilder implements CustomQuery {
     return this;
   }
 
+  /**
+   * Sorts the query result by the given orders.
+   *
+   * @param orders The orders, see {@link #asc} and {@link #desc}.
+   * @return This builder.
+   */
+  public DefaultCustomQueryBuilder orderBy(String... orders) {
+    queryBuilder.append(" order by ");
+    queryBuilder.append(String.join(", ", orders));
+    return this;
+  }
+
+  /**
+   * Creates an ascending order "column asc".
+   *
+   * @param column The column.
+   * @return The order.
+   */
+  public String asc(Column column) {
+    return String.format("%s asc", column(column));
+  }
+
+  /**
+   * Creates a descending order "column desc".
+   *
+   * @param column The column.
+   * @return The order.
+   */
+  public String desc(Column column) {
+    return String.format("%s desc", column(column));
+  }
+
   /**
    * Limit query result
    */
@@ -226,6 +399,15 @@ public class DefaultCustomQueryBuilder implements CustomQuery {
     return String.format(TEMPLATE_POSITIONAL_PARAM, position);
   }
 
+  /**
+   * The number of positional params added so far.
+   *
+   * @return The position of the last param.
+   */
+  public int getParamCount() {
+    return position;
+  }
+
   /**
    * Creates a simple expression "column = value".
    * @param column The column for the expression.
@@ -236,6 +418,56 @@ public class DefaultCustomQueryBuilder implements CustomQuery {
     return value != null ? String.format("%s = %s", column(column), addParam(value)) : null;
   }
 
+  /**
+   * Creates a simple expression "column = otherColumn".
+   * @param column The column for the expression.
+   * @param other The other column for the expression.
+   * @return The expression.
+   */
+  public String eqColumns(Column column, Column other) {
+    return String.format("%s = %s", column(column), column(other));
+  }
+
+  /**
+   * Creates a simple expression "column &lt;= value".
+   * @param column The column for the expression.
+   * @param value The value for the expression.
+   * @return The expression.
+   */
+  public String le(Column column, Object value) {
+    return value != null ? String.format("%s <= %s", column(column), addParam(value)) : null;
+  }
+
+  /**
+   * Creates a simple expression "column &gt; value".
+   * @param column The column for the expression.
+   * @param value The value for the expression.
+   * @return The expression.
+   */
+  public String gt(Column column, Object value) {
+    return value != null ? String.format("%s > %s", column(column), addParam(value)) : null;
+  }
+
+  /**
+   * Creates a simple expression "column &gt;= value".
+   * @param column The column for the expression.
+   * @param value The value for the expression.
+   * @return The expression.
+   */
+  public String ge(Column column, Object value) {
+    return value != null ? String.format("%s >= %s", column(column), addParam(value)) : null;
+  }
+
+  /**
+   * Creates a simple expression "column &lt; value".
+   * @param column The column for the expression.
+   * @param value The value for the expression.
+   * @return The expression.
+   */
+  public String lt(Column column, Object value) {
+    return value != null ? String.format("%s < %s", column(column), addParam(value)) : null;
+  }
+
   /**
    * Encloses an expression using parentheses.
    *
@@ -313,33 +545,4 @@ public class DefaultCustomQueryBuilder implements CustomQuery {
     }
   }
 
-  /**
-   * This method creates and prepares the query to be executed. It is important to note that all the
-   * user parameters are set via setParameter, but Sonar is unable to infer this.
-   *
-   * @param em The entity manager.
-   * @param preparedSql The prepared sql statement.
-   * @param optional The optional result item class.
-   * @return The jpa query.
-   */
-  private Query prepare(EntityManager em, String preparedSql, Optional<Class<?>> optional) {
-    log.debug("Prepared query {}. Params {}", preparedSql, this.params);
-    return optional
-            .map(clazz -> setParams(em.createNativeQuery(preparedSql, clazz)))
-            .orElseGet(() -> setParams(em.createNativeQuery(preparedSql)));
-  }
-
-  /**
-   * Prepares the query with the parameters.
-   *
-   * @param nativeQuery The parametrized query.
-   * @return The prepared query.
-   */
-  private Query setParams(Query nativeQuery) {
-    for (Integer paramPosition : this.params.keySet()) {
-      nativeQuery.setParameter(paramPosition, this.params.get(paramPosition));
-    }
-    return nativeQuery;
-  }
-
 }
@@ -0,0 +1,49 @@
+package com.bc.ecommerce.infrastructure.db.springdata.query;
+
+import lombok.Getter;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Slow query class. A query execution captured by {@link SlowQueryLog}.
+ * In com.bc.ecommerce.infrastructure.db.springdata.query.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Getter
+public final class SlowQuery {
+
+  private final Instant at;
+  private final String sql;
+  private final Map<Integer, String> params;
+  private final double elapsedMillis;
+  private final String thread;
+
+  /**
+   * Execution plan of the statement, null until explained or if it is not.
+   */
+  private volatile String plan;
+
+  /**
+   * Creates a slow query.
+   *
+   * @param at When the execution finished.
+   * @param sql The sql sentence with positional params (?1, ?2, ..., ?N).
+   * @param params The value of each positional param.
+   * @param elapsedMillis The elapsed time of the execution.
+   * @param thread The thread that executed it.
+   */
+  SlowQuery(Instant at, String sql, Map<Integer, String> params, double elapsedMillis, String thread) {
+    this.at = at;
+    this.sql = sql;
+    this.params = params;
+    this.elapsedMillis = elapsedMillis;
+    this.thread = thread;
+  }
+
+  void setPlan(String plan) {
+    this.plan = plan;
+  }
+
+}
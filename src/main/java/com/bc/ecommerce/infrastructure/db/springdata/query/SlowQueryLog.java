@@ -0,0 +1,160 @@
+package com.bc.ecommerce.infrastructure.db.springdata.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Slow query log class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.query.
+ * Captures every query execution slower than the threshold (its sql, params, elapsed time and, optionally, its
+ * execution plan) into a ring buffer holding the latest ones, and logs it once at WARN. A faster execution only
+ * costs a comparison. The plan is explained afterwards, away from the request, with the same params: the
+ * explanations that do not fit in the queue of the explainer are skipped.
+ * Only the executions of the queries recorded by it, see {@link CustomQuery#recordedBy}, are captured.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Slf4j
+public class SlowQueryLog {
+
+  private final long thresholdNanos;
+  private final AtomicReferenceArray<SlowQuery> entries;
+  private final AtomicLong captured = new AtomicLong();
+  private final JdbcTemplate jdbcTemplate;
+  private final ThreadPoolExecutor explainer;
+
+  /**
+   * Creates a slow query log.
+   *
+   * @param threshold Executions taking longer are captured.
+   * @param capacity Number of captured executions kept, the oldest are overwritten.
+   * @param jdbcTemplate The jdbc template the plans are explained with, null to not explain them.
+   */
+  public SlowQueryLog(Duration threshold, int capacity, JdbcTemplate jdbcTemplate) {
+    this.thresholdNanos = threshold.toNanos();
+    this.entries = new AtomicReferenceArray<>(capacity);
+    this.jdbcTemplate = jdbcTemplate;
+    if (jdbcTemplate == null) {
+      this.explainer = null;
+    } else {
+      this.explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+              runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-explainer");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+  }
+
+  /**
+   * Captures the execution if it is slower than the threshold.
+   *
+   * @param query The query executed.
+   * @param elapsedNanos The elapsed time of the execution.
+   */
+  void record(SqlTemplate.Bound query, long elapsedNanos) {
+    if (elapsedNanos < thresholdNanos) {
+      return;
+    }
+    Object[] values = query.getValues();
+    Map<Integer, String> params = new LinkedHashMap<>();
+    for (int i = 0; i < values.length; i++) {
+      params.put(i + 1, String.valueOf(values[i]));
+    }
+    SlowQuery entry = new SlowQuery(Instant.now(), query.getTemplate().getSql(), params, elapsedNanos / 1_000_000d,
+            Thread.currentThread().getName());
+    entries.set((int) (captured.getAndIncrement() % entries.length()), entry);
+    log.warn("Slow query, {} ms: {}. Params {}", Math.round(entry.getElapsedMillis()), entry.getSql(), params);
+    if (explainer != null) {
+      try {
+        explainer.execute(() -> explain(query, entry));
+      } catch (RejectedExecutionException e) {
+        log.debug("Slow query not explained, the explainer is busy.");
+      }
+    }
+  }
+
+  /**
+   * The captured executions still kept, the latest first.
+   *
+   * @return The slow queries.
+   */
+  public List<SlowQuery> getEntries() {
+    long last = captured.get();
+    List<SlowQuery> latest = new ArrayList<>(entries.length());
+    for (long i = last - 1; i >= 0 && i >= last - entries.length(); i--) {
+      SlowQuery entry = entries.get((int) (i % entries.length()));
+      if (entry != null) {
+        latest.add(entry);
+      }
+    }
+    return latest;
+  }
+
+  /**
+   * Number of executions captured so far, including the ones overwritten.
+   *
+   * @return The captured executions.
+   */
+  public long getCaptured() {
+    return captured.get();
+  }
+
+  /**
+   * The threshold.
+   *
+   * @return Executions taking longer are captured.
+   */
+  public Duration getThreshold() {
+    return Duration.ofNanos(thresholdNanos);
+  }
+
+  /**
+   * Forgets the captured executions.
+   */
+  public void clear() {
+    for (int i = 0; i < entries.length(); i++) {
+      entries.set(i, null);
+    }
+  }
+
+  /**
+   * Stops explaining plans.
+   */
+  public void shutdown() {
+    if (explainer != null) {
+      explainer.shutdownNow();
+    }
+  }
+
+  /**
+   * Explains the plan of the query with the same params.
+   *
+   * @param query The query.
+   * @param entry Its captured execution.
+   */
+  private void explain(SqlTemplate.Bound query, SlowQuery entry) {
+    try {
+      List<String> plan = jdbcTemplate.query("explain " + query.getTemplate().getJdbcSql(), query::setParams,
+              (resultSet, rowNum) -> resultSet.getString(1));
+      entry.setPlan(String.join("\n", plan));
+    } catch (RuntimeException e) {
+      log.debug("Slow query not explained: {}", e.getMessage());
+      entry.setPlan("not explained: " + e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,273 @@
+package com.bc.ecommerce.infrastructure.db.springdata.query;
+
+import com.bc.ecommerce.application.exception.ProblemsPersistingException;
+import com.bc.ecommerce.application.jfr.PriceLookupEvent;
+import com.bc.ecommerce.application.jfr.SqlExecutionEvent;
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import com.bc.ecommerce.application.tracing.Span;
+import com.bc.ecommerce.infrastructure.db.springdata.model.Projection;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sql template class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.query.
+ * Immutable sql sentence with positional params (?1, ?2, ..., ?N), compiled once by
+ * {@link DefaultCustomQueryBuilder#compile()} and shared between requests: per request only the
+ * values are bound. The same sentence is kept in plain JDBC form, where every param is a ? bound by
+ * its index of appearance, and in native form, where ?N is written $N as the R2DBC drivers expect.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Getter
+public final class SqlTemplate {
+
+  private static final Pattern POSITIONAL_PARAM = Pattern.compile("\\?(\\d+)");
+
+  private final String sql;
+  private final int paramCount;
+  private final String jdbcSql;
+  private final int[] jdbcParams;
+  private final String nativeSql;
+
+  /**
+   * Creates a sql template.
+   *
+   * @param sql The sql sentence with positional params.
+   * @param paramCount The number of positional params.
+   */
+  public SqlTemplate(String sql, int paramCount) {
+    this.sql = sql;
+    this.paramCount = paramCount;
+    List<Integer> positions = new ArrayList<>();
+    Matcher matcher = POSITIONAL_PARAM.matcher(sql);
+    StringBuilder jdbc = new StringBuilder();
+    while (matcher.find()) {
+      positions.add(Integer.parseInt(matcher.group(1)));
+      matcher.appendReplacement(jdbc, "?");
+    }
+    matcher.appendTail(jdbc);
+    this.jdbcSql = jdbc.toString();
+    this.jdbcParams = positions.stream().mapToInt(Integer::intValue).toArray();
+    this.nativeSql = POSITIONAL_PARAM.matcher(sql).replaceAll("\\$$1");
+  }
+
+  /**
+   * Binds the values to the positional params, in order.
+   *
+   * @param values The values for ?1, ?2, ..., ?N.
+   * @return The query ready to be executed.
+   */
+  public Bound bind(Object... values) {
+    if (values.length != paramCount) {
+      throw new IllegalArgumentException(String.format("Expected %d params but got %d", paramCount, values.length));
+    }
+    return new Bound(this, values, null);
+  }
+
+  /**
+   * A sql template with its values bound. Executing it is timed as the hydration stage of the lookup in
+   * progress, if any, but for the connection and query stages within, and captured by the {@link SlowQueryLog}
+   * it is recorded by, if any, when it is slow. It is traced as a sql span too, and emitted as a flight recorder
+   * event when enabled.
+   */
+  @Slf4j
+  @Getter
+  public static final class Bound implements CustomQuery {
+
+    private static final String SPAN = "sql";
+    private static final String SPAN_QUERY_TAG = "sql.query";
+
+    private final SqlTemplate template;
+    private final Object[] values;
+    private final SlowQueryLog slowQueryLog;
+
+    private Bound(SqlTemplate template, Object[] values, SlowQueryLog slowQueryLog) {
+      this.template = template;
+      this.values = values;
+      this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Bound bound() {
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Bound recordedBy(SlowQueryLog slowQueryLog) {
+      return new Bound(template, values, slowQueryLog);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Projection> List<T> doQuery(EntityManager entityManager, Class<T> outClass) {
+      return execute(() -> setParams(entityManager.createNativeQuery(template.getSql(), outClass)).getResultList(),
+              List::size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> List<T> doQuery(JdbcTemplate jdbcTemplate, RowMapper<T> rowMapper) {
+      return execute(() -> jdbcTemplate.query(template.getJdbcSql(), this::setParams, rowMapper), List::size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void doQuery(JdbcTemplate jdbcTemplate, RowCallbackHandler rowHandler) {
+      long[] rows = new long[1];
+      execute(() -> {
+        jdbcTemplate.query(template.getJdbcSql(), this::setParams, (RowCallbackHandler) resultSet -> {
+          rows[0]++;
+          rowHandler.processRow(resultSet);
+        });
+        return rows[0];
+      }, Long::longValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The rows are usually streamed to a client as they are read, so only the time until the first one can be
+     * read counts towards the slow query threshold.
+     */
+    @Override
+    public <T> T doQuery(JdbcTemplate jdbcTemplate, int fetchSize, ResultSetExtractor<T> extractor) {
+      SqlExecutionEvent event = SqlExecutionEvent.start();
+      long start = System.nanoTime();
+      try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.HYDRATION);
+           Span.Scope span = enterSpan()) {
+        try {
+          return jdbcTemplate.query(template.getJdbcSql(), statement -> {
+            setParams(statement);
+            statement.setFetchSize(fetchSize);
+          }, resultSet -> {
+            record(System.nanoTime() - start);
+            return extractor.extractData(resultSet);
+          });
+        } catch (RuntimeException e) {
+          span.error(e);
+          throw e;
+        }
+      } catch (Exception e) {
+        throw new ProblemsPersistingException(e.getMessage(), e);
+      } finally {
+        event.finish(template.getSql(), -1);
+      }
+    }
+
+    /**
+     * Runs the execution within the hydration stage and a sql span, hands its elapsed time to the slow query
+     * log, and its rows to the lookup in progress and to a {@link SqlExecutionEvent}, when enabled.
+     *
+     * @param execution The execution.
+     * @param rowCount Counts the rows of the result.
+     * @param <R> The result type.
+     * @return The result.
+     */
+    private <R> R execute(Supplier<R> execution, ToLongFunction<R> rowCount) {
+      SqlExecutionEvent event = SqlExecutionEvent.start();
+      long start = System.nanoTime();
+      long rows = -1;
+      try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.HYDRATION);
+           Span.Scope span = enterSpan()) {
+        try {
+          R result = execution.get();
+          rows = rowCount.applyAsLong(result);
+          PriceLookupEvent.scanned(rows);
+          return result;
+        } catch (RuntimeException e) {
+          span.error(e);
+          throw e;
+        }
+      } catch (Exception e) {
+        throw new ProblemsPersistingException(e.getMessage(), e);
+      } finally {
+        record(System.nanoTime() - start);
+        event.finish(template.getSql(), rows);
+      }
+    }
+
+    /**
+     * Hands the elapsed time of an execution to the slow query log, if any.
+     *
+     * @param elapsedNanos The elapsed time.
+     */
+    private void record(long elapsedNanos) {
+      if (slowQueryLog != null) {
+        slowQueryLog.record(this, elapsedNanos);
+      }
+    }
+
+    /**
+     * Enters the span of the execution, a child of the span in progress, if any, tagged with the sql sentence but
+     * not its values.
+     *
+     * @return The scope of the span.
+     */
+    private Span.Scope enterSpan() {
+      return Span.enter(SPAN).tag(SPAN_QUERY_TAG, template.getSql());
+    }
+
+    /**
+     * Prepares the statement with the parameters, in their order of appearance.
+     *
+     * @param statement The prepared statement.
+     * @throws SQLException If a parameter can not be set.
+     */
+    void setParams(PreparedStatement statement) throws SQLException {
+      if (log.isTraceEnabled()) {
+        log.trace("Prepared statement {}. Params {}", template.getJdbcSql(), Arrays.toString(values));
+      }
+      int[] params = template.getJdbcParams();
+      for (int i = 0; i < params.length; i++) {
+        statement.setObject(i + 1, values[params[i] - 1]);
+      }
+    }
+
+    /**
+     * Prepares the query with the parameters.
+     *
+     * @param nativeQuery The parametrized query.
+     * @return The prepared query.
+     */
+    private Query setParams(Query nativeQuery) {
+      if (log.isTraceEnabled()) {
+        log.trace("Prepared query {}. Params {}", template.getSql(), Arrays.toString(values));
+      }
+      for (int i = 0; i < values.length; i++) {
+        nativeQuery.setParameter(i + 1, values[i]);
+      }
+      return nativeQuery;
+    }
+
+  }
+
+}
@@ -1,27 +1,46 @@
 package com.bc.ecommerce.infrastructure.db.springdata.repository;
 
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
 import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
 import com.bc.ecommerce.domain.port.out.PricesRepository;
 import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesDboMapper;
 import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
 import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
 import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import static com.bc.ecommerce.infrastructure.db.springdata.repository.PricesProjections.complete;
+import static com.bc.ecommerce.infrastructure.db.springdata.repository.PricesProjections.timelines;
 
 /**
  * DefaultPricesRepository class.
  * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Resolves every price with a native query against the datastore. Default adapter.
+ * Mapping the entities to the domain is timed as the mapping stage of the lookup in progress, if any.
  *
  * @author Álvaro Carmona.
  * @since 27/01/2024
  */
 @Repository
+@ConditionalOnProperty(name = "ecommerce.prices.repository", havingValue = "sql", matchIfMissing = true)
 public class DefaultPricesRepository implements PricesRepository {
 
   @PersistenceContext
@@ -30,13 +49,94 @@ public class DefaultPricesRepository implements PricesRepository {
   @Autowired
   private PricesDboMapper mapper;
 
+  @Autowired(required = false)
+  private SlowQueryLog slowQueryLog;
+
   /**
    * {@inheritDoc}
    */
   @Override
   public Prices pricesProjection(PricesCriteria criteria) {
-    List<PricesDbo> dbos = QueryBuilder.retrieve(criteria).doQuery(entityManager, PricesDbo.class);
-    return mapper.map(Objects.nonNull(dbos) ? dbos : new ArrayList<>());
+    List<PricesDbo> dbos = QueryBuilder.retrieve(criteria).recordedBy(slowQueryLog)
+            .doQuery(entityManager, PricesDbo.class);
+    try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.MAPPING)) {
+      return mapper.map(Objects.nonNull(dbos) ? dbos : new ArrayList<>());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * Retrieves with a single query every price applicable to any of the criteria, and then picks for each
+   * criteria the one with the highest priority. A criteria with missing fields does not match any price.
+   */
+  @Override
+  public List<Prices> pricesProjections(List<PricesCriteria> criteria) {
+    List<PricesCriteria> complete = complete(criteria);
+    Map<PricesKey, PricesTimeline> timelines = complete.isEmpty() ? Map.of() :
+            timelines(mapAll(QueryBuilder.retrieveBatch(complete).recordedBy(slowQueryLog)
+                    .doQuery(entityManager, PricesDbo.class)));
+    return criteria.stream()
+            .map(item -> {
+              PricesTimeline timeline = timelines.get(PricesKey.of(item));
+              return timeline == null || item.getIssueDate() == null ? new Prices()
+                      : timeline.priceAt(item.getIssueDate().toInstant());
+            })
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * {@inheritDoc}
+   * Retrieves with a single query every price of the brands and products of the criteria, since a price starting
+   * after the issue date may bound the segment, and then resolves for each criteria the segment containing its
+   * issue date. A criteria with missing fields does not match any price.
+   */
+  @Override
+  public List<Optional<PriceSegment>> segmentProjections(List<PricesCriteria> criteria) {
+    Set<PricesKey> keys = complete(criteria).stream()
+            .map(PricesKey::of)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    Map<PricesKey, PricesTimeline> timelines = keys.isEmpty() ? Map.of() :
+            timelines(mapAll(QueryBuilder.retrieveByKeys(keys).recordedBy(slowQueryLog)
+                    .doQuery(entityManager, PricesDbo.class)));
+    return criteria.stream()
+            .map(item -> {
+              PricesTimeline timeline = timelines.get(PricesKey.of(item));
+              return timeline == null || item.getIssueDate() == null ? Optional.<PriceSegment>empty()
+                      : timeline.segmentAt(item.getIssueDate().toInstant());
+            })
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * {@inheritDoc}
+   * Retrieves with a single query only the prices applicable during the range, sorted by start date.
+   */
+  @Override
+  public void segmentsProjection(PricesRangeCriteria criteria, Consumer<PriceSegment> consumer) {
+    List<Prices> prices = mapAll(QueryBuilder.retrieveByRange(criteria).recordedBy(slowQueryLog)
+            .doQuery(entityManager, PricesDbo.class));
+    PricesTimeline.sweep(prices.iterator(), criteria.getFrom().toInstant(), criteria.getTo().toInstant(), consumer);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PricesTimeline timelineProjection(PricesKey key) {
+    return PricesTimeline.of(mapAll(QueryBuilder.retrieveByKey(key).recordedBy(slowQueryLog)
+            .doQuery(entityManager, PricesDbo.class)));
+  }
+
+  /**
+   * Maps the entities to the domain.
+   *
+   * @param dbos The entities.
+   * @return The prices.
+   */
+  private List<Prices> mapAll(List<PricesDbo> dbos) {
+    try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.MAPPING)) {
+      return mapper.mapAll(dbos);
+    }
   }
 
 }
@@ -0,0 +1,126 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesChangedEvent;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.PricesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesDboMapper;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Repository;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * IndexedPricesRepository class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Loads the prices relation into memory as one {@link PricesTimeline} per brand and product,
+ * so every price is resolved in O(log n) without any round trip to the datastore. The timeline
+ * of a brand and product is rebuilt on every {@link PricesChangedEvent}. The rebuilds are serialized with a lock
+ * instead of a monitor, so a virtual thread waiting for another rebuild does not pin its carrier thread.
+ * Enabled with ecommerce.prices.repository=memory.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "ecommerce.prices.repository", havingValue = "memory")
+public class IndexedPricesRepository implements PricesRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Autowired
+  private PricesDboMapper mapper;
+
+  @Autowired(required = false)
+  private SlowQueryLog slowQueryLog;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private volatile Map<PricesKey, PricesTimeline> index = new ConcurrentHashMap<>();
+
+  /**
+   * Rebuilds the whole index from the datastore. Lookups keep being served by the previous
+   * index until the new one is completely built.
+   */
+  @PostConstruct
+  public void reload() {
+    lock.lock();
+    try {
+      List<PricesDbo> dbos = QueryBuilder.retrieveAll().recordedBy(slowQueryLog)
+              .doQuery(entityManager, PricesDbo.class);
+      Map<PricesKey, List<Prices>> pricesByKey = mapper.mapAll(dbos).stream()
+              .collect(Collectors.groupingBy(PricesKey::of));
+      Map<PricesKey, PricesTimeline> timelines = new ConcurrentHashMap<>();
+      pricesByKey.forEach((key, prices) -> timelines.put(key, PricesTimeline.of(prices)));
+      index = timelines;
+      log.info("Prices index loaded: {} prices, {} products.", dbos.size(), timelines.size());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Rebuilds the timeline of the brand and product whose prices have changed. It runs before the timeline
+   * cache is invalidated, so a miss reloading it meanwhile does not read the previous index.
+   *
+   * @param event The change event.
+   */
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onPricesChanged(PricesChangedEvent event) {
+    PricesKey key = event.getKey();
+    lock.lock();
+    try {
+      List<PricesDbo> dbos = QueryBuilder.retrieveByKey(key).recordedBy(slowQueryLog)
+              .doQuery(entityManager, PricesDbo.class);
+      if (dbos.isEmpty()) {
+        index.remove(key);
+      } else {
+        index.put(key, PricesTimeline.of(mapper.mapAll(dbos)));
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * All the criteria fields are required: an incomplete criteria does not match any price.
+   */
+  @Override
+  public Prices pricesProjection(PricesCriteria criteria) {
+    PricesTimeline timeline = index.get(PricesKey.of(criteria));
+    if (timeline == null || criteria.getIssueDate() == null) {
+      return new Prices();
+    }
+    return timeline.priceAt(criteria.getIssueDate().toInstant());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PricesTimeline timelineProjection(PricesKey key) {
+    PricesTimeline timeline = index.get(key);
+    return timeline != null ? timeline : PricesTimeline.of(List.of());
+  }
+
+}
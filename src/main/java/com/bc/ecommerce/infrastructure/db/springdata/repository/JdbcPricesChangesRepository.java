@@ -0,0 +1,98 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.domain.operational.PriceChange;
+import com.bc.ecommerce.domain.operational.PriceChangeOperation;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.out.PricesChangesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JdbcPricesChangesRepository class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Pages through the changes with keyset pagination over the change version: the prices and the tombstones
+ * after the version are read with a range scan of their version index each, up to the limit, and merged in
+ * version order. Both are read from the same snapshot, so a page never skips a version committed between
+ * them.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Repository
+public class JdbcPricesChangesRepository implements PricesChangesRepository {
+
+  private static final String SELECT_PRICES = "select id, brand_id, product_id, price_list, start_date, end_date, "
+          + "price, currency, priority, change_version, created_version from public.prices "
+          + "where change_version > ? order by change_version limit ?";
+
+  private static final String SELECT_TOMBSTONES = "select change_version, id, brand_id, product_id "
+          + "from public.prices_tombstones where change_version > ? order by change_version limit ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate snapshotTransaction;
+
+  /**
+   * Creates the repository.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param transactionManager The transaction manager. Both queries share a repeatable read transaction.
+   */
+  public JdbcPricesChangesRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.snapshotTransaction = new TransactionTemplate(transactionManager);
+    this.snapshotTransaction.setReadOnly(true);
+    this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+  }
+
+  /**
+   * {@inheritDoc}
+   * A price is reported as inserted when it was inserted after the version, even if it was updated later.
+   */
+  @Override
+  public List<PriceChange> changesSince(long version, int limit) {
+    return snapshotTransaction.execute(status -> merge(
+            jdbcTemplate.query(SELECT_PRICES, (rs, rowNum) -> {
+              long created = rs.getLong("created_version");
+              boolean inserted = rs.wasNull() || created > version;
+              Prices prices = PricesRowMapper.INSTANCE.mapRow(rs, rowNum);
+              return new PriceChange(rs.getLong("change_version"),
+                      inserted ? PriceChangeOperation.INSERTED : PriceChangeOperation.UPDATED,
+                      prices.getId(), prices.getBrandId(), prices.getProductId(), prices);
+            }, version, limit),
+            jdbcTemplate.query(SELECT_TOMBSTONES, (rs, rowNum) -> {
+              return new PriceChange(rs.getLong("change_version"), PriceChangeOperation.DELETED,
+                      rs.getString("id"), rs.getString("brand_id"), rs.getString("product_id"), null);
+            }, version, limit),
+            limit));
+  }
+
+  /**
+   * Merges two lists of changes sorted by version.
+   *
+   * @param first The first list.
+   * @param second The second list.
+   * @param limit The maximum size of the result.
+   * @return The first changes of both lists, sorted by version.
+   */
+  private static List<PriceChange> merge(List<PriceChange> first, List<PriceChange> second, int limit) {
+    List<PriceChange> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+    int i = 0;
+    int j = 0;
+    while (merged.size() < limit && (i < first.size() || j < second.size())) {
+      if (j == second.size() || i < first.size() && first.get(i).getVersion() < second.get(j).getVersion()) {
+        merged.add(first.get(i++));
+      } else {
+        merged.add(second.get(j++));
+      }
+    }
+    return merged;
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.PricesKeysRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.function.Consumer;
+
+/**
+ * JdbcPricesKeysRepository class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Streams the distinct brands and products of the prices relation with a plain JDBC cursor, fetching
+ * them in chunks within a read-only transaction, so the whole set is never held in memory.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Repository
+public class JdbcPricesKeysRepository implements PricesKeysRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final SlowQueryLog slowQueryLog;
+
+  /**
+   * Rows fetched at once from the cursor.
+   */
+  private final int fetchSize;
+
+  /**
+   * Creates the repository.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param transactionManager The transaction manager. Some drivers only fetch the rows in chunks within a
+   *     transaction.
+   * @param fetchSize Rows fetched at once from the cursor.
+   * @param slowQueryLog The slow query log the queries are recorded by, when enabled.
+   */
+  public JdbcPricesKeysRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  @Value("${ecommerce.prices.keys-filter.fetch-size:1000}") int fetchSize,
+                                  ObjectProvider<SlowQueryLog> slowQueryLog) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.fetchSize = fetchSize;
+    this.slowQueryLog = slowQueryLog.getIfAvailable();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void keysProjection(Consumer<PricesKey> consumer) {
+    readOnlyTransaction.executeWithoutResult(status -> QueryBuilder.retrieveKeys()
+            .recordedBy(slowQueryLog).doQuery(jdbcTemplate, fetchSize, resultSet -> {
+              while (resultSet.next()) {
+                consumer.accept(new PricesKey(resultSet.getString(PricesTable.BRAND_ID.getName()),
+                        resultSet.getString(PricesTable.PRODUCT_ID.getName())));
+              }
+              return null;
+            }));
+  }
+
+}
@@ -0,0 +1,194 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.application.exception.ProblemsPersistingException;
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.PricesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesRowMapper;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import static com.bc.ecommerce.infrastructure.db.springdata.repository.PricesProjections.complete;
+import static com.bc.ecommerce.infrastructure.db.springdata.repository.PricesProjections.timelines;
+
+/**
+ * JdbcPricesRepository class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Resolves every price with the same queries as {@link DefaultPricesRepository}, but executed as plain
+ * prepared statements whose rows are mapped straight to the domain: no entity is hydrated, registered
+ * in the persistence context nor snapshotted for dirty checking.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Repository
+@ConditionalOnProperty(name = "ecommerce.prices.repository", havingValue = "jdbc")
+public class JdbcPricesRepository implements PricesRepository {
+
+  /**
+   * Rows of the prices of a range fetched at once while they are swept.
+   */
+  private static final int RANGE_FETCH_SIZE = 256;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final SlowQueryLog slowQueryLog;
+
+  /**
+   * Creates the repository.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param transactionManager The transaction manager. Some drivers only fetch the rows in chunks within a
+   *     transaction.
+   * @param slowQueryLog The slow query log the queries are recorded by, when enabled.
+   */
+  public JdbcPricesRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              ObjectProvider<SlowQueryLog> slowQueryLog) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.slowQueryLog = slowQueryLog.getIfAvailable();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Prices pricesProjection(PricesCriteria criteria) {
+    List<Prices> prices = QueryBuilder.retrieve(criteria).recordedBy(slowQueryLog)
+            .doQuery(jdbcTemplate, PricesRowMapper.INSTANCE);
+    return prices.isEmpty() ? new Prices() : prices.get(0);
+  }
+
+  /**
+   * {@inheritDoc}
+   * Retrieves with a single query every price applicable to any of the criteria, and then picks for each
+   * criteria the one with the highest priority. A criteria with missing fields does not match any price.
+   */
+  @Override
+  public List<Prices> pricesProjections(List<PricesCriteria> criteria) {
+    List<PricesCriteria> complete = complete(criteria);
+    Map<PricesKey, PricesTimeline> timelines = complete.isEmpty() ? Map.of() :
+            timelines(QueryBuilder.retrieveBatch(complete).recordedBy(slowQueryLog)
+                    .doQuery(jdbcTemplate, PricesRowMapper.INSTANCE));
+    return criteria.stream()
+            .map(item -> {
+              PricesTimeline timeline = timelines.get(PricesKey.of(item));
+              return timeline == null || item.getIssueDate() == null ? new Prices()
+                      : timeline.priceAt(item.getIssueDate().toInstant());
+            })
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * {@inheritDoc}
+   * Retrieves with a single query every price of the brands and products of the criteria, since a price starting
+   * after the issue date may bound the segment, and then resolves for each criteria the segment containing its
+   * issue date. A criteria with missing fields does not match any price.
+   */
+  @Override
+  public List<Optional<PriceSegment>> segmentProjections(List<PricesCriteria> criteria) {
+    Set<PricesKey> keys = complete(criteria).stream()
+            .map(PricesKey::of)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    Map<PricesKey, PricesTimeline> timelines = keys.isEmpty() ? Map.of() :
+            timelines(QueryBuilder.retrieveByKeys(keys).recordedBy(slowQueryLog)
+                    .doQuery(jdbcTemplate, PricesRowMapper.INSTANCE));
+    return criteria.stream()
+            .map(item -> {
+              PricesTimeline timeline = timelines.get(PricesKey.of(item));
+              return timeline == null || item.getIssueDate() == null ? Optional.<PriceSegment>empty()
+                      : timeline.segmentAt(item.getIssueDate().toInstant());
+            })
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * {@inheritDoc}
+   * Retrieves with a single query only the prices applicable during the range, sorted by start date, and sweeps
+   * them as they are fetched: neither the prices nor the segments of the range are held in memory at once.
+   */
+  @Override
+  public void segmentsProjection(PricesRangeCriteria criteria, Consumer<PriceSegment> consumer) {
+    readOnlyTransaction.executeWithoutResult(status -> QueryBuilder.retrieveByRange(criteria)
+            .recordedBy(slowQueryLog).doQuery(jdbcTemplate, RANGE_FETCH_SIZE, resultSet -> {
+              PricesTimeline.sweep(new RowIterator(resultSet), criteria.getFrom().toInstant(),
+                      criteria.getTo().toInstant(), consumer);
+              return null;
+            }));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PricesTimeline timelineProjection(PricesKey key) {
+    return PricesTimeline.of(QueryBuilder.retrieveByKey(key).recordedBy(slowQueryLog)
+            .doQuery(jdbcTemplate, PricesRowMapper.INSTANCE));
+  }
+
+  /**
+   * Iterates over the prices of a result set, reading each row when it is requested.
+   */
+  private static final class RowIterator implements Iterator<Prices> {
+
+    private final ResultSet resultSet;
+
+    private int rowNum;
+
+    private Boolean hasNext;
+
+    RowIterator(ResultSet resultSet) {
+      this.resultSet = resultSet;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (hasNext == null) {
+        try {
+          hasNext = resultSet.next();
+        } catch (SQLException e) {
+          throw new ProblemsPersistingException(e.getMessage(), e);
+        }
+      }
+      return hasNext;
+    }
+
+    @Override
+    public Prices next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      hasNext = null;
+      try {
+        return PricesRowMapper.INSTANCE.mapRow(resultSet, rowNum++);
+      } catch (SQLException e) {
+        throw new ProblemsPersistingException(e.getMessage(), e);
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,83 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.out.PricesSnapshotRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesRowMapper;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.function.Consumer;
+
+/**
+ * JdbcPricesSnapshotRepository class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Resolves the prices of a whole brand with a single ordered scan read through a plain JDBC cursor: the
+ * rows arrive grouped by product and in priority order, so the first one of each product is the price to
+ * be applied and only the current row is held in memory.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Repository
+public class JdbcPricesSnapshotRepository implements PricesSnapshotRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final SlowQueryLog slowQueryLog;
+
+  /**
+   * Rows fetched at once from the cursor.
+   */
+  private final int fetchSize;
+
+  /**
+   * Creates the repository.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param transactionManager The transaction manager. Some drivers only fetch the rows in chunks within a
+   *     transaction.
+   * @param fetchSize Rows fetched at once from the cursor.
+   * @param slowQueryLog The slow query log the queries are recorded by, when enabled.
+   */
+  public JdbcPricesSnapshotRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                      @Value("${ecommerce.prices.export.fetch-size:1000}") int fetchSize,
+                                      ObjectProvider<SlowQueryLog> slowQueryLog) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.fetchSize = fetchSize;
+    this.slowQueryLog = slowQueryLog.getIfAvailable();
+  }
+
+  /**
+   * {@inheritDoc}
+   * Only the first row of each product is mapped.
+   */
+  @Override
+  public void snapshotProjection(PricesCriteria criteria, Consumer<Prices> consumer) {
+    readOnlyTransaction.executeWithoutResult(status -> QueryBuilder.retrieveSnapshot(criteria)
+            .recordedBy(slowQueryLog).doQuery(jdbcTemplate, fetchSize, resultSet -> {
+              String product = null;
+              int rowNum = 0;
+              while (resultSet.next()) {
+                String current = resultSet.getString(PricesTable.PRODUCT_ID.getName());
+                if (!current.equals(product)) {
+                  product = current;
+                  consumer.accept(PricesRowMapper.INSTANCE.mapRow(resultSet, rowNum));
+                }
+                rowNum++;
+              }
+              return null;
+            }));
+  }
+
+}
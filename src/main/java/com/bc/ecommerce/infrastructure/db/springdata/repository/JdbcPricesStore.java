@@ -0,0 +1,214 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.application.exception.ProblemsPersistingException;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesChangedEvent;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.PricesStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JdbcPricesStore class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Writes the prices with JDBC batches, bypassing the persistence context. A price is identified by its
+ * product, price list and priority (the unique key of the relation): when it already exists it is updated
+ * and keeps its id, even if its brand changes: then both the previous and the new brand and product have changed.
+ * Every price written takes the next change version, and a deleted one leaves a tombstone
+ * with its own. Writers lock the single row of prices_change_lock first, so the versions are committed in
+ * order. Once a chunk is committed a {@link PricesChangedEvent} is published for every brand and product in
+ * it.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Slf4j
+@Repository
+public class JdbcPricesStore implements PricesStore {
+
+  private static final String POSTGRESQL_UPSERT = "insert into public.prices (id, brand_id, product_id, price_list, "
+          + "start_date, end_date, price, currency, priority) values (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+          + "on conflict (product_id, price_list, priority) do update set brand_id = excluded.brand_id, "
+          + "start_date = excluded.start_date, end_date = excluded.end_date, price = excluded.price, "
+          + "currency = excluded.currency, created_version = coalesce(prices.created_version, prices.change_version), "
+          + "change_version = nextval('public.prices_change_version_seq')";
+
+  private static final String STANDARD_UPSERT = "merge into public.prices p using (select cast(? as uuid) id, "
+          + "cast(? as varchar) brand_id, cast(? as varchar) product_id, cast(? as int) price_list, "
+          + "cast(? as timestamp) start_date, cast(? as timestamp) end_date, cast(? as numeric(15, 2)) price, "
+          + "cast(? as varchar) currency, cast(? as int) priority) v "
+          + "on p.product_id = v.product_id and p.price_list = v.price_list and p.priority = v.priority "
+          + "when matched then update set brand_id = v.brand_id, start_date = v.start_date, end_date = v.end_date, "
+          + "price = v.price, currency = v.currency, created_version = coalesce(p.created_version, p.change_version), "
+          + "change_version = nextval('public.prices_change_version_seq') "
+          + "when not matched then insert (id, brand_id, product_id, price_list, start_date, end_date, price, "
+          + "currency, priority) values (v.id, v.brand_id, v.product_id, v.price_list, v.start_date, v.end_date, "
+          + "v.price, v.currency, v.priority)";
+
+  private static final String LOCK = "select id from public.prices_change_lock for update";
+
+  private static final String SELECT_BRANDS = "select brand_id, product_id, price_list, priority "
+          + "from public.prices where product_id in (%s)";
+
+  private static final String SELECT_KEY = "select brand_id, product_id from public.prices where id = ?";
+
+  private static final String INSERT_TOMBSTONE = "insert into public.prices_tombstones (change_version, id, "
+          + "brand_id, product_id) values (nextval('public.prices_change_version_seq'), ?, ?, ?)";
+
+  private static final String DELETE = "delete from public.prices where id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ApplicationEventPublisher publisher;
+
+  private volatile String upsert;
+
+  /**
+   * Creates the store.
+   *
+   * @param jdbcTemplate The jdbc template.
+   * @param transactionManager The transaction manager. Every chunk is written in its own transaction.
+   * @param publisher The publisher of the change events.
+   */
+  public JdbcPricesStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         ApplicationEventPublisher publisher) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.publisher = publisher;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void upsert(List<Prices> prices) {
+    List<Object[]> rows = new ArrayList<>(prices.size());
+    Set<PricesKey> keys = new LinkedHashSet<>();
+    Map<List<Object>, String> brands = new HashMap<>();
+    for (Prices price : prices) {
+      rows.add(new Object[] {
+          UUID.fromString(price.getId()),
+          price.getBrandId(),
+          price.getProductId(),
+          price.getPriceList(),
+          Timestamp.from(price.getStartDate()),
+          Timestamp.from(price.getEndDate()),
+          price.getPrice(),
+          price.getCurrency(),
+          price.getPriority()
+      });
+      keys.add(PricesKey.of(price));
+      brands.put(uniqueKey(price.getProductId(), price.getPriceList(), price.getPriority()), price.getBrandId());
+    }
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        lockVersions();
+        keys.addAll(previousKeys(brands));
+        jdbcTemplate.batchUpdate(upsertSql(), rows);
+      });
+    } catch (DataAccessException e) {
+      throw new ProblemsPersistingException(e.getMostSpecificCause().getMessage(), e);
+    }
+    keys.forEach(key -> publisher.publishEvent(new PricesChangedEvent(key)));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int delete(List<String> ids) {
+    Set<UUID> uuids = ids.stream().map(UUID::fromString).collect(Collectors.toCollection(LinkedHashSet::new));
+    List<Object[]> tombstones = new ArrayList<>(uuids.size());
+    Set<PricesKey> keys = new LinkedHashSet<>();
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        lockVersions();
+        for (UUID id : uuids) {
+          jdbcTemplate.query(SELECT_KEY, resultSet -> {
+            tombstones.add(new Object[] {id, resultSet.getString(1), resultSet.getString(2)});
+            keys.add(new PricesKey(resultSet.getString(1), resultSet.getString(2)));
+          }, id);
+        }
+        jdbcTemplate.batchUpdate(INSERT_TOMBSTONE, tombstones);
+        jdbcTemplate.batchUpdate(DELETE, tombstones.stream()
+                .map(tombstone -> new Object[] {tombstone[0]})
+                .collect(Collectors.toList()));
+      });
+    } catch (DataAccessException e) {
+      throw new ProblemsPersistingException(e.getMostSpecificCause().getMessage(), e);
+    }
+    keys.forEach(key -> publisher.publishEvent(new PricesChangedEvent(key)));
+    return tombstones.size();
+  }
+
+  /**
+   * The brands and products of the existing prices whose brand is about to change. Being read after
+   * {@link #lockVersions()}, no other writer changes them before the upsert.
+   *
+   * @param brands The new brand of every unique key (product, price list and priority) written.
+   * @return The previous brands and products.
+   */
+  private Set<PricesKey> previousKeys(Map<List<Object>, String> brands) {
+    Set<Object> products = new LinkedHashSet<>();
+    brands.keySet().forEach(key -> products.add(key.get(0)));
+    Set<PricesKey> previous = new LinkedHashSet<>();
+    if (products.isEmpty()) {
+      return previous;
+    }
+    jdbcTemplate.query(String.format(SELECT_BRANDS, String.join(", ", Collections.nCopies(products.size(), "?"))),
+        resultSet -> {
+          String brand = brands.get(uniqueKey(resultSet.getString(2), resultSet.getInt(3), resultSet.getInt(4)));
+          if (brand != null && !brand.equals(resultSet.getString(1))) {
+            previous.add(new PricesKey(resultSet.getString(1), resultSet.getString(2)));
+          }
+        }, products.toArray());
+    return previous;
+  }
+
+  private static List<Object> uniqueKey(String productId, Integer priceList, Integer priority) {
+    return Arrays.asList(productId, priceList, priority);
+  }
+
+  /**
+   * Locks the single row of prices_change_lock until the end of the transaction, so the change versions
+   * taken by concurrent writers are committed in order.
+   */
+  private void lockVersions() {
+    jdbcTemplate.query(LOCK, resultSet -> { });
+  }
+
+  /**
+   * The upsert sentence for the datastore: PostgreSQL has its own syntax, the rest (H2) use the standard merge.
+   *
+   * @return The upsert sentence.
+   */
+  private String upsertSql() {
+    if (upsert == null) {
+      String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+              connection.getMetaData().getDatabaseProductName());
+      upsert = "PostgreSQL".equalsIgnoreCase(product) ? POSTGRESQL_UPSERT : STANDARD_UPSERT;
+      log.debug("Prices upsert for {}: {}", product, upsert);
+    }
+    return upsert;
+  }
+
+}
@@ -0,0 +1,48 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * PricesProjections class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Steps shared by the repositories resolving the prices of a batch of criteria with a single query.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+final class PricesProjections {
+
+  private PricesProjections() {
+  }
+
+  /**
+   * The criteria having all their fields informed.
+   *
+   * @param criteria The criteria to be applied.
+   * @return The complete criteria.
+   */
+  static List<PricesCriteria> complete(List<PricesCriteria> criteria) {
+    return criteria.stream()
+            .filter(item -> item.getProductId() != null && item.getBrandId() != null && item.getIssueDate() != null)
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * Groups the prices in the timeline of their brand and product.
+   *
+   * @param prices The prices.
+   * @return The timelines by brand and product.
+   */
+  static Map<PricesKey, PricesTimeline> timelines(List<Prices> prices) {
+    return prices.stream()
+            .collect(Collectors.groupingBy(PricesKey::of,
+                    Collectors.collectingAndThen(Collectors.toList(), PricesTimeline::of)));
+  }
+
+}
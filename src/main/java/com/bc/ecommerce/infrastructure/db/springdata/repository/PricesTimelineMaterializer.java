@@ -0,0 +1,152 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesChangedEvent;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesDboMapper;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * PricesTimelineMaterializer class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Flattens the prices of every brand and product into the prices_timeline relation, so that
+ * {@link TimelinePricesRepository} resolves a price with a single floor search. The whole
+ * relation is rebuilt at startup, and only the affected brand and product on every
+ * {@link PricesChangedEvent}.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ecommerce.prices.repository", havingValue = "timeline")
+public class PricesTimelineMaterializer {
+
+  private static final String DELETE_ALL = "delete from public.prices_timeline";
+
+  private static final String DELETE_BY_KEY = "delete from public.prices_timeline where brand_id = ? and product_id = ?";
+
+  private static final String INSERT = "insert into public.prices_timeline (brand_id, product_id, segment_start, "
+          + "segment_end, id, price_list, start_date, end_date, price, currency, priority) "
+          + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Autowired
+  private PricesDboMapper mapper;
+
+  @Autowired(required = false)
+  private SlowQueryLog slowQueryLog;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Creates the materializer.
+   *
+   * @param transactionManager The transaction manager. Every rebuild is atomic.
+   */
+  public PricesTimelineMaterializer(PlatformTransactionManager transactionManager) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Rebuilds the whole timeline relation.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    int segments = transactionTemplate.execute(status -> {
+      List<PricesDbo> dbos = QueryBuilder.retrieveAll().recordedBy(slowQueryLog)
+              .doQuery(entityManager, PricesDbo.class);
+      Map<PricesKey, List<Prices>> pricesByKey = mapper.mapAll(dbos).stream()
+              .collect(Collectors.groupingBy(PricesKey::of));
+      jdbcTemplate.update(DELETE_ALL);
+      return pricesByKey.values().stream().mapToInt(this::insert).sum();
+    });
+    log.info("Prices timeline materialized: {} segments.", segments);
+  }
+
+  /**
+   * Rebuilds the timeline of the given brand and product.
+   *
+   * @param key The brand and product.
+   */
+  public void rebuild(PricesKey key) {
+    transactionTemplate.executeWithoutResult(status -> {
+      List<PricesDbo> dbos = QueryBuilder.retrieveByKey(key).recordedBy(slowQueryLog)
+              .doQuery(entityManager, PricesDbo.class);
+      jdbcTemplate.update(DELETE_BY_KEY, key.getBrandId(), key.getProductId());
+      insert(mapper.mapAll(dbos));
+    });
+  }
+
+  /**
+   * Rebuilds the timeline of the brand and product whose prices have changed. It runs before the timeline
+   * cache is invalidated, so a miss reloading it meanwhile does not read the previous rows.
+   *
+   * @param event The change event.
+   */
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onPricesChanged(PricesChangedEvent event) {
+    rebuild(event.getKey());
+  }
+
+  /**
+   * Inserts the timeline segments of the given prices, all of them of the same brand and product.
+   *
+   * @param prices The prices.
+   * @return The number of segments inserted.
+   */
+  private int insert(Collection<Prices> prices) {
+    List<Object[]> rows = new ArrayList<>();
+    for (PriceSegment segment : PricesTimeline.of(prices).getSegments()) {
+      Prices price = segment.getPrice();
+      rows.add(new Object[] {
+          price.getBrandId(),
+          price.getProductId(),
+          Timestamp.from(segment.getFrom()),
+          Timestamp.from(segment.getTo()),
+          UUID.fromString(price.getId()),
+          price.getPriceList(),
+          Timestamp.from(price.getStartDate()),
+          Timestamp.from(price.getEndDate()),
+          price.getPrice(),
+          price.getCurrency(),
+          price.getPriority()
+      });
+    }
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+    return rows.size();
+  }
+
+}
@@ -0,0 +1,62 @@
+package com.bc.ecommerce.infrastructure.db.springdata.repository;
+
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.PricesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesDboMapper;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * TimelinePricesRepository class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.repository package.
+ * Resolves every price from the materialized prices timeline maintained by
+ * {@link PricesTimelineMaterializer}. Enabled with ecommerce.prices.repository=timeline.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Repository
+@ConditionalOnProperty(name = "ecommerce.prices.repository", havingValue = "timeline")
+public class TimelinePricesRepository implements PricesRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Autowired
+  private PricesDboMapper mapper;
+
+  @Autowired(required = false)
+  private SlowQueryLog slowQueryLog;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Prices pricesProjection(PricesCriteria criteria) {
+    List<PricesDbo> dbos = QueryBuilder.retrieveSegment(criteria).recordedBy(slowQueryLog)
+            .doQuery(entityManager, PricesDbo.class);
+    return mapper.map(Objects.nonNull(dbos) ? dbos : new ArrayList<>());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PricesTimeline timelineProjection(PricesKey key) {
+    return PricesTimeline.of(mapper.mapAll(QueryBuilder.retrieveByKey(key).recordedBy(slowQueryLog)
+            .doQuery(entityManager, PricesDbo.class)));
+  }
+
+}
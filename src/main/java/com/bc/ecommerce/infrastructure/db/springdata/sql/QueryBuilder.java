@@ -1,18 +1,44 @@
 package com.bc.ecommerce.infrastructure.db.springdata.sql;
 
+import com.bc.ecommerce.application.jfr.SqlBuildEvent;
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.CompiledQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectAll;
 import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectByCriteria;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectByCriteriaBatch;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectByKey;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectByKeyBatch;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectByKeyRange;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectKeys;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectSnapshot;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectTimelineSegment;
 import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SqlTemplate;
 import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Query builder class.
  * In com.bc.ecommerce.infrastructure.db.springdata.sql package.
+ * Building a query is timed as the sql.build stage of the lookup in progress, if any.
  *
  * @author Álvaro Carmona
  * @since 27/01/2024
  */
 public class QueryBuilder {
 
+  /**
+   * Templates of the select by criteria query, compiled once per criteria shape.
+   */
+  private static final Map<Integer, CompiledQuery<PricesCriteria>> CRITERIA_TEMPLATES = new ConcurrentHashMap<>();
+
   /**
    * Class for providing the dynamic prices SQL queries against the main datastore (H2).
    */
@@ -25,16 +51,108 @@ public class QueryBuilder {
    * @return The custom query.
    */
   public static CustomQuery retrieve(PricesCriteria filter) {
-    return new QueryBuilder().retrieveQuery(filter);
+    return build("retrieve", () -> new QueryBuilder().retrieveQuery(filter));
+  }
+
+  /**
+   * Creates a query for retrieving, in a single round trip, the prices applicable to any of the given criteria.
+   * @param filters The filters to apply, all their fields must be informed.
+   * @return The custom query.
+   */
+  public static CustomQuery retrieveBatch(List<PricesCriteria> filters) {
+    return build("retrieveBatch", () -> new SelectByCriteriaBatch().build(filters));
+  }
+
+  /**
+   * Creates a query for retrieving all the prices.
+   * @return The custom query.
+   */
+  public static CustomQuery retrieveAll() {
+    return build("retrieveAll", () -> new SelectAll().build(null));
+  }
+
+  /**
+   * Creates a query for retrieving every brand and product having any price.
+   * @return The custom query.
+   */
+  public static CustomQuery retrieveKeys() {
+    return build("retrieveKeys", () -> new SelectKeys().build(null));
+  }
+
+  /**
+   * Creates a query for retrieving all the prices of a product for a brand.
+   * @param key The brand and product.
+   * @return The custom query.
+   */
+  public static CustomQuery retrieveByKey(PricesKey key) {
+    return build("retrieveByKey", () -> new SelectByKey().build(key));
+  }
+
+  /**
+   * Creates a query for retrieving, in a single round trip, all the prices of any of the given brands and products.
+   * @param keys The distinct brands and products.
+   * @return The custom query.
+   */
+  public static CustomQuery retrieveByKeys(Collection<PricesKey> keys) {
+    return build("retrieveByKeys", () -> new SelectByKeyBatch().build(keys));
+  }
+
+  /**
+   * Creates a query for retrieving the prices of a product for a brand applicable during a range, sorted by start date.
+   * @param criteria The brand, product and range, all their fields must be informed.
+   * @return The custom query.
+   */
+  public static CustomQuery retrieveByRange(PricesRangeCriteria criteria) {
+    return build("retrieveByRange", () -> new SelectByKeyRange().build(criteria));
+  }
+
+  /**
+   * Creates a query for retrieving every price of a brand applicable at the issue date, sorted by product and priority.
+   * @param criteria The brand and issue date, and optionally the product.
+   * @return The custom query.
+   */
+  public static CustomQuery retrieveSnapshot(PricesCriteria criteria) {
+    return build("retrieveSnapshot", () -> new SelectSnapshot().build(criteria));
+  }
+
+  /**
+   * Creates a query for retrieving the price of the materialized timeline segment that matches the given criteria.
+   * @param filter The filter to apply.
+   * @return The custom query.
+   */
+  public static CustomQuery retrieveSegment(PricesCriteria filter) {
+    return build("retrieveSegment", () -> new SelectTimelineSegment().build(filter));
+  }
+
+  /**
+   * Builds the query within the sql.build stage, emitted as a {@link SqlBuildEvent} when enabled.
+   * @param query The name of the query.
+   * @param builder Builds the query.
+   * @return The custom query.
+   */
+  private static CustomQuery build(String query, Supplier<CustomQuery> builder) {
+    SqlBuildEvent event = SqlBuildEvent.start();
+    try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.SQL_BUILD)) {
+      CustomQuery built = builder.get();
+      if (built instanceof SqlTemplate.Bound) {
+        SqlTemplate template = ((SqlTemplate.Bound) built).getTemplate();
+        event.finish(query, template.getSql(), template.getParamCount());
+      } else {
+        event.finish(query, null, 0);
+      }
+      return built;
+    }
   }
 
   /**
    * Creates a query for retrieving the price that matches the given criteria.
+   * The sql is compiled only the first time a criteria shape is seen, afterwards only the values are bound.
    * @param filter The filter to apply.
    * @return The custom query.
    */
   private CustomQuery retrieveQuery(PricesCriteria filter) {
-    return new SelectByCriteria().build(filter);
+    return CRITERIA_TEMPLATES.computeIfAbsent(SelectByCriteria.shape(filter),
+            shape -> new SelectByCriteria().compile(filter)).bind(filter);
   }
 
 }
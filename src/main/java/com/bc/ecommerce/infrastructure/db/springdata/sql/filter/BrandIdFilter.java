@@ -1,5 +1,6 @@
 package com.bc.ecommerce.infrastructure.db.springdata.sql.filter;
 
+import com.bc.ecommerce.infrastructure.db.springdata.model.Column;
 import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
 import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBuilder;
 
@@ -12,13 +13,26 @@ import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBui
  */
 public class BrandIdFilter extends SqlComposer<String> {
 
+  private final Column column;
+
   /**
    * Creates a Brand Id Filter builder.
    *
    * @param sqlBuilder The SQL Builder.
    */
   public BrandIdFilter(DefaultCustomQueryBuilder sqlBuilder) {
+    this(sqlBuilder, PricesTable.BRAND_ID);
+  }
+
+  /**
+   * Creates a Brand Id Filter builder over the given column.
+   *
+   * @param sqlBuilder The SQL Builder.
+   * @param column The brand id column.
+   */
+  public BrandIdFilter(DefaultCustomQueryBuilder sqlBuilder, Column column) {
     super(sqlBuilder);
+    this.column = column;
   }
 
   /**
@@ -29,7 +43,7 @@ public class BrandIdFilter extends SqlComposer<String> {
    */
   @Override
   public String apply(String brandId) {
-    return sqlBuilder.eq(PricesTable.BRAND_ID, brandId);
+    return sqlBuilder.eq(column, brandId);
   }
 
 }
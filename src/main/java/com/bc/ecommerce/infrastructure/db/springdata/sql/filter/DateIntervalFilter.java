@@ -2,6 +2,7 @@ package com.bc.ecommerce.infrastructure.db.springdata.sql.filter;
 
 import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
 import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBuilder;
+import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 
 /**
@@ -23,7 +24,8 @@ public class DateIntervalFilter extends SqlComposer<OffsetDateTime> {
   }
 
   /**
-   * Adds the criteria for the date interval filter.
+   * Adds the criteria for the date interval filter. The issue date is bound as a typed param, so the
+   * sql text is the same whatever the date and the statement can be prepared once.
    *
    * @param issueDate The issue date to be applied.
    * @return The expression for the date interval filter.
@@ -31,7 +33,25 @@ public class DateIntervalFilter extends SqlComposer<OffsetDateTime> {
   @Override
   public String apply(OffsetDateTime issueDate) {
     return issueDate == null ? null :
-            sqlBuilder.parentheses(sqlBuilder.between(issueDate.toString(), PricesTable.START_DATE, PricesTable.END_DATE));
+            sqlBuilder.parentheses(sqlBuilder.between(asParam(issueDate), PricesTable.START_DATE, PricesTable.END_DATE));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Object param(OffsetDateTime issueDate) {
+    return asParam(issueDate);
+  }
+
+  /**
+   * Converts the issue date into the value bound to the query.
+   *
+   * @param issueDate The issue date.
+   * @return The jdbc timestamp for the same instant.
+   */
+  public static Timestamp asParam(OffsetDateTime issueDate) {
+    return Timestamp.from(issueDate.toInstant());
   }
 
 }
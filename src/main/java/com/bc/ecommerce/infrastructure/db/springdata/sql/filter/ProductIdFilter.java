@@ -1,5 +1,6 @@
 package com.bc.ecommerce.infrastructure.db.springdata.sql.filter;
 
+import com.bc.ecommerce.infrastructure.db.springdata.model.Column;
 import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
 import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBuilder;
 
@@ -12,13 +13,26 @@ import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBui
  */
 public class ProductIdFilter extends SqlComposer<String> {
 
+  private final Column column;
+
   /**
    * Creates a Product Id Filter builder.
    *
    * @param sqlBuilder The SQL Builder.
    */
   public ProductIdFilter(DefaultCustomQueryBuilder sqlBuilder) {
+    this(sqlBuilder, PricesTable.PRODUCT_ID);
+  }
+
+  /**
+   * Creates a Product Id Filter builder over the given column.
+   *
+   * @param sqlBuilder The SQL Builder.
+   * @param column The product id column.
+   */
+  public ProductIdFilter(DefaultCustomQueryBuilder sqlBuilder, Column column) {
     super(sqlBuilder);
+    this.column = column;
   }
 
   /**
@@ -29,7 +43,7 @@ public class ProductIdFilter extends SqlComposer<String> {
    */
   @Override
   public String apply(String productId) {
-    return sqlBuilder.eq(PricesTable.PRODUCT_ID, productId);
+    return sqlBuilder.eq(column, productId);
   }
 
 }
@@ -0,0 +1,51 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.filter;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTimelineTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBuilder;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+
+/**
+ * Timeline segment filter.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.filter package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SegmentFilter extends SqlComposer<OffsetDateTime> {
+
+  /**
+   * Creates a Segment Filter builder.
+   *
+   * @param sqlBuilder The SQL Builder.
+   */
+  public SegmentFilter(DefaultCustomQueryBuilder sqlBuilder) {
+    super(sqlBuilder);
+  }
+
+  /**
+   * Adds the criteria for the segment containing the issue date: segment_start &lt;= issueDate &lt; segment_end.
+   *
+   * @param issueDate The issue date to be applied.
+   * @return The expression for the segment filter.
+   */
+  @Override
+  public String apply(OffsetDateTime issueDate) {
+    if (issueDate == null) {
+      return null;
+    }
+    Timestamp instant = DateIntervalFilter.asParam(issueDate);
+    return sqlBuilder.and(
+            sqlBuilder.le(PricesTimelineTable.SEGMENT_START, instant),
+            sqlBuilder.gt(PricesTimelineTable.SEGMENT_END, instant));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Object param(OffsetDateTime issueDate) {
+    return DateIntervalFilter.asParam(issueDate);
+  }
+
+}
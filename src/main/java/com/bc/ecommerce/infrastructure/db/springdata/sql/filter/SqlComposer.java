@@ -31,4 +31,14 @@ public abstract class SqlComposer<T> {
    */
   public abstract String apply(T criteria);
 
+  /**
+   * Converts the criteria into the value bound to the params added by {@link #apply}.
+   *
+   * @param criteria The criteria.
+   * @return The value of its params.
+   */
+  public Object param(T criteria) {
+    return criteria;
+  }
+
 }
@@ -7,6 +7,9 @@ import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.SqlComposer;
 import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
 import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBuilder;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Base query configuration.
@@ -23,6 +26,8 @@ abstract class BaseQuery<T> implements SqlBuilder<T> {
   protected final SqlComposer<String> productIdComposer;
   protected final SqlComposer<String> brandIdComposer;
 
+  private final List<Function<T, Object>> bindings = new ArrayList<>();
+
   BaseQuery() {
     sqlBuilder = new DefaultCustomQueryBuilder();
     sqlBuilder.configureTableAlias(PricesTable.NAME, "p");
@@ -32,4 +37,35 @@ abstract class BaseQuery<T> implements SqlBuilder<T> {
     this.brandIdComposer = new BrandIdFilter(sqlBuilder);
   }
 
+  /**
+   * Builds the query for the given input and freezes it into a reusable template, along with the way to extract
+   * the values of its params from another input of the same shape.
+   *
+   * @param input The criteria, only its shape (the non null values) is kept.
+   * @return The compiled query.
+   */
+  public CompiledQuery<T> compile(T input) {
+    build(input);
+    return new CompiledQuery<>(sqlBuilder.compile(), bindings);
+  }
+
+  /**
+   * Applies the composer to a field of the input, registering how to extract the value of every param it adds,
+   * so the values of a compiled query are bound in the same order the composers added their params.
+   *
+   * @param composer The composer.
+   * @param field Extracts the field from the input.
+   * @param input The input.
+   * @param <V> The field type.
+   * @return The SQL portion of the composer.
+   */
+  protected <V> String filter(SqlComposer<V> composer, Function<T, V> field, T input) {
+    int params = sqlBuilder.getParamCount();
+    String expression = composer.apply(field.apply(input));
+    for (int i = params; i < sqlBuilder.getParamCount(); i++) {
+      bindings.add(other -> composer.param(field.apply(other)));
+    }
+    return expression;
+  }
+
 }
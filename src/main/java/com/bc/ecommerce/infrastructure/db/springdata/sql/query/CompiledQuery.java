@@ -0,0 +1,47 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.infrastructure.db.springdata.query.SqlTemplate;
+import lombok.Getter;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compiled query class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ * A sql template along with the extractors of the values of its params, in the order the params were added.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public final class CompiledQuery<T> {
+
+  @Getter
+  private final SqlTemplate template;
+  private final List<Function<T, Object>> bindings;
+
+  /**
+   * Creates a compiled query.
+   *
+   * @param template The sql template.
+   * @param bindings The extractors of the values, one per positional param.
+   */
+  CompiledQuery(SqlTemplate template, List<Function<T, Object>> bindings) {
+    this.template = template;
+    this.bindings = List.copyOf(bindings);
+  }
+
+  /**
+   * Binds the values extracted from the input to the template.
+   *
+   * @param input The criteria, of the same shape as the one it was compiled for.
+   * @return The query ready to be executed.
+   */
+  public SqlTemplate.Bound bind(T input) {
+    Object[] values = new Object[bindings.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = bindings.get(i).apply(input);
+    }
+    return template.bind(values);
+  }
+
+}
@@ -0,0 +1,31 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+
+/**
+ * Select all the prices.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SelectAll extends BaseQuery<Void> {
+
+  /**
+   * Creates the query for retrieving the whole prices relation.
+   */
+  public SelectAll() {
+    super();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CustomQuery build(Void input) {
+    return sqlBuilder.select(new PricesDbo(), PricesTable.NAME);
+  }
+
+}
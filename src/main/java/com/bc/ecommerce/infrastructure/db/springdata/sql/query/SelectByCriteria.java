@@ -21,6 +21,19 @@ public class SelectByCriteria extends BaseQuery<PricesCriteria> {
     super();
   }
 
+  /**
+   * Identifies the shape of the criteria: which filters are present. Criteria with the same shape
+   * produce the same sql text.
+   *
+   * @param criteria The criteria.
+   * @return A bit per filter, in the order they are applied.
+   */
+  public static int shape(PricesCriteria criteria) {
+    return (criteria.getProductId() != null ? 1 : 0)
+            | (criteria.getBrandId() != null ? 2 : 0)
+            | (criteria.getIssueDate() != null ? 4 : 0);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -28,9 +41,9 @@ public class SelectByCriteria extends BaseQuery<PricesCriteria> {
   public CustomQuery build(PricesCriteria criteria) {
     return sqlBuilder.select(new PricesDbo(), PricesTable.NAME)
             .where(sqlBuilder.and(
-                 productIdComposer.apply(criteria.getProductId()),
-                 brandIdComposer.apply(criteria.getBrandId()),
-                 dateIntervalComposer.apply(criteria.getIssueDate())
+                 filter(productIdComposer, PricesCriteria::getProductId, criteria),
+                 filter(brandIdComposer, PricesCriteria::getBrandId, criteria),
+                 filter(dateIntervalComposer, PricesCriteria::getIssueDate, criteria)
             )).sortBy(PricesTable.PRIORITY.getName())
             .limit();
   }
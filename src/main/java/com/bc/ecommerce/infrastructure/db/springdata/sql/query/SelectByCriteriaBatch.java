@@ -0,0 +1,54 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesCriteriaValues;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.DateIntervalFilter;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Select by a batch of criteria.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SelectByCriteriaBatch extends BaseQuery<List<PricesCriteria>> {
+
+  /**
+   * Creates the query for retrieving, in a single round trip, every price applicable to any of the criteria.
+   * The criteria are joined as an inline relation, so the result may hold several prices per criteria:
+   * the one with the highest priority has to be picked by the caller.
+   */
+  public SelectByCriteriaBatch() {
+    super();
+    sqlBuilder.configureTableAlias(PricesCriteriaValues.NAME, "q");
+  }
+
+  /**
+   * {@inheritDoc}
+   * Every criteria must have all its fields informed.
+   */
+  @Override
+  public CustomQuery build(List<PricesCriteria> criteria) {
+    List<String> rows = criteria.stream()
+            .map(item -> sqlBuilder.row(
+                    sqlBuilder.addParam(item.getProductId()),
+                    sqlBuilder.addParam(item.getBrandId()),
+                    sqlBuilder.cast(sqlBuilder.addParam(DateIntervalFilter.asParam(item.getIssueDate())), "timestamp")))
+            .collect(Collectors.toList());
+    return sqlBuilder.select(new PricesDbo(), PricesTable.NAME)
+            .join(sqlBuilder.values(PricesCriteriaValues.NAME,
+                    List.of(PricesCriteriaValues.PRODUCT_ID, PricesCriteriaValues.BRAND_ID, PricesCriteriaValues.ISSUE_DATE),
+                    rows),
+                    sqlBuilder.and(
+                        sqlBuilder.eqColumns(PricesTable.PRODUCT_ID, PricesCriteriaValues.PRODUCT_ID),
+                        sqlBuilder.eqColumns(PricesTable.BRAND_ID, PricesCriteriaValues.BRAND_ID),
+                        sqlBuilder.betweenColumns(PricesCriteriaValues.ISSUE_DATE, PricesTable.START_DATE, PricesTable.END_DATE)
+                    ));
+  }
+
+}
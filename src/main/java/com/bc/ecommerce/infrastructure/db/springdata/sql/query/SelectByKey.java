@@ -0,0 +1,36 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+
+/**
+ * Select by brand and product filter.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SelectByKey extends BaseQuery<PricesKey> {
+
+  /**
+   * Creates the query for retrieving all the prices of a product for a brand.
+   */
+  public SelectByKey() {
+    super();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CustomQuery build(PricesKey key) {
+    return sqlBuilder.select(new PricesDbo(), PricesTable.NAME)
+            .where(sqlBuilder.and(
+                 productIdComposer.apply(key.getProductId()),
+                 brandIdComposer.apply(key.getBrandId())
+            ));
+  }
+
+}
@@ -0,0 +1,50 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesCriteriaValues;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Select by a batch of brands and products.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SelectByKeyBatch extends BaseQuery<Collection<PricesKey>> {
+
+  /**
+   * Creates the query for retrieving, in a single round trip, all the prices of any of the brands and products.
+   * The keys are joined as an inline relation, so they must be distinct.
+   */
+  public SelectByKeyBatch() {
+    super();
+    sqlBuilder.configureTableAlias(PricesCriteriaValues.NAME, "q");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CustomQuery build(Collection<PricesKey> keys) {
+    List<String> rows = keys.stream()
+            .map(key -> sqlBuilder.row(
+                    sqlBuilder.addParam(key.getProductId()),
+                    sqlBuilder.addParam(key.getBrandId())))
+            .collect(Collectors.toList());
+    return sqlBuilder.select(new PricesDbo(), PricesTable.NAME)
+            .join(sqlBuilder.values(PricesCriteriaValues.NAME,
+                    List.of(PricesCriteriaValues.PRODUCT_ID, PricesCriteriaValues.BRAND_ID),
+                    rows),
+                    sqlBuilder.and(
+                        sqlBuilder.eqColumns(PricesTable.PRODUCT_ID, PricesCriteriaValues.PRODUCT_ID),
+                        sqlBuilder.eqColumns(PricesTable.BRAND_ID, PricesCriteriaValues.BRAND_ID)
+                    ));
+  }
+
+}
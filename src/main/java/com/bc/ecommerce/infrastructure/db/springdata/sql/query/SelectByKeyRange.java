@@ -0,0 +1,42 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.DateIntervalFilter;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+
+/**
+ * Select by brand, product and date range.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SelectByKeyRange extends BaseQuery<PricesRangeCriteria> {
+
+  /**
+   * Creates the query for retrieving the prices of a product for a brand applicable at any instant of the
+   * range, sorted by start date. Both price dates are inclusive and the range end is exclusive:
+   * end_date &gt;= from and start_date &lt; to.
+   */
+  public SelectByKeyRange() {
+    super();
+  }
+
+  /**
+   * {@inheritDoc}
+   * Every field of the criteria must be informed.
+   */
+  @Override
+  public CustomQuery build(PricesRangeCriteria criteria) {
+    return sqlBuilder.select(new PricesDbo(), PricesTable.NAME)
+            .where(sqlBuilder.and(
+                 productIdComposer.apply(criteria.getProductId()),
+                 brandIdComposer.apply(criteria.getBrandId()),
+                 sqlBuilder.ge(PricesTable.END_DATE, DateIntervalFilter.asParam(criteria.getFrom())),
+                 sqlBuilder.lt(PricesTable.START_DATE, DateIntervalFilter.asParam(criteria.getTo()))
+            )).orderBy(sqlBuilder.asc(PricesTable.START_DATE));
+  }
+
+}
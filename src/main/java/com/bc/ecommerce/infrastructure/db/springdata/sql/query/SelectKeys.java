@@ -0,0 +1,31 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesKeysProjection;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+
+/**
+ * Select keys query.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SelectKeys extends BaseQuery<Void> {
+
+  /**
+   * Creates the query for retrieving every brand and product having any price.
+   */
+  public SelectKeys() {
+    super();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CustomQuery build(Void input) {
+    return sqlBuilder.selectDistinct(new PricesKeysProjection(), PricesTable.NAME);
+  }
+
+}
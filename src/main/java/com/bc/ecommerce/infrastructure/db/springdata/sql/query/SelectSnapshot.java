@@ -0,0 +1,42 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+
+/**
+ * Select the prices of a brand applicable at an instant.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SelectSnapshot extends BaseQuery<PricesCriteria> {
+
+  /**
+   * Creates the query for retrieving every price of a brand applicable at the issue date, grouped by product
+   * and in priority order within each product: the first price of each product is the one to be applied.
+   */
+  public SelectSnapshot() {
+    super();
+  }
+
+  /**
+   * {@inheritDoc}
+   * The brand and issue date must be informed, the product is optional.
+   */
+  @Override
+  public CustomQuery build(PricesCriteria criteria) {
+    return sqlBuilder.select(new PricesDbo(), PricesTable.NAME)
+            .where(sqlBuilder.and(
+                 brandIdComposer.apply(criteria.getBrandId()),
+                 productIdComposer.apply(criteria.getProductId()),
+                 dateIntervalComposer.apply(criteria.getIssueDate())
+            )).orderBy(
+                 sqlBuilder.asc(PricesTable.PRODUCT_ID),
+                 sqlBuilder.desc(PricesTable.PRIORITY),
+                 sqlBuilder.desc(PricesTable.PRICE_LIST));
+  }
+
+}
@@ -0,0 +1,52 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.query;
+
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTimelineTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.BrandIdFilter;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.ProductIdFilter;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.SegmentFilter;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.SqlComposer;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import java.time.OffsetDateTime;
+
+/**
+ * Select the materialized timeline segment by criteria.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.query package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SelectTimelineSegment extends BaseQuery<PricesCriteria> {
+
+  private final SqlComposer<String> segmentProductIdComposer;
+  private final SqlComposer<String> segmentBrandIdComposer;
+  private final SqlComposer<OffsetDateTime> segmentComposer;
+
+  /**
+   * Creates the query for retrieving the price of the timeline segment containing the issue date.
+   * Segments are disjoint, so it is a floor search over the segment start.
+   */
+  public SelectTimelineSegment() {
+    super();
+    sqlBuilder.configureTableAlias(PricesTimelineTable.NAME, "t");
+
+    this.segmentProductIdComposer = new ProductIdFilter(sqlBuilder, PricesTimelineTable.PRODUCT_ID);
+    this.segmentBrandIdComposer = new BrandIdFilter(sqlBuilder, PricesTimelineTable.BRAND_ID);
+    this.segmentComposer = new SegmentFilter(sqlBuilder);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CustomQuery build(PricesCriteria criteria) {
+    return sqlBuilder.select(PricesTimelineTable.PRICES, PricesTimelineTable.NAME)
+            .where(sqlBuilder.and(
+                 segmentProductIdComposer.apply(criteria.getProductId()),
+                 segmentBrandIdComposer.apply(criteria.getBrandId()),
+                 segmentComposer.apply(criteria.getIssueDate())
+            )).sortBy(PricesTimelineTable.SEGMENT_START.getName())
+            .limit();
+  }
+
+}
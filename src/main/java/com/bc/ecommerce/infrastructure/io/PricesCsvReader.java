@@ -0,0 +1,104 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.application.exception.InvalidImportException;
+import com.bc.ecommerce.domain.operational.Prices;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prices CSV reader class.
+ * In com.bc.ecommerce.infrastructure.io package.
+ * The first line is the header, naming the columns as the prices relation does (brand_id, product_id,
+ * price_list, start_date, end_date, price, currency, priority and, optionally, id) in any order.
+ * Dates are ISO 8601 instants.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesCsvReader extends PricesReader {
+
+  private static final String SEPARATOR = ",";
+
+  private static final List<String> COLUMNS = List.of(
+          "id", "brand_id", "product_id", "price_list", "start_date", "end_date", "price", "currency", "priority");
+
+  /**
+   * Position of each one of the COLUMNS in the file, -1 if absent.
+   */
+  private int[] positions;
+
+  /**
+   * Creates a prices CSV reader.
+   *
+   * @param source The source, UTF-8 encoded.
+   */
+  public PricesCsvReader(InputStream source) {
+    super(source);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Prices parse(String line) {
+    String[] values = line.split(SEPARATOR, -1);
+    if (positions == null) {
+      positions = header(values);
+      return null;
+    }
+    try {
+      Prices prices = new Prices();
+      prices.setId(value(values, 0));
+      prices.setBrandId(value(values, 1));
+      prices.setProductId(value(values, 2));
+      prices.setPriceList(toInteger(value(values, 3)));
+      prices.setStartDate(toInstant(value(values, 4)));
+      prices.setEndDate(toInstant(value(values, 5)));
+      prices.setPrice(value(values, 6) == null ? null : new BigDecimal(value(values, 6)));
+      prices.setCurrency(value(values, 7));
+      prices.setPriority(toInteger(value(values, 8)));
+      return prices;
+    } catch (RuntimeException e) {
+      throw new InvalidImportException(String.format("line %d, %s", getLineNumber(), e.getMessage()), e);
+    }
+  }
+
+  /**
+   * Resolves the position of each column from the header.
+   *
+   * @param header The header values.
+   * @return The positions.
+   */
+  private int[] header(String[] header) {
+    List<String> names = Arrays.asList(header);
+    int[] found = new int[COLUMNS.size()];
+    for (int i = 0; i < found.length; i++) {
+      found[i] = names.indexOf(COLUMNS.get(i));
+      if (found[i] < 0 && i > 0) {
+        throw new InvalidImportException(String.format("column %s is missing in the header", COLUMNS.get(i)));
+      }
+    }
+    return found;
+  }
+
+  private String value(String[] values, int column) {
+    int position = positions[column];
+    if (position < 0 || position >= values.length) {
+      return null;
+    }
+    String value = values[position].trim();
+    return value.isEmpty() ? null : value;
+  }
+
+  private static Integer toInteger(String value) {
+    return value == null ? null : Integer.valueOf(value);
+  }
+
+  private static Instant toInstant(String value) {
+    return value == null ? null : Instant.parse(value);
+  }
+
+}
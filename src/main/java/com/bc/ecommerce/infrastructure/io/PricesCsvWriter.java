@@ -0,0 +1,55 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Prices CSV writer class.
+ * In com.bc.ecommerce.infrastructure.io package.
+ * The first line is the header, with the columns {@link PricesCsvReader} expects. Dates are ISO 8601
+ * instants. Identifiers and currencies never hold the separator, so values are not quoted.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesCsvWriter extends PricesWriter {
+
+  private static final String SEPARATOR = ",";
+
+  private static final String HEADER = String.join(SEPARATOR,
+          "id", "brand_id", "product_id", "price_list", "start_date", "end_date", "price", "currency", "priority");
+
+  /**
+   * Creates a prices CSV writer.
+   *
+   * @param target The target, UTF-8 encoded.
+   */
+  public PricesCsvWriter(OutputStream target) {
+    super(target);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected String header() {
+    return HEADER;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected String format(Prices prices) {
+    return Stream.of(prices.getId(), prices.getBrandId(), prices.getProductId(), prices.getPriceList(),
+                    prices.getStartDate(), prices.getEndDate(),
+                    prices.getPrice() == null ? null : prices.getPrice().toPlainString(),
+                    prices.getCurrency(), prices.getPriority())
+            .map(value -> Objects.toString(value, ""))
+            .collect(Collectors.joining(SEPARATOR));
+  }
+
+}
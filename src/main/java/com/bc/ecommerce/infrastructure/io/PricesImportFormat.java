@@ -0,0 +1,91 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.application.exception.InvalidImportException;
+import com.bc.ecommerce.application.exception.InvalidRequestParameterException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Prices import format enum.
+ * In com.bc.ecommerce.infrastructure.io package.
+ * The export writes the same formats, so an exported file can be imported back.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@AllArgsConstructor
+@Getter
+public enum PricesImportFormat {
+  CSV("text/csv", ".csv"),
+  NDJSON("application/x-ndjson", ".ndjson");
+
+  private final String mediaType;
+  private final String extension;
+
+  /**
+   * Creates the reader of this format.
+   *
+   * @param source The source.
+   * @param objectMapper The object mapper.
+   * @return The reader.
+   */
+  public PricesReader reader(InputStream source, ObjectMapper objectMapper) {
+    return this == CSV ? new PricesCsvReader(source) : new PricesNdjsonReader(source, objectMapper);
+  }
+
+  /**
+   * Creates the writer of this format.
+   *
+   * @param target The target.
+   * @param objectMapper The object mapper.
+   * @return The writer.
+   */
+  public PricesWriter writer(OutputStream target, ObjectMapper objectMapper) {
+    return this == CSV ? new PricesCsvWriter(target) : new PricesNdjsonWriter(target, objectMapper);
+  }
+
+  /**
+   * Resolves the format of the given name, ignoring case.
+   *
+   * @param name The name, csv or ndjson.
+   * @return The format.
+   */
+  public static PricesImportFormat ofName(String name) {
+    return Arrays.stream(values())
+            .filter(format -> format.name().equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new InvalidRequestParameterException("unsupported format " + name));
+  }
+
+  /**
+   * Resolves the format of the given content type, ignoring its parameters (charset).
+   *
+   * @param contentType The content type.
+   * @return The format.
+   */
+  public static PricesImportFormat ofMediaType(String contentType) {
+    String mediaType = contentType == null ? "" : contentType.split(";")[0].trim();
+    return Arrays.stream(values())
+            .filter(format -> format.mediaType.equalsIgnoreCase(mediaType))
+            .findFirst()
+            .orElseThrow(() -> new InvalidImportException("unsupported content type " + contentType));
+  }
+
+  /**
+   * Resolves the format of the given file from its extension.
+   *
+   * @param fileName The file name.
+   * @return The format.
+   */
+  public static PricesImportFormat ofFileName(String fileName) {
+    return Arrays.stream(values())
+            .filter(format -> fileName.toLowerCase().endsWith(format.extension))
+            .findFirst()
+            .orElseThrow(() -> new InvalidImportException("unsupported file " + fileName));
+  }
+
+}
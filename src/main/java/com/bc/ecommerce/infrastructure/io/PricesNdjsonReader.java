@@ -0,0 +1,46 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.application.exception.InvalidImportException;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.InputStream;
+
+/**
+ * Prices NDJSON reader class.
+ * In com.bc.ecommerce.infrastructure.io package.
+ * Every line is a JSON object with the price fields: id (optional), brandId, productId, priceList,
+ * startDate, endDate, price, currency and priority.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesNdjsonReader extends PricesReader {
+
+  private final ObjectReader objectReader;
+
+  /**
+   * Creates a prices NDJSON reader.
+   *
+   * @param source The source, UTF-8 encoded.
+   * @param objectMapper The object mapper, able to read java.time types.
+   */
+  public PricesNdjsonReader(InputStream source, ObjectMapper objectMapper) {
+    super(source);
+    this.objectReader = objectMapper.readerFor(Prices.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Prices parse(String line) {
+    try {
+      return objectReader.readValue(line);
+    } catch (JsonProcessingException e) {
+      throw new InvalidImportException(String.format("line %d, %s", getLineNumber(), e.getOriginalMessage()), e);
+    }
+  }
+
+}
@@ -0,0 +1,45 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Prices NDJSON writer class.
+ * In com.bc.ecommerce.infrastructure.io package.
+ * Every line is a JSON object with the price fields, as {@link PricesNdjsonReader} expects them.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesNdjsonWriter extends PricesWriter {
+
+  private final ObjectWriter objectWriter;
+
+  /**
+   * Creates a prices NDJSON writer.
+   *
+   * @param target The target, UTF-8 encoded.
+   * @param objectMapper The object mapper, able to write java.time types.
+   */
+  public PricesNdjsonWriter(OutputStream target, ObjectMapper objectMapper) {
+    super(target);
+    this.objectWriter = objectMapper.writerFor(Prices.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected String format(Prices prices) {
+    try {
+      return objectWriter.writeValueAsString(prices);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
@@ -0,0 +1,141 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.application.exception.InvalidImportException;
+import com.bc.ecommerce.domain.operational.Prices;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Prices reader class.
+ * In com.bc.ecommerce.infrastructure.io package.
+ * Parses a text source with a price per line incrementally: only the line being parsed is held in memory.
+ * Blank lines are skipped.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public abstract class PricesReader implements Iterator<Prices>, Closeable {
+
+  private final BufferedReader reader;
+  private long lineNumber;
+  private Prices upcoming;
+  private boolean started;
+
+  /**
+   * Creates a prices reader.
+   *
+   * @param source The source, UTF-8 encoded.
+   */
+  protected PricesReader(InputStream source) {
+    this.reader = new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parses a non blank line.
+   *
+   * @param line The line.
+   * @return The price, or null if the line does not hold a price (such as a header).
+   */
+  protected abstract Prices parse(String line);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasNext() {
+    if (!started) {
+      upcoming = read();
+      started = true;
+    }
+    return upcoming != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Prices next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Prices current = upcoming;
+    upcoming = read();
+    return current;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  /**
+   * The number of the last line read, for error reporting.
+   *
+   * @return The line number, starting at 1.
+   */
+  protected long getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * Reads lines until a price is parsed.
+   *
+   * @return The price, or null at the end of the source.
+   */
+  private Prices read() {
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (!line.isBlank()) {
+          Prices prices = parse(line);
+          if (prices != null) {
+            return validate(prices);
+          }
+        }
+      }
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Checks the mandatory fields. A price without id gets a random one, which is only used if it is new.
+   *
+   * @param prices The parsed price.
+   * @return The price.
+   */
+  private Prices validate(Prices prices) {
+    if (prices.getBrandId() == null || prices.getProductId() == null || prices.getPriceList() == null
+            || prices.getStartDate() == null || prices.getEndDate() == null || prices.getPrice() == null
+            || prices.getCurrency() == null || prices.getPriority() == null) {
+      throw new InvalidImportException(String.format("line %d has missing fields", lineNumber));
+    }
+    if (prices.getEndDate().isBefore(prices.getStartDate())) {
+      throw new InvalidImportException(String.format("line %d ends before it starts", lineNumber));
+    }
+    if (prices.getId() == null || prices.getId().isBlank()) {
+      prices.setId(UUID.randomUUID().toString());
+    } else {
+      try {
+        UUID.fromString(prices.getId());
+      } catch (IllegalArgumentException e) {
+        throw new InvalidImportException(String.format("line %d has an invalid id", lineNumber), e);
+      }
+    }
+    return prices;
+  }
+
+}
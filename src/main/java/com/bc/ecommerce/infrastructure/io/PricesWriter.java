@@ -0,0 +1,91 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Prices writer class.
+ * In com.bc.ecommerce.infrastructure.io package.
+ * Writes a price per line to a text target as the prices are given: only the line being formatted is held
+ * in memory. The output can be read back with the reader of the same format.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public abstract class PricesWriter implements Closeable {
+
+  private final Writer writer;
+  private boolean started;
+
+  /**
+   * Creates a prices writer.
+   *
+   * @param target The target, UTF-8 encoded.
+   */
+  protected PricesWriter(OutputStream target) {
+    this.writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Formats a price.
+   *
+   * @param prices The price.
+   * @return The line, without line terminator.
+   */
+  protected abstract String format(Prices prices);
+
+  /**
+   * The first line, written even if there are no prices.
+   *
+   * @return The header, or null if the format has none.
+   */
+  protected String header() {
+    return null;
+  }
+
+  /**
+   * Writes the price.
+   *
+   * @param prices The price.
+   */
+  public void write(Prices prices) {
+    try {
+      start();
+      writer.write(format(prices));
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      start();
+    } finally {
+      writer.close();
+    }
+  }
+
+  private void start() throws IOException {
+    if (!started) {
+      started = true;
+      String header = header();
+      if (header != null) {
+        writer.write(header);
+        writer.write('\n');
+      }
+    }
+  }
+
+}
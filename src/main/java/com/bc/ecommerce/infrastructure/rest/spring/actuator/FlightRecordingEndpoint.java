@@ -0,0 +1,110 @@
+package com.bc.ecommerce.infrastructure.rest.spring.actuator;
+
+import com.bc.ecommerce.application.jfr.PricesFlightRecorder;
+import com.bc.ecommerce.application.jfr.PricesFlightRecorder.RecordingStatus;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * FlightRecordingEndpoint class. Actuator endpoint of the on-demand flight recording, on the management port:
+ * POST /actuator/jfr starts it (optionally with configuration=profile and a maxAge such as 5m), GET dumps the
+ * events recorded so far as a .jfr file, to be opened with JDK Mission Control, and DELETE stops it.
+ * In com.bc.ecommerce.infrastructure.rest.spring.actuator package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@WebEndpoint(id = "jfr")
+@AllArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private final PricesFlightRecorder recorder;
+
+    /**
+     * Starts the recording, unless it is already running.
+     *
+     * @param configuration The settings of the JDK: default or profile.
+     * @param maxAge The age of the oldest events kept.
+     * @return The status of the recording, or 400 if the settings do not exist.
+     */
+    @WriteOperation
+    public WebEndpointResponse<RecordingStatus> start(@Nullable String configuration, @Nullable Duration maxAge) {
+        try {
+            return new WebEndpointResponse<>(recorder.start(configuration, maxAge));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Dumps the events recorded so far. The recording goes on.
+     *
+     * @return The recording, or 404 if it is not running.
+     * @throws IOException if it can not be dumped.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() throws IOException {
+        Path file = recorder.dump();
+        if (file == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new TemporaryFileSystemResource(file));
+    }
+
+    /**
+     * Stops the recording.
+     */
+    @DeleteOperation
+    public void stop() {
+        recorder.stop();
+    }
+
+    /**
+     * A dump, deleted once it is read.
+     */
+    private static final class TemporaryFileSystemResource extends FileSystemResource {
+
+        private TemporaryFileSystemResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        /**
+         * Not served as a file, so it is read through {@link #getInputStream()} and deleted.
+         *
+         * @return Always false.
+         */
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+
+    }
+
+}
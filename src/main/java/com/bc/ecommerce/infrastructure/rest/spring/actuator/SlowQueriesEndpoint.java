@@ -0,0 +1,69 @@
+package com.bc.ecommerce.infrastructure.rest.spring.actuator;
+
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SlowQueryLog;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import java.util.List;
+
+/**
+ * SlowQueriesEndpoint class. Actuator endpoint of the queries captured by the {@link SlowQueryLog}, on the
+ * management port: GET /actuator/slowqueries lists them, the latest first, and DELETE forgets them.
+ * In com.bc.ecommerce.infrastructure.rest.spring.actuator package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Endpoint(id = "slowqueries")
+@AllArgsConstructor
+public class SlowQueriesEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * The captured queries still kept.
+     *
+     * @return The report.
+     */
+    @ReadOperation
+    public SlowQueriesReport slowQueries() {
+        return new SlowQueriesReport(slowQueryLog.getThreshold().toMillis(), slowQueryLog.getCaptured(),
+                slowQueryLog.getEntries());
+    }
+
+    /**
+     * Forgets the captured queries.
+     */
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+
+    /**
+     * Slow queries report.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SlowQueriesReport {
+
+        /**
+         * Executions taking longer are captured.
+         */
+        private final long thresholdMillis;
+
+        /**
+         * Executions captured since startup, including the ones no longer kept.
+         */
+        private final long captured;
+
+        /**
+         * The captured executions still kept, the latest first.
+         */
+        private final List<SlowQuery> queries;
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.bc.ecommerce.infrastructure.rest.spring.actuator;
+
+import com.bc.ecommerce.application.tracing.InMemorySpanSink;
+import com.bc.ecommerce.application.tracing.Span;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import java.util.List;
+
+/**
+ * SpansEndpoint class. Actuator endpoint of the spans kept by the {@link InMemorySpanSink}, on the management
+ * port: GET /actuator/spans lists them, the latest finished first, GET /actuator/spans/{traceId} decomposes a
+ * single trace, and DELETE forgets them. The spans are in the Zipkin v2 json model.
+ * In com.bc.ecommerce.infrastructure.rest.spring.actuator package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Endpoint(id = "spans")
+@AllArgsConstructor
+public class SpansEndpoint {
+
+    private final InMemorySpanSink sink;
+
+    /**
+     * The spans still kept.
+     *
+     * @return The report.
+     */
+    @ReadOperation
+    public SpansReport spans() {
+        return new SpansReport(sink.getExported(), sink.getSpans());
+    }
+
+    /**
+     * The spans of the trace still kept, in the order they started.
+     *
+     * @param traceId The trace, as in the X-B3-TraceId header.
+     * @return The spans.
+     */
+    @ReadOperation
+    public List<Span> trace(@Selector String traceId) {
+        return sink.getTrace(traceId);
+    }
+
+    /**
+     * Forgets the spans kept.
+     */
+    @DeleteOperation
+    public void clear() {
+        sink.clear();
+    }
+
+    /**
+     * Spans report.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SpansReport {
+
+        /**
+         * Spans exported since startup, including the ones no longer kept.
+         */
+        private final long exported;
+
+        /**
+         * The spans still kept, the latest finished first.
+         */
+        private final List<Span> spans;
+
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * ErrorDto
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class ErrorDto   {
+  @JsonProperty("code")
+  private String code;
+
+  @JsonProperty("message")
+  private String message;
+
+  @JsonProperty("level")
+  private String level;
+
+  @JsonProperty("description")
+  private String description;
+
+  public ErrorDto code(String code) {
+    this.code = code;
+    return this;
+  }
+
+  /**
+   * A 8-digit machine readable application error code. Not to be confused with the HTTP status code in the response.
+   * @return code
+  */
+  @ApiModelProperty(example = "01400001", value = "A 8-digit machine readable application error code. Not to be confused with the HTTP status code in the response.")
+
+@Size(min = 8, max = 8) 
+  public String getCode() {
+    return code;
+  }
+
+  public void setCode(String code) {
+    this.code = code;
+  }
+
+  public ErrorDto message(String message) {
+    this.message = message;
+    return this;
+  }
+
+  /**
+   * A long, human readable description of the error.
+   * @return message
+  */
+  @ApiModelProperty(example = "Field [%s] is missing", value = "A long, human readable description of the error.")
+
+@Size(min = 1, max = 255) 
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  public ErrorDto level(String level) {
+    this.level = level;
+    return this;
+  }
+
+  /**
+   * Severity classification of the error.
+   * @return level
+  */
+  @ApiModelProperty(example = "Fatal", value = "Severity classification of the error.")
+
+@Size(min = 1, max = 50) 
+  public String getLevel() {
+    return level;
+  }
+
+  public void setLevel(String level) {
+    this.level = level;
+  }
+
+  public ErrorDto description(String description) {
+    this.description = description;
+    return this;
+  }
+
+  /**
+   * Trace of the exception.
+   * @return description
+  */
+  @ApiModelProperty(example = "Header field missing", value = "Trace of the exception.")
+
+@Size(min = 1, max = 255) 
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ErrorDto error = (ErrorDto) o;
+    return Objects.equals(this.code, error.code) &&
+        Objects.equals(this.message, error.message) &&
+        Objects.equals(this.level, error.level) &&
+        Objects.equals(this.description, error.description);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(code, message, level, description);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ErrorDto {\n");
+    
+    sb.append("    code: ").append(toIndentedString(code)).append("\n");
+    sb.append("    message: ").append(toIndentedString(message)).append("\n");
+    sb.append("    level: ").append(toIndentedString(level)).append("\n");
+    sb.append("    description: ").append(toIndentedString(description)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
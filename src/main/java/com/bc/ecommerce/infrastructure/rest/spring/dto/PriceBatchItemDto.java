@@ -0,0 +1,112 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * The price resolved for the requested item at the same position
+ */
+@ApiModel(description = "The price resolved for the requested item at the same position")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PriceBatchItemDto   {
+  @JsonProperty("found")
+  private Boolean found;
+
+  @JsonProperty("price")
+  private PriceDto price;
+
+  public PriceBatchItemDto found(Boolean found) {
+    this.found = found;
+    return this;
+  }
+
+  /**
+   * Whether a price applies to the requested item. When false the price is not informed.
+   * @return found
+  */
+  @ApiModelProperty(example = "true", value = "Whether a price applies to the requested item. When false the price is not informed.")
+
+
+  public Boolean getFound() {
+    return found;
+  }
+
+  public void setFound(Boolean found) {
+    this.found = found;
+  }
+
+  public PriceBatchItemDto price(PriceDto price) {
+    this.price = price;
+    return this;
+  }
+
+  /**
+   * Get price
+   * @return price
+  */
+  @ApiModelProperty(value = "")
+
+  @Valid
+
+  public PriceDto getPrice() {
+    return price;
+  }
+
+  public void setPrice(PriceDto price) {
+    this.price = price;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PriceBatchItemDto priceBatchItem = (PriceBatchItemDto) o;
+    return Objects.equals(this.found, priceBatchItem.found) &&
+        Objects.equals(this.price, priceBatchItem.price);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(found, price);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PriceBatchItemDto {\n");
+    
+    sb.append("    found: ").append(toIndentedString(found)).append("\n");
+    sb.append("    price: ").append(toIndentedString(price)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,96 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceQueryDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * The prices to be resolved in a single request
+ */
+@ApiModel(description = "The prices to be resolved in a single request")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PriceBatchRequestDto   {
+  @JsonProperty("items")
+  @Valid
+  private List<PriceQueryDto> items = new ArrayList<>();
+
+  public PriceBatchRequestDto items(List<PriceQueryDto> items) {
+    this.items = items;
+    return this;
+  }
+
+  public PriceBatchRequestDto addItemsItem(PriceQueryDto itemsItem) {
+    this.items.add(itemsItem);
+    return this;
+  }
+
+  /**
+   * Get items
+   * @return items
+  */
+  @ApiModelProperty(required = true, value = "")
+  @NotNull
+
+  @Valid
+@Size(min = 1, max = 100) 
+  public List<PriceQueryDto> getItems() {
+    return items;
+  }
+
+  public void setItems(List<PriceQueryDto> items) {
+    this.items = items;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PriceBatchRequestDto priceBatchRequest = (PriceBatchRequestDto) o;
+    return Objects.equals(this.items, priceBatchRequest.items);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(items);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PriceBatchRequestDto {\n");
+    
+    sb.append("    items: ").append(toIndentedString(items)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
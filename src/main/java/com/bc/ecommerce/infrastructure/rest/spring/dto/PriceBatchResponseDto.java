@@ -0,0 +1,98 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceBatchItemDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * The prices resolved, in the order they were requested
+ */
+@ApiModel(description = "The prices resolved, in the order they were requested")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PriceBatchResponseDto   {
+  @JsonProperty("items")
+  @Valid
+  private List<PriceBatchItemDto> items = null;
+
+  public PriceBatchResponseDto items(List<PriceBatchItemDto> items) {
+    this.items = items;
+    return this;
+  }
+
+  public PriceBatchResponseDto addItemsItem(PriceBatchItemDto itemsItem) {
+    if (this.items == null) {
+      this.items = new ArrayList<>();
+    }
+    this.items.add(itemsItem);
+    return this;
+  }
+
+  /**
+   * Get items
+   * @return items
+  */
+  @ApiModelProperty(value = "")
+
+  @Valid
+
+  public List<PriceBatchItemDto> getItems() {
+    return items;
+  }
+
+  public void setItems(List<PriceBatchItemDto> items) {
+    this.items = items;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PriceBatchResponseDto priceBatchResponse = (PriceBatchResponseDto) o;
+    return Objects.equals(this.items, priceBatchResponse.items);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(items);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PriceBatchResponseDto {\n");
+    
+    sb.append("    items: ").append(toIndentedString(items)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,251 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * The last change of a price after the requested change version
+ */
+@ApiModel(description = "The last change of a price after the requested change version")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PriceChangeDto   {
+  @JsonProperty("version")
+  private Long version;
+
+  /**
+   * INSERTED if the price did not exist at the requested version, UPDATED if it did, DELETED if it no longer exists.
+   */
+  public enum OperationEnum {
+    INSERTED("INSERTED"),
+    
+    UPDATED("UPDATED"),
+    
+    DELETED("DELETED");
+
+    private String value;
+
+    OperationEnum(String value) {
+      this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    @JsonCreator
+    public static OperationEnum fromValue(String value) {
+      for (OperationEnum b : OperationEnum.values()) {
+        if (b.value.equals(value)) {
+          return b;
+        }
+      }
+      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+  }
+
+  @JsonProperty("operation")
+  private OperationEnum operation;
+
+  @JsonProperty("id")
+  private String id;
+
+  @JsonProperty("productId")
+  private String productId;
+
+  @JsonProperty("brandId")
+  private String brandId;
+
+  @JsonProperty("price")
+  private PriceDto price;
+
+  public PriceChangeDto version(Long version) {
+    this.version = version;
+    return this;
+  }
+
+  /**
+   * Monotonically increasing version taken by every write of a price.
+   * minimum: 0
+   * @return version
+  */
+  @ApiModelProperty(example = "42", value = "Monotonically increasing version taken by every write of a price.")
+
+@Min(0L) 
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
+  public PriceChangeDto operation(OperationEnum operation) {
+    this.operation = operation;
+    return this;
+  }
+
+  /**
+   * INSERTED if the price did not exist at the requested version, UPDATED if it did, DELETED if it no longer exists.
+   * @return operation
+  */
+  @ApiModelProperty(example = "UPDATED", value = "INSERTED if the price did not exist at the requested version, UPDATED if it did, DELETED if it no longer exists.")
+
+
+  public OperationEnum getOperation() {
+    return operation;
+  }
+
+  public void setOperation(OperationEnum operation) {
+    this.operation = operation;
+  }
+
+  public PriceChangeDto id(String id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * The price identifier
+   * @return id
+  */
+  @ApiModelProperty(example = "2311a6f1-844d-41c4-8ee1-1baf19ff17bb", value = "The price identifier")
+
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public PriceChangeDto productId(String productId) {
+    this.productId = productId;
+    return this;
+  }
+
+  /**
+   * The product identifier
+   * @return productId
+  */
+  @ApiModelProperty(example = "35455", value = "The product identifier")
+
+@Pattern(regexp = "^[a-zA-Z0-9_-]*$") @Size(max = 255) 
+  public String getProductId() {
+    return productId;
+  }
+
+  public void setProductId(String productId) {
+    this.productId = productId;
+  }
+
+  public PriceChangeDto brandId(String brandId) {
+    this.brandId = brandId;
+    return this;
+  }
+
+  /**
+   * The brand identifier. Ex ZARA 1
+   * @return brandId
+  */
+  @ApiModelProperty(example = "1", value = "The brand identifier. Ex ZARA 1")
+
+@Pattern(regexp = "^[a-zA-Z0-9_-]*$") @Size(max = 255) 
+  public String getBrandId() {
+    return brandId;
+  }
+
+  public void setBrandId(String brandId) {
+    this.brandId = brandId;
+  }
+
+  public PriceChangeDto price(PriceDto price) {
+    this.price = price;
+    return this;
+  }
+
+  /**
+   * Get price
+   * @return price
+  */
+  @ApiModelProperty(value = "")
+
+  @Valid
+
+  public PriceDto getPrice() {
+    return price;
+  }
+
+  public void setPrice(PriceDto price) {
+    this.price = price;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PriceChangeDto priceChange = (PriceChangeDto) o;
+    return Objects.equals(this.version, priceChange.version) &&
+        Objects.equals(this.operation, priceChange.operation) &&
+        Objects.equals(this.id, priceChange.id) &&
+        Objects.equals(this.productId, priceChange.productId) &&
+        Objects.equals(this.brandId, priceChange.brandId) &&
+        Objects.equals(this.price, priceChange.price);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(version, operation, id, productId, brandId, price);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PriceChangeDto {\n");
+    
+    sb.append("    version: ").append(toIndentedString(version)).append("\n");
+    sb.append("    operation: ").append(toIndentedString(operation)).append("\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    productId: ").append(toIndentedString(productId)).append("\n");
+    sb.append("    brandId: ").append(toIndentedString(brandId)).append("\n");
+    sb.append("    price: ").append(toIndentedString(price)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
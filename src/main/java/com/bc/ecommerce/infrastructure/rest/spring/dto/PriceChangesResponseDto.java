@@ -0,0 +1,149 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceChangeDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * A page of price changes, in version order
+ */
+@ApiModel(description = "A page of price changes, in version order")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PriceChangesResponseDto   {
+  @JsonProperty("changes")
+  @Valid
+  private List<PriceChangeDto> changes = null;
+
+  @JsonProperty("next")
+  private Long next;
+
+  @JsonProperty("hasMore")
+  private Boolean hasMore;
+
+  public PriceChangesResponseDto changes(List<PriceChangeDto> changes) {
+    this.changes = changes;
+    return this;
+  }
+
+  public PriceChangesResponseDto addChangesItem(PriceChangeDto changesItem) {
+    if (this.changes == null) {
+      this.changes = new ArrayList<>();
+    }
+    this.changes.add(changesItem);
+    return this;
+  }
+
+  /**
+   * The changes. The price is not informed for the deleted ones.
+   * @return changes
+  */
+  @ApiModelProperty(value = "The changes. The price is not informed for the deleted ones.")
+
+  @Valid
+
+  public List<PriceChangeDto> getChanges() {
+    return changes;
+  }
+
+  public void setChanges(List<PriceChangeDto> changes) {
+    this.changes = changes;
+  }
+
+  public PriceChangesResponseDto next(Long next) {
+    this.next = next;
+    return this;
+  }
+
+  /**
+   * Monotonically increasing version taken by every write of a price.
+   * minimum: 0
+   * @return next
+  */
+  @ApiModelProperty(example = "42", value = "Monotonically increasing version taken by every write of a price.")
+
+@Min(0L) 
+  public Long getNext() {
+    return next;
+  }
+
+  public void setNext(Long next) {
+    this.next = next;
+  }
+
+  public PriceChangesResponseDto hasMore(Boolean hasMore) {
+    this.hasMore = hasMore;
+    return this;
+  }
+
+  /**
+   * Whether there are more changes after next.
+   * @return hasMore
+  */
+  @ApiModelProperty(example = "false", value = "Whether there are more changes after next.")
+
+
+  public Boolean getHasMore() {
+    return hasMore;
+  }
+
+  public void setHasMore(Boolean hasMore) {
+    this.hasMore = hasMore;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PriceChangesResponseDto priceChangesResponse = (PriceChangesResponseDto) o;
+    return Objects.equals(this.changes, priceChangesResponse.changes) &&
+        Objects.equals(this.next, priceChangesResponse.next) &&
+        Objects.equals(this.hasMore, priceChangesResponse.hasMore);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(changes, next, hasMore);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PriceChangesResponseDto {\n");
+    
+    sb.append("    changes: ").append(toIndentedString(changes)).append("\n");
+    sb.append("    next: ").append(toIndentedString(next)).append("\n");
+    sb.append("    hasMore: ").append(toIndentedString(hasMore)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,244 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.time.OffsetDateTime;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * The &#39;Ecommerce product price information&#39;
+ */
+@ApiModel(description = "The 'Ecommerce product price information'")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PriceDto   {
+  @JsonProperty("productId")
+  private String productId;
+
+  @JsonProperty("priceList")
+  private Integer priceList;
+
+  @JsonProperty("brandId")
+  private String brandId;
+
+  @JsonProperty("price")
+  private Double price;
+
+  @JsonProperty("startDate")
+  @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime startDate;
+
+  @JsonProperty("endDate")
+  @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime endDate;
+
+  @JsonProperty("validUntil")
+  @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime validUntil;
+
+  public PriceDto productId(String productId) {
+    this.productId = productId;
+    return this;
+  }
+
+  /**
+   * The product identifier
+   * @return productId
+  */
+  @ApiModelProperty(example = "35455", value = "The product identifier")
+
+@Pattern(regexp = "^[a-zA-Z0-9_-]*$") @Size(max = 255) 
+  public String getProductId() {
+    return productId;
+  }
+
+  public void setProductId(String productId) {
+    this.productId = productId;
+  }
+
+  public PriceDto priceList(Integer priceList) {
+    this.priceList = priceList;
+    return this;
+  }
+
+  /**
+   * The price list allows grouping different products to be applied with their specified intervals in separate lists, enabling the creation of distinct campaigns.
+   * minimum: 0
+   * maximum: 999999999
+   * @return priceList
+  */
+  @ApiModelProperty(example = "5", value = "The price list allows grouping different products to be applied with their specified intervals in separate lists, enabling the creation of distinct campaigns.")
+
+@Min(0) @Max(999999999) 
+  public Integer getPriceList() {
+    return priceList;
+  }
+
+  public void setPriceList(Integer priceList) {
+    this.priceList = priceList;
+  }
+
+  public PriceDto brandId(String brandId) {
+    this.brandId = brandId;
+    return this;
+  }
+
+  /**
+   * The brand identifier. Ex ZARA 1
+   * @return brandId
+  */
+  @ApiModelProperty(example = "1", value = "The brand identifier. Ex ZARA 1")
+
+@Pattern(regexp = "^[a-zA-Z0-9_-]*$") @Size(max = 255) 
+  public String getBrandId() {
+    return brandId;
+  }
+
+  public void setBrandId(String brandId) {
+    this.brandId = brandId;
+  }
+
+  public PriceDto price(Double price) {
+    this.price = price;
+    return this;
+  }
+
+  /**
+   * The retail price to apply.
+   * @return price
+  */
+  @ApiModelProperty(example = "35.5", value = "The retail price to apply.")
+
+
+  public Double getPrice() {
+    return price;
+  }
+
+  public void setPrice(Double price) {
+    this.price = price;
+  }
+
+  public PriceDto startDate(OffsetDateTime startDate) {
+    this.startDate = startDate;
+    return this;
+  }
+
+  /**
+   * Timestamp in ISO 8601 format.
+   * @return startDate
+  */
+  @ApiModelProperty(example = "2022-12-14T09:31:26.075Z", value = "Timestamp in ISO 8601 format.")
+
+  @Valid
+
+  public OffsetDateTime getStartDate() {
+    return startDate;
+  }
+
+  public void setStartDate(OffsetDateTime startDate) {
+    this.startDate = startDate;
+  }
+
+  public PriceDto endDate(OffsetDateTime endDate) {
+    this.endDate = endDate;
+    return this;
+  }
+
+  /**
+   * Timestamp in ISO 8601 format.
+   * @return endDate
+  */
+  @ApiModelProperty(example = "2022-12-14T09:31:26.075Z", value = "Timestamp in ISO 8601 format.")
+
+  @Valid
+
+  public OffsetDateTime getEndDate() {
+    return endDate;
+  }
+
+  public void setEndDate(OffsetDateTime endDate) {
+    this.endDate = endDate;
+  }
+
+  public PriceDto validUntil(OffsetDateTime validUntil) {
+    this.validUntil = validUntil;
+    return this;
+  }
+
+  /**
+   * Exclusive instant at which the price to be applied for the brand and product next changes, either because this price ends or because a higher priority one starts. The price may be reused until then.
+   * @return validUntil
+  */
+  @ApiModelProperty(example = "2020-06-14T15:00Z", value = "Exclusive instant at which the price to be applied for the brand and product next changes, either because this price ends or because a higher priority one starts. The price may be reused until then.")
+
+  @Valid
+
+  public OffsetDateTime getValidUntil() {
+    return validUntil;
+  }
+
+  public void setValidUntil(OffsetDateTime validUntil) {
+    this.validUntil = validUntil;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PriceDto price = (PriceDto) o;
+    return Objects.equals(this.productId, price.productId) &&
+        Objects.equals(this.priceList, price.priceList) &&
+        Objects.equals(this.brandId, price.brandId) &&
+        Objects.equals(this.price, price.price) &&
+        Objects.equals(this.startDate, price.startDate) &&
+        Objects.equals(this.endDate, price.endDate) &&
+        Objects.equals(this.validUntil, price.validUntil);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(productId, priceList, brandId, price, startDate, endDate, validUntil);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PriceDto {\n");
+    
+    sb.append("    productId: ").append(toIndentedString(productId)).append("\n");
+    sb.append("    priceList: ").append(toIndentedString(priceList)).append("\n");
+    sb.append("    brandId: ").append(toIndentedString(brandId)).append("\n");
+    sb.append("    price: ").append(toIndentedString(price)).append("\n");
+    sb.append("    startDate: ").append(toIndentedString(startDate)).append("\n");
+    sb.append("    endDate: ").append(toIndentedString(endDate)).append("\n");
+    sb.append("    validUntil: ").append(toIndentedString(validUntil)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
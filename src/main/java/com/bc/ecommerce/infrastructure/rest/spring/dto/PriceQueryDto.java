@@ -0,0 +1,141 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.time.OffsetDateTime;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * A price to be resolved
+ */
+@ApiModel(description = "A price to be resolved")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PriceQueryDto   {
+  @JsonProperty("productId")
+  private String productId;
+
+  @JsonProperty("brandId")
+  private String brandId;
+
+  @JsonProperty("issueDate")
+  @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime issueDate;
+
+  public PriceQueryDto productId(String productId) {
+    this.productId = productId;
+    return this;
+  }
+
+  /**
+   * The product identifier
+   * @return productId
+  */
+  @ApiModelProperty(example = "35455", required = true, value = "The product identifier")
+  @NotNull
+
+@Pattern(regexp = "^[a-zA-Z0-9_-]*$") @Size(max = 255) 
+  public String getProductId() {
+    return productId;
+  }
+
+  public void setProductId(String productId) {
+    this.productId = productId;
+  }
+
+  public PriceQueryDto brandId(String brandId) {
+    this.brandId = brandId;
+    return this;
+  }
+
+  /**
+   * The brand identifier. Ex ZARA 1
+   * @return brandId
+  */
+  @ApiModelProperty(example = "1", required = true, value = "The brand identifier. Ex ZARA 1")
+  @NotNull
+
+@Pattern(regexp = "^[a-zA-Z0-9_-]*$") @Size(max = 255) 
+  public String getBrandId() {
+    return brandId;
+  }
+
+  public void setBrandId(String brandId) {
+    this.brandId = brandId;
+  }
+
+  public PriceQueryDto issueDate(OffsetDateTime issueDate) {
+    this.issueDate = issueDate;
+    return this;
+  }
+
+  /**
+   * Timestamp in ISO 8601 format.
+   * @return issueDate
+  */
+  @ApiModelProperty(example = "2022-12-14T09:31:26.075Z", required = true, value = "Timestamp in ISO 8601 format.")
+  @NotNull
+
+  @Valid
+
+  public OffsetDateTime getIssueDate() {
+    return issueDate;
+  }
+
+  public void setIssueDate(OffsetDateTime issueDate) {
+    this.issueDate = issueDate;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PriceQueryDto priceQuery = (PriceQueryDto) o;
+    return Objects.equals(this.productId, priceQuery.productId) &&
+        Objects.equals(this.brandId, priceQuery.brandId) &&
+        Objects.equals(this.issueDate, priceQuery.issueDate);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(productId, brandId, issueDate);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PriceQueryDto {\n");
+    
+    sb.append("    productId: ").append(toIndentedString(productId)).append("\n");
+    sb.append("    brandId: ").append(toIndentedString(brandId)).append("\n");
+    sb.append("    issueDate: ").append(toIndentedString(issueDate)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
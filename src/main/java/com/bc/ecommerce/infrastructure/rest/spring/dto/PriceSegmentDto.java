@@ -0,0 +1,142 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.time.OffsetDateTime;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * A segment of the timeline, during which the price is the one to be applied
+ */
+@ApiModel(description = "A segment of the timeline, during which the price is the one to be applied")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PriceSegmentDto   {
+  @JsonProperty("from")
+  @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime from;
+
+  @JsonProperty("to")
+  @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime to;
+
+  @JsonProperty("price")
+  private PriceDto price;
+
+  public PriceSegmentDto from(OffsetDateTime from) {
+    this.from = from;
+    return this;
+  }
+
+  /**
+   * Inclusive start of the segment.
+   * @return from
+  */
+  @ApiModelProperty(example = "2020-06-14T00:00Z", value = "Inclusive start of the segment.")
+
+  @Valid
+
+  public OffsetDateTime getFrom() {
+    return from;
+  }
+
+  public void setFrom(OffsetDateTime from) {
+    this.from = from;
+  }
+
+  public PriceSegmentDto to(OffsetDateTime to) {
+    this.to = to;
+    return this;
+  }
+
+  /**
+   * Exclusive end of the segment.
+   * @return to
+  */
+  @ApiModelProperty(example = "2020-06-14T15:00Z", value = "Exclusive end of the segment.")
+
+  @Valid
+
+  public OffsetDateTime getTo() {
+    return to;
+  }
+
+  public void setTo(OffsetDateTime to) {
+    this.to = to;
+  }
+
+  public PriceSegmentDto price(PriceDto price) {
+    this.price = price;
+    return this;
+  }
+
+  /**
+   * Get price
+   * @return price
+  */
+  @ApiModelProperty(value = "")
+
+  @Valid
+
+  public PriceDto getPrice() {
+    return price;
+  }
+
+  public void setPrice(PriceDto price) {
+    this.price = price;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PriceSegmentDto priceSegment = (PriceSegmentDto) o;
+    return Objects.equals(this.from, priceSegment.from) &&
+        Objects.equals(this.to, priceSegment.to) &&
+        Objects.equals(this.price, priceSegment.price);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(from, to, price);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PriceSegmentDto {\n");
+    
+    sb.append("    from: ").append(toIndentedString(from)).append("\n");
+    sb.append("    to: ").append(toIndentedString(to)).append("\n");
+    sb.append("    price: ").append(toIndentedString(price)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
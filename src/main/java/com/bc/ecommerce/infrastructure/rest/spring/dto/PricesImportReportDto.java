@@ -0,0 +1,160 @@
+package com.bc.ecommerce.infrastructure.rest.spring.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+
+
+import java.util.*;
+
+/**
+ * The summary of a bulk import
+ */
+@ApiModel(description = "The summary of a bulk import")
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+public class PricesImportReportDto   {
+  @JsonProperty("rows")
+  private Long rows;
+
+  @JsonProperty("chunks")
+  private Long chunks;
+
+  @JsonProperty("elapsedMillis")
+  private Long elapsedMillis;
+
+  @JsonProperty("rowsPerSecond")
+  private Double rowsPerSecond;
+
+  public PricesImportReportDto rows(Long rows) {
+    this.rows = rows;
+    return this;
+  }
+
+  /**
+   * The prices written.
+   * @return rows
+  */
+  @ApiModelProperty(example = "1000000", value = "The prices written.")
+
+
+  public Long getRows() {
+    return rows;
+  }
+
+  public void setRows(Long rows) {
+    this.rows = rows;
+  }
+
+  public PricesImportReportDto chunks(Long chunks) {
+    this.chunks = chunks;
+    return this;
+  }
+
+  /**
+   * The chunks they were written in, each one in its own transaction.
+   * @return chunks
+  */
+  @ApiModelProperty(example = "1000", value = "The chunks they were written in, each one in its own transaction.")
+
+
+  public Long getChunks() {
+    return chunks;
+  }
+
+  public void setChunks(Long chunks) {
+    this.chunks = chunks;
+  }
+
+  public PricesImportReportDto elapsedMillis(Long elapsedMillis) {
+    this.elapsedMillis = elapsedMillis;
+    return this;
+  }
+
+  /**
+   * The duration of the import.
+   * @return elapsedMillis
+  */
+  @ApiModelProperty(example = "12500", value = "The duration of the import.")
+
+
+  public Long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  public void setElapsedMillis(Long elapsedMillis) {
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  public PricesImportReportDto rowsPerSecond(Double rowsPerSecond) {
+    this.rowsPerSecond = rowsPerSecond;
+    return this;
+  }
+
+  /**
+   * The prices written per second.
+   * @return rowsPerSecond
+  */
+  @ApiModelProperty(example = "80000.0", value = "The prices written per second.")
+
+
+  public Double getRowsPerSecond() {
+    return rowsPerSecond;
+  }
+
+  public void setRowsPerSecond(Double rowsPerSecond) {
+    this.rowsPerSecond = rowsPerSecond;
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PricesImportReportDto pricesImportReport = (PricesImportReportDto) o;
+    return Objects.equals(this.rows, pricesImportReport.rows) &&
+        Objects.equals(this.chunks, pricesImportReport.chunks) &&
+        Objects.equals(this.elapsedMillis, pricesImportReport.elapsedMillis) &&
+        Objects.equals(this.rowsPerSecond, pricesImportReport.rowsPerSecond);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(rows, chunks, elapsedMillis, rowsPerSecond);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PricesImportReportDto {\n");
+    
+    sb.append("    rows: ").append(toIndentedString(rows)).append("\n");
+    sb.append("    chunks: ").append(toIndentedString(chunks)).append("\n");
+    sb.append("    elapsedMillis: ").append(toIndentedString(elapsedMillis)).append("\n");
+    sb.append("    rowsPerSecond: ").append(toIndentedString(rowsPerSecond)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -1,9 +1,16 @@
 package com.bc.ecommerce.infrastructure.rest.spring.mapper;
 
 import com.bc.ecommerce.application.mapper.DateUtilMapper;
+import com.bc.ecommerce.domain.operational.PriceChange;
+import com.bc.ecommerce.domain.operational.PriceChangesPage;
+import com.bc.ecommerce.domain.operational.PriceSegment;
 import com.bc.ecommerce.domain.operational.Prices;
 import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceChangeDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceChangesResponseDto;
 import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceQueryDto;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -24,6 +31,42 @@ public interface PricesMapper {
      */
     @Mapping(target = "startDate", qualifiedByName = "toOffsetDateTime")
     @Mapping(target = "endDate", qualifiedByName = "toOffsetDateTime")
+    @Mapping(target = "validUntil", ignore = true)
     PriceDto map(Prices prices);
 
+    /**
+     * Map the given price segment to dto: its price, valid until the end of the segment.
+     * @param segment {@link PriceSegment} object.
+     * @return The mapped dto object.
+     */
+    @Mapping(target = "productId", source = "price.productId")
+    @Mapping(target = "priceList", source = "price.priceList")
+    @Mapping(target = "brandId", source = "price.brandId")
+    @Mapping(target = "price", source = "price.price")
+    @Mapping(target = "startDate", source = "price.startDate", qualifiedByName = "toOffsetDateTime")
+    @Mapping(target = "endDate", source = "price.endDate", qualifiedByName = "toOffsetDateTime")
+    @Mapping(target = "validUntil", source = "to", qualifiedByName = "toOffsetDateTime")
+    PriceDto map(PriceSegment segment);
+
+    /**
+     * Map the given price change to dto. The price of a deleted one is not informed.
+     * @param change {@link PriceChange} object.
+     * @return The mapped dto object.
+     */
+    PriceChangeDto map(PriceChange change);
+
+    /**
+     * Map the given page of price changes to dto.
+     * @param page {@link PriceChangesPage} object.
+     * @return The mapped dto object.
+     */
+    PriceChangesResponseDto map(PriceChangesPage page);
+
+    /**
+     * Map the given requested price to criteria.
+     * @param query {@link PriceQueryDto} object.
+     * @return The criteria to be applied.
+     */
+    PricesCriteria map(PriceQueryDto query);
+
 }
@@ -0,0 +1,48 @@
+package com.bc.ecommerce.infrastructure.rest.spring.metrics;
+
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * PriceStageBodyAdvice class. Moves the price request in progress, if any, to the serialization stage just
+ * before its body is written. The stage lasts until {@link PriceStageInterceptor} records the request.
+ * In com.bc.ecommerce.infrastructure.rest.spring.metrics package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "ecommerce.prices.stage-timers.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceStageBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        PriceStageTimings timings = PriceStageTimings.current();
+        if (timings != null) {
+            timings.switchTo(PriceStage.SERIALIZATION);
+        }
+        return body;
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.bc.ecommerce.infrastructure.rest.spring.metrics;
+
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PriceStageInterceptor class. Times the stages of every price request and publishes them as the
+ * prices.lookup.stage timers, tagged by stage and by the outcome of the request.
+ * In com.bc.ecommerce.infrastructure.rest.spring.metrics package.
+ * The {@link PriceStageTimings} of a request are started before its handler and bound to the threads serving
+ * it, and recorded once the response is written. Every timer is registered upfront with a percentile histogram,
+ * so recording a request only takes a clock read per stage switch and an update per stage it went through.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PriceStageInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String METRIC = "prices.lookup.stage";
+
+    private static final String TIMINGS = PriceStageInterceptor.class.getName() + ".timings";
+
+    private final Timer[][] timers = new Timer[PriceStage.values().length][Outcome.values().length];
+
+    /**
+     * Registers the timers of every stage and outcome.
+     *
+     * @param registry Meter registry.
+     */
+    public PriceStageInterceptor(MeterRegistry registry) {
+        for (PriceStage stage : PriceStage.values()) {
+            for (Outcome outcome : Outcome.values()) {
+                timers[stage.ordinal()][outcome.ordinal()] = Timer.builder(METRIC)
+                        .description("Time spent by the price requests in each stage")
+                        .tag("stage", stage.getTag())
+                        .tag("outcome", outcome.getTag())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(10_000))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(registry);
+            }
+        }
+    }
+
+    /**
+     * Starts the timings of the request, or binds them again on its asynchronous dispatch.
+     *
+     * @param request The request.
+     * @param response The response.
+     * @param handler The handler.
+     * @return Always true.
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            PriceStageTimings.attach((PriceStageTimings) request.getAttribute(TIMINGS));
+        } else {
+            request.setAttribute(TIMINGS, PriceStageTimings.start());
+        }
+        return true;
+    }
+
+    /**
+     * Unbinds the timings from the request thread, which is released until the asynchronous dispatch.
+     *
+     * @param request The request.
+     * @param response The response.
+     * @param handler The handler.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        PriceStageTimings.attach(null);
+    }
+
+    /**
+     * Records the timings of the request once its response is written.
+     *
+     * @param request The request.
+     * @param response The response.
+     * @param handler The handler.
+     * @param ex The exception not handled, if any.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        PriceStageTimings timings = (PriceStageTimings) request.getAttribute(TIMINGS);
+        PriceStageTimings.attach(null);
+        if (timings != null) {
+            record(timings, Outcome.of(response.getStatus(), ex));
+        }
+    }
+
+    /**
+     * Stops the timings and records the time of every stage the request went through.
+     *
+     * @param timings The timings.
+     * @param outcome The outcome of the request.
+     */
+    void record(PriceStageTimings timings, Outcome outcome) {
+        timings.stop();
+        for (PriceStage stage : PriceStage.values()) {
+            long nanos = timings.getNanos(stage);
+            if (nanos > 0) {
+                timers[stage.ordinal()][outcome.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Outcome of a price request.
+     */
+    @Getter
+    @AllArgsConstructor
+    enum Outcome {
+        HIT("hit"),
+        NO_CONTENT("no-content"),
+        ERROR("error");
+
+        private final String tag;
+
+        /**
+         * The outcome of the response: an error if it failed, no content if no price applies, and a hit
+         * otherwise, also when the client already holds the price (304).
+         *
+         * @param status The status of the response.
+         * @param ex The exception not handled, if any.
+         * @return The outcome.
+         */
+        static Outcome of(int status, Exception ex) {
+            if (ex != null || status >= HttpStatus.BAD_REQUEST.value()) {
+                return ERROR;
+            }
+            return status == HttpStatus.NO_CONTENT.value() ? NO_CONTENT : HIT;
+        }
+    }
+
+}
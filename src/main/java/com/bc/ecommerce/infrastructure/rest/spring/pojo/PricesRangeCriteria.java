@@ -0,0 +1,17 @@
+package com.bc.ecommerce.infrastructure.rest.spring.pojo;
+
+import lombok.Builder;
+import lombok.Data;
+import java.time.OffsetDateTime;
+
+/**
+ * Search criteria of the prices of a product and brand applicable during the interval [from, to).
+ */
+@Data
+@Builder
+public class PricesRangeCriteria {
+  private String productId;
+  private String brandId;
+  private OffsetDateTime from;
+  private OffsetDateTime to;
+}
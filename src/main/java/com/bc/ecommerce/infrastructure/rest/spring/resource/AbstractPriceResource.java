@@ -0,0 +1,132 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AbstractPriceResource class. Response of GET /price, shared by its blocking, asynchronous and reactive controllers.
+ * In com.bc.ecommerce.infrastructure.rest.spring.resource package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public abstract class AbstractPriceResource {
+
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(5);
+
+    protected final PricesMapper mapper;
+
+    /**
+     * Upper bound of the time a price response may be cached.
+     */
+    @Value("${ecommerce.prices.http.max-age:5m}")
+    private Duration maxAge = DEFAULT_MAX_AGE;
+
+    /**
+     * Creates the resource.
+     *
+     * @param mapper Prices mapper.
+     */
+    protected AbstractPriceResource(PricesMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * The response of the segment found for the issue date: the price with its strong ETag, cacheable for as long
+     * as it stays the one to be applied from the issue date and bounded by ecommerce.prices.http.max-age, a 304
+     * if If-None-Match holds the ETag, or a 204 if no price applies. Mapping the price is timed as the mapping
+     * stage.
+     *
+     * @param segment The segment of the price to be applied, empty if none applies.
+     * @param issueDate The issue date.
+     * @param ifNoneMatch The If-None-Match header, if any.
+     * @return The response.
+     */
+    protected ResponseEntity<PriceDto> priceResponse(Optional<PriceSegment> segment, OffsetDateTime issueDate,
+                                                     String ifNoneMatch) {
+        PriceDto response;
+        try (PriceStageTimings.Scope stage = PriceStageTimings.enter(PriceStage.MAPPING)) {
+            response = segment.map(mapper::map).orElse(null);
+        }
+
+        if (response != null && response.getProductId() != null) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setETag(eTag(segment.get()));
+            headers.setCacheControl(cacheControl(segment.get(), issueDate));
+            if (matches(ifNoneMatch, headers.getETag())) {
+                return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+            }
+            return new ResponseEntity<>(response, headers, HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+    }
+
+    /**
+     * Strong entity tag of the segment: the id of its price and a hash of every field of the price and of the
+     * bounds of the segment, so it changes whenever the price is updated or another price shortens its validity.
+     *
+     * @param segment The segment of the price.
+     * @return The quoted entity tag.
+     */
+    static String eTag(PriceSegment segment) {
+        Prices prices = segment.getPrice();
+        int version = Objects.hash(prices.getBrandId(), prices.getProductId(), prices.getPriceList(),
+                prices.getStartDate(), prices.getEndDate(),
+                prices.getPrice() != null ? prices.getPrice().stripTrailingZeros() : null,
+                prices.getCurrency(), prices.getPriority(), segment.getFrom(), segment.getTo());
+        return String.format("\"%s-%08x\"", prices.getId(), version);
+    }
+
+    /**
+     * Cache control of the price: for as long as it stays the one to be applied from the issue date, and never
+     * longer than the configured max age, since prices can be imported at any time.
+     *
+     * @param segment The segment of the price.
+     * @param issueDate The issue date.
+     * @return The cache control.
+     */
+    private CacheControl cacheControl(PriceSegment segment, OffsetDateTime issueDate) {
+        if (segment.getTo() == null) {
+            return CacheControl.noCache();
+        }
+        Duration validity = Duration.between(issueDate.toInstant(), segment.getTo());
+        long seconds = Math.max(0, Math.min(validity.getSeconds(), maxAge.getSeconds()));
+        return seconds > 0 ? CacheControl.maxAge(seconds, TimeUnit.SECONDS) : CacheControl.noCache();
+    }
+
+    /**
+     * Whether the If-None-Match header matches the entity tag. The comparison is weak, as RFC 7232 mandates.
+     *
+     * @param ifNoneMatch The If-None-Match header, a list of entity tags or *.
+     * @param eTag The entity tag.
+     * @return True if the client already holds the representation.
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || tag.replaceFirst("^W/", "").equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.domain.port.in.PricesService;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiParam;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncPriceResource class. Rest controller of GET /price in the asynchronous mode.
+ * In com.bc.ecommerce.infrastructure.rest.spring.resource package.
+ * It replaces {@link EcommerceResource} with ecommerce.prices.async.enabled. It is not generated from api.yaml on
+ * purpose: the generated operation returns the response itself, while here the request thread is released as soon
+ * as the lookup is handed to the prices lookup executor. Cache hits are still answered on the request thread.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@RestController
+@Log4j2
+@Api(tags = {"Price"})
+@ConditionalOnProperty(name = "ecommerce.prices.async.enabled", havingValue = "true")
+public class AsyncPriceResource extends AbstractPriceResource {
+
+    private final PricesService service;
+
+    /**
+     * Creates the resource.
+     *
+     * @param service Prices service in port.
+     * @param mapper Prices mapper.
+     */
+    public AsyncPriceResource(PricesService service, PricesMapper mapper) {
+        super(mapper);
+        this.service = service;
+    }
+
+    /**
+     * Obtains the price to be applied for a product at the issue date, as {@link EcommerceResource} does. The
+     * lookup is rejected with a 503 when the queue of the executor is full, and answered with a 504 when it does
+     * not finish within ecommerce.prices.async.deadline.
+     *
+     * @param xB3TraceId The trace id.
+     * @param authorization The credentials.
+     * @param productId The product identifier.
+     * @param brandId The brand identifier.
+     * @param issueDate The issue date.
+     * @param ifNoneMatch ETag of a previously retrieved price.
+     * @return The response, once the lookup is resolved.
+     */
+    @GetMapping(value = "/price", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<PriceDto>> getPrice(
+            @ApiParam(required = true) @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
+            @ApiParam(required = true) @RequestHeader(value = "Authorization") String authorization,
+            @ApiParam(required = true) @RequestParam("product_id") String productId,
+            @ApiParam(required = true) @RequestParam("brand_id") String brandId,
+            @ApiParam(required = true) @RequestParam("issue_date")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime issueDate,
+            @ApiParam @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        log.info("Price request start: product id {} , brand id {} , issue date {}.", productId, brandId, issueDate);
+        PricesCriteria criteria = PricesCriteria.builder().productId(productId).issueDate(issueDate).brandId(brandId).build();
+        return service.searchSegmentAsync(criteria)
+                .thenApply(segment -> priceResponse(segment, issueDate, ifNoneMatch));
+    }
+
+}
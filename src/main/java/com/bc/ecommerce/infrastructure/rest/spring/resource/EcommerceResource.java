@@ -7,9 +7,8 @@ import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
 import com.bc.ecommerce.infrastructure.rest.spring.spec.PriceApi;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiParam;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -19,39 +18,47 @@ import java.time.OffsetDateTime;
 /**
  * EcommerceResource class. Rest controller ecommerce resource.
  * In com.bc.ecommerce.infrastructure.rest.spring.resource package.
+ * With ecommerce.prices.async.enabled, GET /price is served by {@link AsyncPriceResource} instead.
  *
  * @author Álvaro Carmona
  * @since 27/01/2024
  */
-@RequiredArgsConstructor
 @RestController
 @Log4j2
-@Api(tags = {"Ecommerce"})
-public class EcommerceResource implements PriceApi {
+@Api(tags = {"Price"})
+@ConditionalOnProperty(name = "ecommerce.prices.async.enabled", havingValue = "false", matchIfMissing = true)
+public class EcommerceResource extends AbstractPriceResource implements PriceApi {
 
     private final PricesService service;
 
-    private final PricesMapper mapper;
+    /**
+     * Creates the resource.
+     *
+     * @param service Prices service in port.
+     * @param mapper Prices mapper.
+     */
+    public EcommerceResource(PricesService service, PricesMapper mapper) {
+        super(mapper);
+        this.service = service;
+    }
 
     /**
      * {@inheritDoc}
+     * The response carries the strong ETag of the price and may be cached for as long as the price stays the one to
+     * be applied from the issue date, bounded by ecommerce.prices.http.max-age. If-None-Match is honored with a 304.
+     * The body informs that instant as validUntil, which is not bounded.
      */
     public ResponseEntity<PriceDto> getPrice(
             @ApiParam(required = true) @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
             @ApiParam(required = true) @RequestHeader(value = "Authorization") String authorization,
             @ApiParam(required = true) @RequestParam("product_id") String productId,
             @ApiParam(required = true) @RequestParam("brand_id") String brandId,
-            @ApiParam(required = true) @RequestParam("issue_date") OffsetDateTime issueDate
+            @ApiParam(required = true) @RequestParam("issue_date") OffsetDateTime issueDate,
+            @ApiParam @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         log.info("Price request start: product id {} , brand id {} , issue date {}.", productId, brandId, issueDate.toString());
         PricesCriteria criteria = PricesCriteria.builder().productId(productId).issueDate(issueDate).brandId(brandId).build();
-        var response = mapper.map(service.search(criteria));
-
-        if (response != null && response.getProductId() != null) {
-            return new ResponseEntity<>(response, HttpStatus.OK);
-        } else {
-            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
-        }
+        return priceResponse(service.searchSegment(criteria), issueDate, ifNoneMatch);
     }
 
 }
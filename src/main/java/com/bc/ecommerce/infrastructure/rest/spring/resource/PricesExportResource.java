@@ -0,0 +1,124 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.domain.port.in.PricesExportService;
+import com.bc.ecommerce.infrastructure.io.PricesImportFormat;
+import com.bc.ecommerce.infrastructure.io.PricesWriter;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiParam;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PricesExportResource class. Rest controller for the export of the prices of a brand.
+ * In com.bc.ecommerce.infrastructure.rest.spring.resource package.
+ * GET /prices/export is described in api.yaml under the PricesExport tag, whose interface is not generated: the
+ * generated operation returns a Resource, an input stream Spring copies to the response on the request thread, while
+ * here each price is written to the response, and gzip compressed, by a StreamingResponseBody as soon as it is read.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+@RestController
+@Log4j2
+@Api(tags = {"PricesExport"})
+public class PricesExportResource {
+
+    private static final String GZIP = "gzip";
+
+    private final PricesExportService service;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams the price to be applied at the issue date to every product of the brand, or to the given one,
+     * sorted by product. The body is gzip compressed when the client accepts it.
+     *
+     * @param xB3TraceId The trace id.
+     * @param authorization The credentials.
+     * @param acceptEncoding The encodings accepted by the client.
+     * @param brandId The brand identifier.
+     * @param issueDate The date the prices apply at.
+     * @param productId The product identifier, all of them if absent.
+     * @param format csv or ndjson, the formats of the import.
+     * @return The streamed prices.
+     */
+    @GetMapping(value = "/prices/export", produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportPrices(
+            @ApiParam(required = true) @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
+            @ApiParam(required = true) @RequestHeader(value = "Authorization") String authorization,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @ApiParam(required = true) @RequestParam("brand_id") String brandId,
+            @ApiParam(required = true) @RequestParam("issue_date")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime issueDate,
+            @RequestParam(value = "product_id", required = false) String productId,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format
+    ) {
+        PricesImportFormat exportFormat = PricesImportFormat.ofName(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        log.info("Prices export request start: brand id {} , issue date {} , product id {} , format {} , gzip {}.",
+                brandId, issueDate, productId, exportFormat, gzip);
+        PricesCriteria criteria = PricesCriteria.builder()
+                .brandId(brandId).productId(productId).issueDate(issueDate).build();
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream) : outputStream;
+            try (PricesWriter writer = exportFormat.writer(target, objectMapper)) {
+                service.exportPrices(criteria, writer::write);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment")
+                        .filename("prices-" + brandId + exportFormat.getExtension()).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Whether the client accepts gzip: it is listed without a zero quality or, if it is not listed, * is.
+     *
+     * @param acceptEncoding The Accept-Encoding header.
+     * @return True if the body can be gzip compressed.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean any = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = Arrays.stream(parts).skip(1)
+                    .map(parameter -> parameter.replace(" ", ""))
+                    .noneMatch(parameter -> parameter.matches("(?i)q=0(\\.0{0,3})?"));
+            if (GZIP.equalsIgnoreCase(name)) {
+                return accepted;
+            }
+            if ("*".equals(name)) {
+                any = accepted;
+            }
+        }
+        return any;
+    }
+
+}
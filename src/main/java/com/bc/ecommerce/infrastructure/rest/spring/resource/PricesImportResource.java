@@ -0,0 +1,67 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.domain.operational.PricesImportReport;
+import com.bc.ecommerce.domain.port.in.PricesImportService;
+import com.bc.ecommerce.infrastructure.io.PricesImportFormat;
+import com.bc.ecommerce.infrastructure.io.PricesReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiParam;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * PricesImportResource class. Rest controller for the bulk import of prices.
+ * In com.bc.ecommerce.infrastructure.rest.spring.resource package.
+ * POST /prices/import is described in api.yaml under the PricesImport tag, whose interface is not generated: the
+ * generated operation takes the body as a Resource, which Spring reads whole into a byte array before invoking it,
+ * while here the body is parsed as it arrives.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+@RestController
+@Log4j2
+@Api(tags = {"PricesImport"})
+public class PricesImportResource {
+
+    private final PricesImportService service;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Imports the prices of the request body, a CSV file with header or a JSON object per line.
+     *
+     * @param xB3TraceId The trace id.
+     * @param authorization The credentials.
+     * @param contentType text/csv or application/x-ndjson.
+     * @param request The request, whose body is streamed.
+     * @return The import summary.
+     * @throws IOException if the body can not be read.
+     */
+    @PostMapping(value = "/prices/import", consumes = {"text/csv", "application/x-ndjson"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PricesImportReport> importPrices(
+            @ApiParam(required = true) @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
+            @ApiParam(required = true) @RequestHeader(value = "Authorization") String authorization,
+            @ApiParam(required = true) @RequestHeader(value = HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        PricesImportFormat format = PricesImportFormat.ofMediaType(contentType);
+        log.info("Prices import request start: format {}.", format);
+        try (PricesReader reader = format.reader(request.getInputStream(), objectMapper)) {
+            return new ResponseEntity<>(service.importPrices(reader), HttpStatus.OK);
+        }
+    }
+
+}
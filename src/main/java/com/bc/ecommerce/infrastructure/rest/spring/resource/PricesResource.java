@@ -0,0 +1,117 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.application.exception.InvalidRequestParameterException;
+import com.bc.ecommerce.domain.operational.PriceChangesPage;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.port.in.PricesChangesService;
+import com.bc.ecommerce.domain.port.in.PricesImportService;
+import com.bc.ecommerce.domain.port.in.PricesService;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceBatchItemDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceBatchRequestDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceBatchResponseDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceChangesResponseDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.spec.PricesApi;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiParam;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import javax.validation.Valid;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * PricesResource class. Rest controller of the operations over several prices.
+ * In com.bc.ecommerce.infrastructure.rest.spring.resource package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+@RestController
+@Log4j2
+@Api(tags = {"Prices"})
+public class PricesResource implements PricesApi {
+
+    private static final int MAX_CHANGES_LIMIT = 1000;
+
+    private final PricesService service;
+
+    private final PricesChangesService changesService;
+
+    private final PricesImportService importService;
+
+    private final PricesMapper mapper;
+
+    /**
+     * {@inheritDoc}
+     * Every price found informs the instant until it stays the one to be applied as validUntil.
+     */
+    public ResponseEntity<PriceBatchResponseDto> getPrices(
+            @ApiParam(required = true) @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
+            @ApiParam(required = true) @RequestHeader(value = "Authorization") String authorization,
+            @ApiParam(required = true) @Valid @RequestBody PriceBatchRequestDto priceBatchRequestDto
+    ) {
+        log.info("Prices batch request start: {} items.", priceBatchRequestDto.getItems().size());
+        List<PricesCriteria> criteria = priceBatchRequestDto.getItems().stream()
+                .map(mapper::map)
+                .collect(Collectors.toList());
+        List<Optional<PriceSegment>> segments = service.searchAllSegments(criteria);
+
+        PriceBatchResponseDto response = new PriceBatchResponseDto();
+        for (Optional<PriceSegment> segment : segments) {
+            response.addItemsItem(new PriceBatchItemDto().found(segment.isPresent())
+                    .price(segment.map(mapper::map).orElse(null)));
+        }
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ResponseEntity<PriceChangesResponseDto> getPriceChanges(
+            @ApiParam(required = true) @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
+            @ApiParam(required = true) @RequestHeader(value = "Authorization") String authorization,
+            @ApiParam(defaultValue = "0") @RequestParam(value = "since", required = false, defaultValue = "0") Long since,
+            @ApiParam(defaultValue = "100") @RequestParam(value = "limit", required = false, defaultValue = "100") Integer limit
+    ) {
+        log.info("Price changes request start: since {} , limit {}.", since, limit);
+        if (since < 0) {
+            throw new InvalidRequestParameterException("since must not be negative");
+        }
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new InvalidRequestParameterException("limit must be between 1 and " + MAX_CHANGES_LIMIT);
+        }
+        PriceChangesPage page = changesService.searchChanges(since, limit);
+        return new ResponseEntity<>(mapper.map(page), HttpStatus.OK);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ResponseEntity<Void> deletePrice(
+            @ApiParam(required = true) @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
+            @ApiParam(required = true) @RequestHeader(value = "Authorization") String authorization,
+            @ApiParam(required = true) @PathVariable("id") String id
+    ) {
+        try {
+            UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestParameterException("id must be a uuid");
+        }
+        log.info("Prices delete request start: id {}.", id);
+        int deleted = importService.deletePrices(List.of(id));
+        return new ResponseEntity<>(deleted > 0 ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND);
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.application.exception.ApiErrorException;
+import com.bc.ecommerce.application.exception.InvalidRequestParameterException;
+import com.bc.ecommerce.application.exception.UnhandledException;
+import com.bc.ecommerce.application.mapper.ApiErrorMapper;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.port.in.PricesService;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceSegmentDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiParam;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * PricesTimelineResource class. Rest controller for the timeline of the prices of a product.
+ * In com.bc.ecommerce.infrastructure.rest.spring.resource package.
+ * GET /price/timeline is described in api.yaml under the PriceTimeline tag, whose interface is not generated: the
+ * generated operation returns the list of segments, so the status could only be sent once all of them were resolved,
+ * while here each one is written as soon as it is resolved and a later failure ends the array instead.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+@RestController
+@Log4j2
+@Api(tags = {"PriceTimeline"})
+public class PricesTimelineResource {
+
+    private final PricesService service;
+
+    private final PricesMapper mapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApiErrorMapper apiErrorMapper;
+
+    /**
+     * Streams the disjoint segments during which a single price is the one to be applied for the product and
+     * brand within [from, to), sorted and clipped to the range. Each segment is a JSON object with its from and
+     * to instants and its price, in a JSON array which is empty if no price applies during the range. Since the
+     * status is sent with the first segment, a failure to read the rest ends the array with an object holding
+     * the error instead, {"error": {...}}, so a partial timeline is never taken for a complete one.
+     *
+     * @param xB3TraceId The trace id.
+     * @param authorization The credentials.
+     * @param productId The product identifier.
+     * @param brandId The brand identifier.
+     * @param from The inclusive start of the range.
+     * @param to The exclusive end of the range.
+     * @return The streamed segments.
+     */
+    @GetMapping(value = "/price/timeline", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getPriceTimeline(
+            @ApiParam(required = true) @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
+            @ApiParam(required = true) @RequestHeader(value = "Authorization") String authorization,
+            @ApiParam(required = true) @RequestParam("product_id") String productId,
+            @ApiParam(required = true) @RequestParam("brand_id") String brandId,
+            @ApiParam(required = true) @RequestParam("from")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @ApiParam(required = true) @RequestParam("to")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to
+    ) {
+        log.info("Price timeline request start: product id {} , brand id {} , from {} , to {}.", productId, brandId,
+                from, to);
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestParameterException("from must be before to");
+        }
+        PricesRangeCriteria criteria = PricesRangeCriteria.builder()
+                .productId(productId).brandId(brandId).from(from).to(to).build();
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                try {
+                    service.searchSegments(criteria, segment -> write(generator, segment));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                } catch (RuntimeException e) {
+                    log.error("Price timeline interrupted after the response was committed.", e);
+                    generator.writeStartObject();
+                    generator.writeObjectField("error", apiErrorMapper.toApiErrorDto(
+                            e instanceof ApiErrorException ? (ApiErrorException) e : new UnhandledException(e)));
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Writes the segment as the PriceSegment of api.yaml. The price is mapped first, so a failure leaves no object
+     * half written.
+     *
+     * @param generator The generator of the response.
+     * @param segment The segment.
+     */
+    private void write(JsonGenerator generator, PriceSegment segment) {
+        PriceSegmentDto dto = new PriceSegmentDto()
+                .from(OffsetDateTime.ofInstant(segment.getFrom(), UTC))
+                .to(OffsetDateTime.ofInstant(segment.getTo(), UTC))
+                .price(mapper.map(segment.getPrice()));
+        try {
+            generator.writeObject(dto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (5.3.1).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package com.bc.ecommerce.infrastructure.rest.spring.spec;
+
+import com.bc.ecommerce.infrastructure.rest.spring.dto.ErrorDto;
+import java.time.OffsetDateTime;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import io.swagger.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+@Validated
+@Api(value = "Price", description = "the Price API")
+public interface PriceApi {
+
+    default Optional<NativeWebRequest> getRequest() {
+        return Optional.empty();
+    }
+
+    /**
+     * GET /price : Obtains the price to be applied for a product during the specified time interval.
+     * Obtains the retail price of the product (product_id) for the interval that matches the provided execution date. In case multiple applicable prices are found, the one with the highest numerical priority should be applied.
+     *
+     * @param xB3TraceId The TraceId indicates the overall ID of the trace. Every span in a trace shares this ID. The X-B3-TraceId header is encoded as 32 or 16 lower-hex characters. For example, a 128-bit TraceId header might look like 463ac35c9f6413ad48485a3953bb6124. (required)
+     * @param authorization The Authorization request header contains the credentials to authenticate a user to a server (required)
+     * @param productId The product identifier (required)
+     * @param brandId The brand identifier. Ex ZARA 1 (required)
+     * @param issueDate The execution date indicates that we should find a retail price whose interval includes the provided issue_date. (required)
+     * @param ifNoneMatch ETag of a previously retrieved price. When it is still the one of the price to be applied, the response is a 304 without body. (optional)
+     * @return Price information that is retrieved (status code 200)
+     *         or No Content (status code 204)
+     *         or Not Modified. The ETag in If-None-Match is still the one of the price to be applied. (status code 304)
+     *         or Bad request (status code 400)
+     *         or Unauthorized (status code 401)
+     *         or Forbidden (status code 403)
+     *         or Not found (status code 404)
+     *         or Method not allowed (status code 405)
+     *         or Unexpected errors (status code 500)
+     *         or Service is unavailable (status code 503)
+     *         or Gateway timeout (status code 504)
+     */
+
+    @ApiOperation(value = "Obtains the price to be applied for a product during the specified time interval.", nickname = "getPrice", notes = "Obtains the retail price of the product (product_id) for the interval that matches the provided execution date. In case multiple applicable prices are found, the one with the highest numerical priority should be applied.", response = PriceDto.class, authorizations = {
+        
+        @Authorization(value = "bearerAuth")
+         }, tags={ "Price", })
+    @ApiResponses(value = { 
+
+        @ApiResponse(code = 200, message = "Price information that is retrieved", response = PriceDto.class),
+
+        @ApiResponse(code = 204, message = "No Content"),
+
+        @ApiResponse(code = 304, message = "Not Modified. The ETag in If-None-Match is still the one of the price to be applied."),
+
+        @ApiResponse(code = 400, message = "Bad request", response = ErrorDto.class),
+
+        @ApiResponse(code = 401, message = "Unauthorized", response = ErrorDto.class),
+
+        @ApiResponse(code = 403, message = "Forbidden", response = ErrorDto.class),
+
+        @ApiResponse(code = 404, message = "Not found", response = ErrorDto.class),
+
+        @ApiResponse(code = 405, message = "Method not allowed", response = ErrorDto.class),
+
+        @ApiResponse(code = 500, message = "Unexpected errors", response = ErrorDto.class),
+
+        @ApiResponse(code = 503, message = "Service is unavailable", response = ErrorDto.class),
+
+        @ApiResponse(code = 504, message = "Gateway timeout", response = ErrorDto.class) })
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/price",
+        produces = { "application/json" }
+    )
+    default ResponseEntity<PriceDto> getPrice(
+@ApiParam(value = "The TraceId indicates the overall ID of the trace. Every span in a trace shares this ID. The X-B3-TraceId header is encoded as 32 or 16 lower-hex characters. For example, a 128-bit TraceId header might look like 463ac35c9f6413ad48485a3953bb6124.", required = true) @RequestHeader(value = "X-B3-TraceId", required = true) String xB3TraceId
+,
+@ApiParam(value = "The Authorization request header contains the credentials to authenticate a user to a server", required = true) @RequestHeader(value = "Authorization", required = true) String authorization
+,@NotNull @Pattern(regexp = "^[a-zA-Z0-9_-]*$") @Size(max = 255) @ApiParam(value = "The product identifier", required = true) @Valid @RequestParam(value = "product_id", required = true) String productId
+
+,@NotNull @Pattern(regexp = "^[a-zA-Z0-9_-]*$") @Size(max = 255) @ApiParam(value = "The brand identifier. Ex ZARA 1", required = true) @Valid @RequestParam(value = "brand_id", required = true) String brandId
+
+,@NotNull @ApiParam(value = "The execution date indicates that we should find a retail price whose interval includes the provided issue_date.", required = true) @Valid @RequestParam(value = "issue_date", required = true) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME) OffsetDateTime issueDate
+
+,
+@ApiParam(value = "ETag of a previously retrieved price. When it is still the one of the price to be applied, the response is a 304 without body.") @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"productId\" : \"35455\", \"endDate\" : \"2022-12-14T09:31:26.075Z\", \"price\" : 35.5, \"brandId\" : \"1\", \"validUntil\" : \"2020-06-14T15:00:00Z\", \"startDate\" : \"2022-12-14T09:31:26.075Z\", \"priceList\" : 5 }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+}
@@ -0,0 +1,227 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (5.3.1).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package com.bc.ecommerce.infrastructure.rest.spring.spec;
+
+import com.bc.ecommerce.infrastructure.rest.spring.dto.ErrorDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceBatchRequestDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceBatchResponseDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceChangesResponseDto;
+import io.swagger.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T09:03:38.380773534Z[Etc/UTC]")
+@Validated
+@Api(value = "Prices", description = "the Prices API")
+public interface PricesApi {
+
+    default Optional<NativeWebRequest> getRequest() {
+        return Optional.empty();
+    }
+
+    /**
+     * DELETE /prices/{id} : Deletes a price.
+     * Deletes the price with the given id. The deletion leaves a tombstone, so it is reported by GET /prices/changes.
+     *
+     * @param xB3TraceId The TraceId indicates the overall ID of the trace. Every span in a trace shares this ID. The X-B3-TraceId header is encoded as 32 or 16 lower-hex characters. For example, a 128-bit TraceId header might look like 463ac35c9f6413ad48485a3953bb6124. (required)
+     * @param authorization The Authorization request header contains the credentials to authenticate a user to a server (required)
+     * @param id The price identifier, a uuid. (required)
+     * @return No Content (status code 204)
+     *         or Bad request (status code 400)
+     *         or Unauthorized (status code 401)
+     *         or Forbidden (status code 403)
+     *         or Not found (status code 404)
+     *         or Method not allowed (status code 405)
+     *         or Unexpected errors (status code 500)
+     *         or Service is unavailable (status code 503)
+     *         or Gateway timeout (status code 504)
+     */
+
+    @ApiOperation(value = "Deletes a price.", nickname = "deletePrice", notes = "Deletes the price with the given id. The deletion leaves a tombstone, so it is reported by GET /prices/changes.", authorizations = {
+        
+        @Authorization(value = "bearerAuth")
+         }, tags={ "Prices", })
+    @ApiResponses(value = { 
+
+        @ApiResponse(code = 204, message = "No Content"),
+
+        @ApiResponse(code = 400, message = "Bad request", response = ErrorDto.class),
+
+        @ApiResponse(code = 401, message = "Unauthorized", response = ErrorDto.class),
+
+        @ApiResponse(code = 403, message = "Forbidden", response = ErrorDto.class),
+
+        @ApiResponse(code = 404, message = "Not found", response = ErrorDto.class),
+
+        @ApiResponse(code = 405, message = "Method not allowed", response = ErrorDto.class),
+
+        @ApiResponse(code = 500, message = "Unexpected errors", response = ErrorDto.class),
+
+        @ApiResponse(code = 503, message = "Service is unavailable", response = ErrorDto.class),
+
+        @ApiResponse(code = 504, message = "Gateway timeout", response = ErrorDto.class) })
+    @RequestMapping(
+        method = RequestMethod.DELETE,
+        value = "/prices/{id}",
+        produces = { "application/json" }
+    )
+    default ResponseEntity<Void> deletePrice(
+@ApiParam(value = "The TraceId indicates the overall ID of the trace. Every span in a trace shares this ID. The X-B3-TraceId header is encoded as 32 or 16 lower-hex characters. For example, a 128-bit TraceId header might look like 463ac35c9f6413ad48485a3953bb6124.", required = true) @RequestHeader(value = "X-B3-TraceId", required = true) String xB3TraceId
+,
+@ApiParam(value = "The Authorization request header contains the credentials to authenticate a user to a server", required = true) @RequestHeader(value = "Authorization", required = true) String authorization
+,@ApiParam(value = "The price identifier, a uuid.", required = true) @PathVariable("id") String id
+
+) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
+    /**
+     * GET /prices/changes : Obtains the prices inserted, updated or deleted after a change version.
+     * Every write of a price takes a new, greater change version. The result is a page with the last change of each price changed after since, in version order; the next page is requested with the next of the response as since, until hasMore is false. A local copy of the prices is kept in sync by applying the changes in order, starting from since 0.
+     *
+     * @param xB3TraceId The TraceId indicates the overall ID of the trace. Every span in a trace shares this ID. The X-B3-TraceId header is encoded as 32 or 16 lower-hex characters. For example, a 128-bit TraceId header might look like 463ac35c9f6413ad48485a3953bb6124. (required)
+     * @param authorization The Authorization request header contains the credentials to authenticate a user to a server (required)
+     * @param since The change version to start after: 0 for every price, or the next of the previous page. (optional, default to 0)
+     * @param limit The maximum number of changes of the page. (optional, default to 100)
+     * @return Page of the price changes after the requested version (status code 200)
+     *         or Bad request (status code 400)
+     *         or Unauthorized (status code 401)
+     *         or Forbidden (status code 403)
+     *         or Method not allowed (status code 405)
+     *         or Unexpected errors (status code 500)
+     *         or Service is unavailable (status code 503)
+     *         or Gateway timeout (status code 504)
+     */
+
+    @ApiOperation(value = "Obtains the prices inserted, updated or deleted after a change version.", nickname = "getPriceChanges", notes = "Every write of a price takes a new, greater change version. The result is a page with the last change of each price changed after since, in version order; the next page is requested with the next of the response as since, until hasMore is false. A local copy of the prices is kept in sync by applying the changes in order, starting from since 0.", response = PriceChangesResponseDto.class, authorizations = {
+        
+        @Authorization(value = "bearerAuth")
+         }, tags={ "Prices", })
+    @ApiResponses(value = { 
+
+        @ApiResponse(code = 200, message = "Page of the price changes after the requested version", response = PriceChangesResponseDto.class),
+
+        @ApiResponse(code = 400, message = "Bad request", response = ErrorDto.class),
+
+        @ApiResponse(code = 401, message = "Unauthorized", response = ErrorDto.class),
+
+        @ApiResponse(code = 403, message = "Forbidden", response = ErrorDto.class),
+
+        @ApiResponse(code = 405, message = "Method not allowed", response = ErrorDto.class),
+
+        @ApiResponse(code = 500, message = "Unexpected errors", response = ErrorDto.class),
+
+        @ApiResponse(code = 503, message = "Service is unavailable", response = ErrorDto.class),
+
+        @ApiResponse(code = 504, message = "Gateway timeout", response = ErrorDto.class) })
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/prices/changes",
+        produces = { "application/json" }
+    )
+    default ResponseEntity<PriceChangesResponseDto> getPriceChanges(
+@ApiParam(value = "The TraceId indicates the overall ID of the trace. Every span in a trace shares this ID. The X-B3-TraceId header is encoded as 32 or 16 lower-hex characters. For example, a 128-bit TraceId header might look like 463ac35c9f6413ad48485a3953bb6124.", required = true) @RequestHeader(value = "X-B3-TraceId", required = true) String xB3TraceId
+,
+@ApiParam(value = "The Authorization request header contains the credentials to authenticate a user to a server", required = true) @RequestHeader(value = "Authorization", required = true) String authorization
+,@Min(0L) @ApiParam(value = "The change version to start after: 0 for every price, or the next of the previous page.", defaultValue = "0") @Valid @RequestParam(value = "since", required = false, defaultValue = "0") Long since
+
+,@Min(1) @Max(1000) @ApiParam(value = "The maximum number of changes of the page.", defaultValue = "100") @Valid @RequestParam(value = "limit", required = false, defaultValue = "100") Integer limit
+
+) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"next\" : 42, \"changes\" : [ { \"productId\" : \"35455\", \"price\" : { \"productId\" : \"35455\", \"endDate\" : \"2022-12-14T09:31:26.075Z\", \"price\" : 35.5, \"brandId\" : \"1\", \"validUntil\" : \"2020-06-14T15:00:00Z\", \"startDate\" : \"2022-12-14T09:31:26.075Z\", \"priceList\" : 5 }, \"brandId\" : \"1\", \"id\" : \"2311a6f1-844d-41c4-8ee1-1baf19ff17bb\", \"version\" : 42, \"operation\" : \"UPDATED\" }, { \"productId\" : \"35455\", \"price\" : { \"productId\" : \"35455\", \"endDate\" : \"2022-12-14T09:31:26.075Z\", \"price\" : 35.5, \"brandId\" : \"1\", \"validUntil\" : \"2020-06-14T15:00:00Z\", \"startDate\" : \"2022-12-14T09:31:26.075Z\", \"priceList\" : 5 }, \"brandId\" : \"1\", \"id\" : \"2311a6f1-844d-41c4-8ee1-1baf19ff17bb\", \"version\" : 42, \"operation\" : \"UPDATED\" } ], \"hasMore\" : false }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
+    /**
+     * POST /prices/batch : Obtains the prices to be applied for several products in a single request.
+     * Resolves every (product_id, brand_id, issue_date) item of the request as GET /price does, with a single query. The result holds an item per requested item, in the same order; an item without applicable price is returned with found false.
+     *
+     * @param xB3TraceId The TraceId indicates the overall ID of the trace. Every span in a trace shares this ID. The X-B3-TraceId header is encoded as 32 or 16 lower-hex characters. For example, a 128-bit TraceId header might look like 463ac35c9f6413ad48485a3953bb6124. (required)
+     * @param authorization The Authorization request header contains the credentials to authenticate a user to a server (required)
+     * @param priceBatchRequestDto  (required)
+     * @return Price information for each one of the requested items (status code 200)
+     *         or Bad request (status code 400)
+     *         or Unauthorized (status code 401)
+     *         or Forbidden (status code 403)
+     *         or Method not allowed (status code 405)
+     *         or Unsupported media type (status code 415)
+     *         or Unexpected errors (status code 500)
+     *         or Service is unavailable (status code 503)
+     *         or Gateway timeout (status code 504)
+     */
+
+    @ApiOperation(value = "Obtains the prices to be applied for several products in a single request.", nickname = "getPrices", notes = "Resolves every (product_id, brand_id, issue_date) item of the request as GET /price does, with a single query. The result holds an item per requested item, in the same order; an item without applicable price is returned with found false.", response = PriceBatchResponseDto.class, authorizations = {
+        
+        @Authorization(value = "bearerAuth")
+         }, tags={ "Prices", })
+    @ApiResponses(value = { 
+
+        @ApiResponse(code = 200, message = "Price information for each one of the requested items", response = PriceBatchResponseDto.class),
+
+        @ApiResponse(code = 400, message = "Bad request", response = ErrorDto.class),
+
+        @ApiResponse(code = 401, message = "Unauthorized", response = ErrorDto.class),
+
+        @ApiResponse(code = 403, message = "Forbidden", response = ErrorDto.class),
+
+        @ApiResponse(code = 405, message = "Method not allowed", response = ErrorDto.class),
+
+        @ApiResponse(code = 415, message = "Unsupported media type", response = ErrorDto.class),
+
+        @ApiResponse(code = 500, message = "Unexpected errors", response = ErrorDto.class),
+
+        @ApiResponse(code = 503, message = "Service is unavailable", response = ErrorDto.class),
+
+        @ApiResponse(code = 504, message = "Gateway timeout", response = ErrorDto.class) })
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/prices/batch",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    default ResponseEntity<PriceBatchResponseDto> getPrices(
+@ApiParam(value = "The TraceId indicates the overall ID of the trace. Every span in a trace shares this ID. The X-B3-TraceId header is encoded as 32 or 16 lower-hex characters. For example, a 128-bit TraceId header might look like 463ac35c9f6413ad48485a3953bb6124.", required = true) @RequestHeader(value = "X-B3-TraceId", required = true) String xB3TraceId
+,
+@ApiParam(value = "The Authorization request header contains the credentials to authenticate a user to a server", required = true) @RequestHeader(value = "Authorization", required = true) String authorization
+,
+
+@ApiParam(value = "", required = true )   @Valid @RequestBody PriceBatchRequestDto priceBatchRequestDto) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"items\" : [ { \"found\" : true, \"price\" : { \"productId\" : \"35455\", \"endDate\" : \"2022-12-14T09:31:26.075Z\", \"price\" : 35.5, \"brandId\" : \"1\", \"validUntil\" : \"2020-06-14T15:00:00Z\", \"startDate\" : \"2022-12-14T09:31:26.075Z\", \"priceList\" : 5 } }, { \"found\" : true, \"price\" : { \"productId\" : \"35455\", \"endDate\" : \"2022-12-14T09:31:26.075Z\", \"price\" : 35.5, \"brandId\" : \"1\", \"validUntil\" : \"2020-06-14T15:00:00Z\", \"startDate\" : \"2022-12-14T09:31:26.075Z\", \"priceList\" : 5 } } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.bc.ecommerce.infrastructure.rest.spring.tracing;
+
+import com.bc.ecommerce.application.tracing.Span;
+import com.bc.ecommerce.application.tracing.Tracer;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * TracingInterceptor class. Opens the server span of every request, joining the trace the caller propagates with
+ * the B3 headers (X-B3-TraceId, X-B3-SpanId and X-B3-Sampled), and binds it to the threads serving the request,
+ * so the use case, repository and sql spans within become its children and the log lines carry its ids.
+ * In com.bc.ecommerce.infrastructure.rest.spring.tracing package.
+ * The span covers the controller and the writing of the response, is named after the route and tagged with the
+ * controller method and the status. The trace id is echoed in the X-B3-TraceId response header.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@AllArgsConstructor
+public class TracingInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String TRACE_ID_HEADER = "X-B3-TraceId";
+
+    public static final String SPAN_ID_HEADER = "X-B3-SpanId";
+
+    public static final String SAMPLED_HEADER = "X-B3-Sampled";
+
+    private static final String SPAN = TracingInterceptor.class.getName() + ".span";
+
+    private final Tracer tracer;
+
+    /**
+     * Starts the span of the request, or binds it again on its asynchronous dispatch.
+     *
+     * @param request The request.
+     * @param response The response.
+     * @param handler The handler.
+     * @return Always true.
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            Span.attach((Span) request.getAttribute(SPAN));
+            return true;
+        }
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Span span = tracer.startTrace(request.getMethod() + " " + (route == null ? request.getServletPath() : route),
+                request.getHeader(TRACE_ID_HEADER), request.getHeader(SPAN_ID_HEADER),
+                !"0".equals(request.getHeader(SAMPLED_HEADER)));
+        span.tag("http.method", request.getMethod()).tag("http.path", request.getRequestURI());
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod method = (HandlerMethod) handler;
+            span.tag("mvc.controller.class", method.getBeanType().getSimpleName())
+                    .tag("mvc.controller.method", method.getMethod().getName());
+        }
+        request.setAttribute(SPAN, span);
+        Span.attach(span);
+        response.setHeader(TRACE_ID_HEADER, span.getTraceId());
+        return true;
+    }
+
+    /**
+     * Unbinds the span from the request thread, which is released until the asynchronous dispatch.
+     *
+     * @param request The request.
+     * @param response The response.
+     * @param handler The handler.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        Span.attach(null);
+    }
+
+    /**
+     * Finishes the span of the request once its response is written.
+     *
+     * @param request The request.
+     * @param response The response.
+     * @param handler The handler.
+     * @param ex The exception not handled, if any.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Span span = (Span) request.getAttribute(SPAN);
+        Span.attach(null);
+        if (span == null) {
+            return;
+        }
+        span.tag("http.status_code", String.valueOf(response.getStatus()));
+        if (ex != null) {
+            span.error(ex);
+        } else if (response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            span.tag(Span.ERROR, String.valueOf(response.getStatus()));
+        }
+        span.finish();
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.bc.ecommerce.infrastructure.tracing;
+
+import com.bc.ecommerce.application.tracing.Span;
+import com.bc.ecommerce.application.tracing.SpanSink;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * LogSpanSink class. Logs every finished span at INFO as a line of Zipkin v2 json, for a log shipper to forward
+ * them to the tracing backend.
+ * In com.bc.ecommerce.infrastructure.tracing package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+public class LogSpanSink implements SpanSink {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates the sink.
+     *
+     * @param objectMapper The object mapper, copied to leave out the absent fields.
+     */
+    public LogSpanSink(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void export(Span span) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        try {
+            log.info(objectMapper.writeValueAsString(span));
+        } catch (JsonProcessingException e) {
+            log.warn("Span {} of trace {} not logged: {}", span.getId(), span.getTraceId(), e.getMessage());
+        }
+    }
+
+}
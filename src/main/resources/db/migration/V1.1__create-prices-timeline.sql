@@ -0,0 +1,16 @@
+-- Effective prices timeline: disjoint segments [segment_start, segment_end) holding the
+-- price with the highest priority for each brand and product.
+CREATE TABLE IF NOT EXISTS prices_timeline (
+    brand_id                   VARCHAR(255) NOT NULL,
+    product_id                 VARCHAR(255) NOT NULL,
+    segment_start              TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    segment_end                TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    id                         UUID NOT NULL,
+    price_list                 INT NOT NULL,
+    start_date                 TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    end_date                   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    price                      NUMERIC(15, 2) NOT NULL,
+    currency                   VARCHAR(3) NOT NULL,
+    priority                   INT NOT NULL,
+    PRIMARY KEY (brand_id, product_id, segment_start)
+);
@@ -0,0 +1,14 @@
+-- Covering index for the price lookup: equality on brand and product, rows in priority order
+-- (so the first row matching the date range is the one to apply and no sort is needed) and
+-- every selected column in the key, so the lookup does not need to visit the relation.
+CREATE INDEX IF NOT EXISTS prices_lookup_idx ON prices (
+    brand_id,
+    product_id,
+    priority DESC,
+    start_date,
+    end_date,
+    price_list,
+    price,
+    currency,
+    id
+);
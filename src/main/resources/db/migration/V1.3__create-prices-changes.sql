@@ -0,0 +1,25 @@
+-- Change version of the prices: every insert and update of a price takes the next value of the
+-- sequence, so the changes after a version are the prices with a greater one. created_version is
+-- the version a price was inserted with, kept once it is updated (null until then).
+CREATE SEQUENCE IF NOT EXISTS prices_change_version_seq;
+ALTER TABLE prices ADD COLUMN IF NOT EXISTS change_version BIGINT;
+ALTER TABLE prices ADD COLUMN IF NOT EXISTS created_version BIGINT;
+UPDATE prices SET change_version = nextval('prices_change_version_seq') WHERE change_version IS NULL;
+ALTER TABLE prices ALTER COLUMN change_version SET DEFAULT nextval('prices_change_version_seq');
+ALTER TABLE prices ALTER COLUMN change_version SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS prices_change_version_idx ON prices (change_version);
+
+-- Deleted prices, with the version taken by their deletion.
+CREATE TABLE IF NOT EXISTS prices_tombstones (
+    change_version             BIGINT PRIMARY KEY,
+    id                         UUID NOT NULL,
+    brand_id                   VARCHAR(255) NOT NULL,
+    product_id                 VARCHAR(255) NOT NULL
+);
+
+-- Single row locked by every write transaction before taking versions, so they are committed in
+-- version order and a reader never sees a version after one still to be committed.
+CREATE TABLE IF NOT EXISTS prices_change_lock (
+    id                         INT PRIMARY KEY
+);
+INSERT INTO prices_change_lock (id) SELECT 1 WHERE NOT EXISTS (SELECT id FROM prices_change_lock);
@@ -0,0 +1,99 @@
+package com.bc.ecommerce.application.usecases;
+
+import com.bc.ecommerce.application.cache.PricesTimelineCache;
+import com.bc.ecommerce.application.usescases.ReactivePricesUseCase;
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.ReactivePricesRepository;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReactivePricesUseCaseTest {
+
+    @Mock
+    private ReactivePricesRepository repository;
+
+    private PricesTimelineCache cache;
+
+    private ReactivePricesUseCase reactivePricesUseCase;
+
+    private Prices price;
+
+    @Before
+    public void setUp() {
+        cache = new PricesTimelineCache(100, Duration.ofMinutes(10));
+        reactivePricesUseCase = new ReactivePricesUseCase(repository, cache);
+        price = new Prices();
+        price.setId("2311a6f1-844d-41c4-8ee1-1baf19ff17bb");
+        price.setBrandId("1");
+        price.setProductId("35455");
+        price.setPriceList(1);
+        price.setPriority(0);
+        price.setStartDate(Instant.parse("2020-06-14T00:00:00Z"));
+        price.setEndDate(Instant.parse("2020-12-31T23:59:59Z"));
+        price.setPrice(new BigDecimal("35.50"));
+        price.setCurrency("EUR");
+    }
+
+    @Test
+    public void testSegmentLoadedOnceAndCached() {
+        PricesCriteria criteria = criteria("2020-06-14T10:00:00Z");
+        doReturn(Mono.just(PricesTimeline.of(List.of(price)))).when(repository).timelineProjection(PricesKey.of(criteria));
+
+        StepVerifier.create(reactivePricesUseCase.searchSegment(criteria))
+                .expectNextMatches(segment -> segment.getPrice() == price)
+                .verifyComplete();
+        StepVerifier.create(reactivePricesUseCase.searchSegment(criteria("2020-07-01T10:00:00Z")))
+                .expectNextMatches(segment -> segment.getPrice() == price)
+                .verifyComplete();
+
+        verify(repository, times(1)).timelineProjection(any(PricesKey.class));
+    }
+
+    @Test
+    public void testNoSegmentOutsideOfPrices() {
+        PricesCriteria criteria = criteria("2021-06-14T10:00:00Z");
+        doReturn(Mono.just(PricesTimeline.of(List.of(price)))).when(repository).timelineProjection(PricesKey.of(criteria));
+
+        StepVerifier.create(reactivePricesUseCase.searchSegment(criteria)).verifyComplete();
+        StepVerifier.create(reactivePricesUseCase.search(criteria)).verifyComplete();
+    }
+
+    @Test
+    public void testIncompleteCriteriaSelectedByCriteria() {
+        PricesCriteria criteria = PricesCriteria.builder().productId("35455").brandId("1").build();
+        doReturn(Mono.just(price)).when(repository).pricesProjection(criteria);
+
+        StepVerifier.create(reactivePricesUseCase.searchSegment(criteria))
+                .expectNext(new PriceSegment(null, null, price))
+                .verifyComplete();
+
+        verify(repository, never()).timelineProjection(any(PricesKey.class));
+    }
+
+    private static PricesCriteria criteria(String issueDate) {
+        return PricesCriteria.builder().productId("35455").brandId("1").issueDate(OffsetDateTime.parse(issueDate)).build();
+    }
+
+}
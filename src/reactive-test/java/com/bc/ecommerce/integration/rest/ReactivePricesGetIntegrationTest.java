@@ -0,0 +1,110 @@
+package com.bc.ecommerce.integration.rest;
+
+import com.bc.ecommerce.boot.reactive.config.EcommerceReactiveSpringBootService;
+import com.bc.ecommerce.utils.IntegrationTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.TimeZone;
+
+/**
+ * GET /price served by the reactive stack: ReactivePriceResource on WebFlux, resolved by R2dbcPricesRepository over
+ * an in-memory H2 migrated by flyway, through the port it listens on.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = EcommerceReactiveSpringBootService.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.flyway.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+                "spring.flyway.schemas=PUBLIC",
+                "spring.r2dbc.url=r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1",
+                "management.server.port=-1"
+        })
+@ActiveProfiles(EcommerceReactiveSpringBootService.PROFILE)
+public class ReactivePricesGetIntegrationTest {
+
+    /**
+     * The reactive stack has no jdbc datasource, the prices are inserted through a connection of their own.
+     */
+    private static final JdbcTemplate JDBC_TEMPLATE =
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeClass
+    public static void setUpClass() {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    }
+
+    @Before
+    public void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("sql/fill_prices_relation.sql"))
+                .execute(JDBC_TEMPLATE.getDataSource());
+    }
+
+    @After
+    public void tearDown() {
+        JDBC_TEMPLATE.execute("delete from prices");
+    }
+
+    @Test
+    public void priceGet200OkTest() throws IOException {
+        String output = Files.readString(Path.of(IntegrationTest.OUTPUT_FILES_PATH + "price_test_2_get.json"));
+
+        price("35455", "2020-06-14T16:00:00.000Z")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody().json(output);
+    }
+
+    @Test
+    public void priceGet304NotModifiedTest() {
+        String eTag = price("35455", "2020-06-14T10:00:00.000Z")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        price("35455", "2020-06-14T10:00:00.000Z")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void priceGet204NoContentTest() {
+        price("unknown", "2020-06-14T16:00:00.000Z")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    private WebTestClient.RequestHeadersSpec<?> price(String productId, String issueDate) {
+        return webTestClient.get()
+                .uri("/price?product_id={productId}&brand_id=1&issue_date={issueDate}", productId, issueDate)
+                .header("X-B3-TraceId", "123")
+                .header("Authorization", "231");
+    }
+
+}
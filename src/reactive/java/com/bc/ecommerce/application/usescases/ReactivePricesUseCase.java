@@ -0,0 +1,88 @@
+package com.bc.ecommerce.application.usescases;
+
+import com.bc.ecommerce.application.cache.PricesTimelineCache;
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.in.ReactivePricesService;
+import com.bc.ecommerce.domain.port.out.ReactivePricesRepository;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactivePricesService interface implementation.
+ * In com.bc.ecommerce.application.usescases package.
+ * Resolves the criteria as {@link PricesUseCase} does: complete criteria from the timeline of their brand and
+ * product, cached if enabled, and the rest with the select by criteria query.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@AllArgsConstructor
+public class ReactivePricesUseCase implements ReactivePricesService {
+
+    private final ReactivePricesRepository repository;
+
+    /**
+     * Cache of the prices timelines, null when disabled.
+     */
+    private final PricesTimelineCache cache;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Prices> search(PricesCriteria criteria) {
+        if (!isComplete(criteria)) {
+            return repository.pricesProjection(criteria);
+        }
+        return timeline(PricesKey.of(criteria))
+                .map(timeline -> timeline.priceAt(criteria.getIssueDate().toInstant()))
+                .filter(prices -> prices.getProductId() != null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PriceSegment> searchSegment(PricesCriteria criteria) {
+        if (!isComplete(criteria)) {
+            return repository.pricesProjection(criteria).map(prices -> new PriceSegment(null, null, prices));
+        }
+        return timeline(PricesKey.of(criteria))
+                .flatMap(timeline -> Mono.justOrEmpty(timeline.segmentAt(criteria.getIssueDate().toInstant())));
+    }
+
+    /**
+     * Whether all the fields of the criteria are informed.
+     *
+     * @param criteria The criteria.
+     * @return True if the criteria is complete.
+     */
+    private static boolean isComplete(PricesCriteria criteria) {
+        return criteria.getProductId() != null && criteria.getBrandId() != null && criteria.getIssueDate() != null;
+    }
+
+    /**
+     * The timeline of the brand and product, loaded from the repository on a miss.
+     *
+     * @param key The brand and product.
+     * @return The timeline.
+     */
+    private Mono<PricesTimeline> timeline(PricesKey key) {
+        if (cache == null) {
+            return repository.timelineProjection(key);
+        }
+        return Mono.defer(() -> {
+            PricesTimeline cached = cache.get(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long stamp = cache.stamp();
+            return repository.timelineProjection(key).doOnNext(timeline -> cache.put(key, timeline, stamp));
+        });
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.bc.ecommerce.boot.reactive.beans.service;
+
+import com.bc.ecommerce.application.cache.PricesTimelineCache;
+import com.bc.ecommerce.application.usescases.ReactivePricesUseCase;
+import com.bc.ecommerce.domain.port.in.ReactivePricesService;
+import com.bc.ecommerce.domain.port.out.ReactivePricesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+/**
+ * Reactive prices service configuration class.
+ * In com.bc.ecommerce.boot.reactive.beans.service package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePricesConfiguration {
+
+    /**
+     * Reactive prices service bean.
+     *
+     * @param repository Reactive prices repository out port.
+     * @param cache Prices timeline cache, if enabled.
+     * @return The created bean.
+     */
+    @Bean
+    public ReactivePricesService reactivePricesService(
+            ReactivePricesRepository repository,
+            ObjectProvider<PricesTimelineCache> cache) {
+        return new ReactivePricesUseCase(repository, cache.getIfAvailable());
+    }
+
+    /**
+     * Prices timeline cache bean. Its hit, miss and eviction statistics are published as cache.* metrics. The
+     * reactive stack does not write prices, so the timelines changed by another instance are only refreshed once
+     * they expire.
+     *
+     * @param maximumSize Maximum number of brands and products cached.
+     * @param expireAfterWrite Time an entry is served since it was loaded.
+     * @param registry Meter registry.
+     * @return The created bean.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ecommerce.prices.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public PricesTimelineCache pricesTimelineCache(
+            @Value("${ecommerce.prices.cache.maximum-size:10000}") long maximumSize,
+            @Value("${ecommerce.prices.cache.expire-after-write:10m}") Duration expireAfterWrite,
+            MeterRegistry registry) {
+        PricesTimelineCache cache = new PricesTimelineCache(maximumSize, expireAfterWrite);
+        CaffeineCacheMetrics.monitor(registry, cache.getNativeCache(), "prices");
+        return cache;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.bc.ecommerce.boot.reactive.config;
+
+import com.bc.ecommerce.boot.spring.config.TimeZoneConfig;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+
+/**
+ * EcommerceReactiveSpringBootService class.
+ * Main method of the reactive stack: GET /price served by WebFlux on Netty and resolved over R2DBC.
+ * In com.bc.ecommerce.boot.reactive.config package.
+ * Only the reactive adapters are scanned, under the reactive profile (application-reactive.yaml). The jdbc
+ * datasource is kept only for the flyway migrations. It is skipped when scanned by the servlet stack.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@SpringBootApplication(scanBasePackages = {
+        "com.bc.ecommerce.infrastructure.db.r2dbc",
+        "com.bc.ecommerce.infrastructure.rest.webflux",
+        "com.bc.ecommerce.infrastructure.rest.spring.mapper",
+        "com.bc.ecommerce.application.mapper",
+        "com.bc.ecommerce.boot.reactive"
+}, exclude = {HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+@Import(TimeZoneConfig.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class EcommerceReactiveSpringBootService {
+
+    /**
+     * Reactive profile, activated by the main method.
+     */
+    public static final String PROFILE = "reactive";
+
+    /**
+     * Main method.
+     *
+     * @param args a {@link String} object.
+     */
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(EcommerceReactiveSpringBootService.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(PROFILE)
+                .run(args);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.bc.ecommerce.domain.port.in;
+
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactivePricesService class. Non blocking counterpart of {@link PricesService}.
+ * In com.bc.ecommerce.domain.port.in package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public interface ReactivePricesService {
+
+  /**
+   * Builds and retrieves the price pvp detail for the given criteria.
+   * @param criteria The criteria to be applied.
+   * @return The price pvp to be applied, empty if none applies.
+   */
+  Mono<Prices> search(PricesCriteria criteria);
+
+  /**
+   * Builds and retrieves the price pvp detail for the given criteria, together with the interval during
+   * which it stays the price to be applied.
+   * @param criteria The criteria to be applied.
+   * @return The segment of the price pvp to be applied, empty if none applies. Its bounds are null when
+   *     the criteria is not complete.
+   */
+  Mono<PriceSegment> searchSegment(PricesCriteria criteria);
+
+}
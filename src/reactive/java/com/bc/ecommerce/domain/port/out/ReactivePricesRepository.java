@@ -0,0 +1,32 @@
+package com.bc.ecommerce.domain.port.out;
+
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactivePricesRepository class. Non blocking counterpart of {@link PricesRepository}.
+ * In com.bc.ecommerce.domain.port.out package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public interface ReactivePricesRepository {
+
+  /**
+   * Builds and retrieves the price pvp detail for the given criteria.
+   * @param criteria The criteria to be applied.
+   * @return The price pvp to be applied, empty if none applies.
+   */
+  Mono<Prices> pricesProjection(PricesCriteria criteria);
+
+  /**
+   * Builds the timeline of all the prices of a product for a brand.
+   * @param key The brand and product.
+   * @return The timeline, empty if there is no price for them.
+   */
+  Mono<PricesTimeline> timelineProjection(PricesKey key);
+
+}
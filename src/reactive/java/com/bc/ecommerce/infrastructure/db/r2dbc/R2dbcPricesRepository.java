@@ -0,0 +1,130 @@
+package com.bc.ecommerce.infrastructure.db.r2dbc;
+
+import com.bc.ecommerce.application.exception.ProblemsPersistingException;
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.domain.port.out.ReactivePricesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.model.PricesTable;
+import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SqlTemplate;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * R2dbcPricesRepository class.
+ * In com.bc.ecommerce.infrastructure.db.r2dbc package.
+ * Resolves every price with the same sql templates as {@link
+ * com.bc.ecommerce.infrastructure.db.springdata.repository.JdbcPricesRepository}, in their native form, over a
+ * non blocking R2DBC connection: no thread waits for the datastore.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+@Slf4j
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class R2dbcPricesRepository implements ReactivePricesRepository {
+
+  private final DatabaseClient databaseClient;
+
+  /**
+   * Creates the repository.
+   *
+   * @param databaseClient The R2DBC database client.
+   */
+  public R2dbcPricesRepository(DatabaseClient databaseClient) {
+    this.databaseClient = databaseClient;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Prices> pricesProjection(PricesCriteria criteria) {
+    return query(QueryBuilder.retrieve(criteria)).next();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<PricesTimeline> timelineProjection(PricesKey key) {
+    return query(QueryBuilder.retrieveByKey(key)).collectList().map(PricesTimeline::of);
+  }
+
+  /**
+   * Executes the query, binding its values by position.
+   *
+   * @param query The custom query.
+   * @return The prices, as they are read.
+   */
+  private Flux<Prices> query(CustomQuery query) {
+    SqlTemplate.Bound bound = query.bound();
+    Object[] values = bound.getValues();
+    if (log.isTraceEnabled()) {
+      log.trace("Native statement {}. Params {}", bound.getTemplate().getNativeSql(), Arrays.toString(values));
+    }
+    DatabaseClient.GenericExecuteSpec spec = databaseClient.execute(bound.getTemplate().getNativeSql());
+    for (int i = 0; i < values.length; i++) {
+      spec = spec.bind(i, param(values[i]));
+    }
+    return spec.map(R2dbcPricesRepository::prices).all()
+            .onErrorMap(e -> !(e instanceof ProblemsPersistingException),
+                    e -> new ProblemsPersistingException(e.getMessage(), e));
+  }
+
+  /**
+   * Converts a value bound to the jdbc statements into the one bound to the R2DBC ones: the dates are
+   * TIMESTAMP WITHOUT TIME ZONE columns holding UTC.
+   *
+   * @param value The jdbc value.
+   * @return The R2DBC value.
+   */
+  private static Object param(Object value) {
+    return value instanceof Timestamp
+            ? LocalDateTime.ofInstant(((Timestamp) value).toInstant(), ZoneOffset.UTC) : value;
+  }
+
+  /**
+   * Maps a prices row straight to the domain, as {@link
+   * com.bc.ecommerce.infrastructure.db.springdata.mapper.PricesRowMapper} does.
+   *
+   * @param row The row.
+   * @param metadata The row metadata.
+   * @return The prices.
+   */
+  private static Prices prices(Row row, RowMetadata metadata) {
+    Object id = row.get(PricesTable.ID.getName());
+    Prices prices = new Prices();
+    prices.setId(id != null ? id.toString() : null);
+    prices.setBrandId(row.get(PricesTable.BRAND_ID.getName(), String.class));
+    prices.setProductId(row.get(PricesTable.PRODUCT_ID.getName(), String.class));
+    prices.setPriceList(row.get(PricesTable.PRICE_LIST.getName(), Integer.class));
+    prices.setStartDate(instant(row.get(PricesTable.START_DATE.getName(), LocalDateTime.class)));
+    prices.setEndDate(instant(row.get(PricesTable.END_DATE.getName(), LocalDateTime.class)));
+    prices.setPrice(row.get(PricesTable.PRICE.getName(), BigDecimal.class));
+    prices.setCurrency(row.get(PricesTable.CURRENCY.getName(), String.class));
+    prices.setPriority(row.get(PricesTable.PRIORITY.getName(), Integer.class));
+    return prices;
+  }
+
+  private static Instant instant(LocalDateTime dateTime) {
+    return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC) : null;
+  }
+
+}
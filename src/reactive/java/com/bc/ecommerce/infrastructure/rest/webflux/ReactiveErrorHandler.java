@@ -0,0 +1,59 @@
+package com.bc.ecommerce.infrastructure.rest.webflux;
+
+import com.bc.ecommerce.application.exception.HeaderMissingException;
+import com.bc.ecommerce.application.exception.InvalidRequestParameterException;
+import com.bc.ecommerce.application.handler.ErrorHandler;
+import com.bc.ecommerce.application.mapper.ApiErrorMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.ErrorDto;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * ReactiveErrorHandler class. {@link ErrorHandler} of the WebFlux controllers, which report a missing or
+ * malformed header or param as a ServerWebInputException.
+ * In com.bc.ecommerce.infrastructure.rest.webflux package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@Log4j2
+@ControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveErrorHandler extends ErrorHandler {
+
+    /**
+     * Creates the handler.
+     *
+     * @param apiErrorMapper Api error mapper.
+     */
+    public ReactiveErrorHandler(ApiErrorMapper apiErrorMapper) {
+        super(apiErrorMapper);
+    }
+
+    /**
+     * Handles missing or malformed request headers and params.
+     *
+     * @param e The exception.
+     * @return The api response.
+     */
+    @ExceptionHandler(value = ServerWebInputException.class)
+    public ResponseEntity<ErrorDto> handleApiError(ServerWebInputException e) {
+        log.error("Root cause", e);
+        MethodParameter parameter = e.getMethodParameter();
+        RequestHeader header = parameter != null ? parameter.getParameterAnnotation(RequestHeader.class) : null;
+        if (header != null) {
+            return handleApiError(new HeaderMissingException(header.value(), e));
+        }
+        return handleApiError(new InvalidRequestParameterException(e.getReason()));
+    }
+
+}
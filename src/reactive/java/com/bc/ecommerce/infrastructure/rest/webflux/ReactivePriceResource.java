@@ -0,0 +1,77 @@
+package com.bc.ecommerce.infrastructure.rest.webflux;
+
+import com.bc.ecommerce.domain.port.in.ReactivePricesService;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.resource.AbstractPriceResource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+/**
+ * ReactivePriceResource class. WebFlux rest controller of GET /price.
+ * In com.bc.ecommerce.infrastructure.rest.webflux package.
+ * It serves the contract of the generated PriceApi, with the same headers, params and responses, but the
+ * generated operation returns the response itself, so it is not implemented: the response is returned as
+ * soon as the lookup is resolved, without any thread waiting for it.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+@RestController
+@Log4j2
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePriceResource extends AbstractPriceResource {
+
+    private final ReactivePricesService service;
+
+    /**
+     * Creates the resource.
+     *
+     * @param service Reactive prices service in port.
+     * @param mapper Prices mapper.
+     */
+    public ReactivePriceResource(ReactivePricesService service, PricesMapper mapper) {
+        super(mapper);
+        this.service = service;
+    }
+
+    /**
+     * Obtains the price to be applied for a product at the issue date.
+     *
+     * @param xB3TraceId The trace id.
+     * @param authorization The credentials.
+     * @param productId The product identifier.
+     * @param brandId The brand identifier.
+     * @param issueDate The issue date.
+     * @param ifNoneMatch ETag of a previously retrieved price.
+     * @return The response, once the lookup is resolved.
+     */
+    @GetMapping(value = "/price", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PriceDto>> getPrice(
+            @RequestHeader(value = "X-B3-TraceId") String xB3TraceId,
+            @RequestHeader(value = "Authorization") String authorization,
+            @RequestParam("product_id") String productId,
+            @RequestParam("brand_id") String brandId,
+            @RequestParam("issue_date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime issueDate,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        log.info("Price request start: product id {} , brand id {} , issue date {}.", productId, brandId, issueDate);
+        PricesCriteria criteria = PricesCriteria.builder().productId(productId).issueDate(issueDate).brandId(brandId).build();
+        return service.searchSegment(criteria)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .map(segment -> priceResponse(segment, issueDate, ifNoneMatch));
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.bc.ecommerce.application.async;
+
+import com.bc.ecommerce.application.exception.DeadlineExceededException;
+import com.bc.ecommerce.application.exception.LookupsSaturatedException;
+import com.bc.ecommerce.application.metrics.PriceStage;
+import com.bc.ecommerce.application.metrics.PriceStageTimings;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Prices lookup executor test class.
+ * In com.bc.ecommerce.application.async package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesLookupExecutorTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private PricesLookupExecutor executor;
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  public void completeWithTheLookup() throws Exception {
+    executor = new PricesLookupExecutor(1, 1, Duration.ofSeconds(5));
+
+    Assert.assertEquals("35.50", executor.submit(() -> "35.50").get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void rejectWhenQueueIsFull() {
+    executor = new PricesLookupExecutor(1, 1, Duration.ofSeconds(5));
+    executor.submit(this::blocked);
+    executor.submit(this::blocked);
+
+    try {
+      executor.submit(this::blocked);
+      Assert.fail("The third lookup should be rejected");
+    } catch (LookupsSaturatedException e) {
+      Assert.assertEquals(1, executor.getRejected());
+      Assert.assertEquals(5, e.getRetryAfterSeconds());
+    }
+  }
+
+  @Test
+  public void expireQueuedLookupsPastTheirDeadline() throws Exception {
+    executor = new PricesLookupExecutor(1, 1, Duration.ofMillis(50));
+    AtomicInteger runs = new AtomicInteger();
+    CompletableFuture<String> running = executor.submit(this::blocked);
+    CompletableFuture<Integer> queued = executor.submit(runs::incrementAndGet);
+
+    try {
+      queued.get(5, TimeUnit.SECONDS);
+      Assert.fail("The queued lookup should exceed its deadline");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof DeadlineExceededException);
+    }
+    Assert.assertTrue(running.isCompletedExceptionally());
+
+    release.countDown();
+    while (executor.getNativeExecutor().getCompletedTaskCount() < 2) {
+      Thread.yield();
+    }
+    Assert.assertEquals(0, runs.get());
+    Assert.assertEquals(1, executor.getExpired());
+  }
+
+  @Test
+  public void chargeTheStagesOfTheLookupToTheCaller() throws Exception {
+    executor = new PricesLookupExecutor(1, 1, Duration.ofSeconds(5));
+    PriceStageTimings timings = PriceStageTimings.start();
+    AtomicReference<PriceStageTimings> lookupTimings = new AtomicReference<>();
+    try {
+      String price = executor.submit(() -> {
+        try (PriceStageTimings.Scope query = PriceStageTimings.enter(PriceStage.QUERY)) {
+          lookupTimings.set(PriceStageTimings.current());
+          return "35.50";
+        }
+      }).get(5, TimeUnit.SECONDS);
+      timings.stop();
+
+      Assert.assertEquals("35.50", price);
+      Assert.assertNotNull(lookupTimings.get());
+      Assert.assertNotSame(timings, lookupTimings.get());
+      Assert.assertTrue(timings.getNanos(PriceStage.QUERY) > 0);
+    } finally {
+      PriceStageTimings.attach(null);
+    }
+  }
+
+  @Test
+  public void doNotChargeTheCallerPastTheDeadline() throws Exception {
+    executor = new PricesLookupExecutor(1, 1, Duration.ofMillis(50));
+    PriceStageTimings timings = PriceStageTimings.start();
+    try {
+      CompletableFuture<String> lookup = executor.submit(() -> {
+        try (PriceStageTimings.Scope query = PriceStageTimings.enter(PriceStage.QUERY)) {
+          return blocked();
+        }
+      });
+      try {
+        lookup.get(5, TimeUnit.SECONDS);
+        Assert.fail("The lookup should exceed its deadline");
+      } catch (ExecutionException e) {
+        Assert.assertTrue(e.getCause() instanceof DeadlineExceededException);
+      }
+      timings.stop();
+
+      release.countDown();
+      while (executor.getNativeExecutor().getCompletedTaskCount() < 1) {
+        Thread.yield();
+      }
+      Assert.assertEquals(0, timings.getNanos(PriceStage.QUERY));
+    } finally {
+      PriceStageTimings.attach(null);
+    }
+  }
+
+  private String blocked() {
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return "35.50";
+  }
+
+}
@@ -0,0 +1,37 @@
+package com.bc.ecommerce.application.async;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Virtual threads test class.
+ * In com.bc.ecommerce.application.async package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class VirtualThreadsTest {
+
+  @Test
+  public void runOnVirtualThreadsFromJdk21() throws Exception {
+    if (!VirtualThreads.isSupported()) {
+      try {
+        VirtualThreads.executor("prices-test-");
+        Assert.fail("Virtual threads should not be available before JDK 21");
+      } catch (IllegalStateException e) {
+        return;
+      }
+    }
+    ExecutorService executor = VirtualThreads.executor("prices-test-");
+    try {
+      Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+      Assert.assertEquals("prices-test-1", thread.getName());
+      Assert.assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
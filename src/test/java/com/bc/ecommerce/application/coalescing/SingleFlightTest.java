@@ -0,0 +1,120 @@
+package com.bc.ecommerce.application.coalescing;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single flight test class.
+ * In com.bc.ecommerce.application.coalescing package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SingleFlightTest {
+
+  private static final int CALLERS = 8;
+
+  private final SingleFlight<String, Integer> flight = new SingleFlight<>();
+
+  @Test
+  public void coalesceConcurrentCallersOfSameKey() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    try {
+      Future<Integer> leader = executor.submit(() -> flight.execute("35455", () -> {
+        await(release);
+        return loads.incrementAndGet();
+      }));
+      while (flight.getInFlight() == 0) {
+        Thread.yield();
+      }
+      List<Future<Integer>> followers = new ArrayList<>();
+      for (int i = 1; i < CALLERS; i++) {
+        followers.add(executor.submit(() -> flight.execute("35455", loads::incrementAndGet)));
+      }
+      while (flight.getCoalesced() < CALLERS - 1) {
+        Thread.yield();
+      }
+      release.countDown();
+
+      Assert.assertEquals(1, (int) leader.get(5, TimeUnit.SECONDS));
+      for (Future<Integer> follower : followers) {
+        Assert.assertEquals(1, (int) follower.get(5, TimeUnit.SECONDS));
+      }
+      Assert.assertEquals(1, loads.get());
+      Assert.assertEquals(1, flight.getExecutions());
+      Assert.assertEquals(CALLERS - 1, flight.getCoalesced());
+      Assert.assertEquals(0, flight.getInFlight());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void executeAgainOnceLanded() {
+    AtomicInteger loads = new AtomicInteger();
+
+    flight.execute("35455", loads::incrementAndGet);
+    flight.execute("35455", loads::incrementAndGet);
+    flight.execute("35456", loads::incrementAndGet);
+
+    Assert.assertEquals(3, loads.get());
+    Assert.assertEquals(0, flight.getCoalesced());
+  }
+
+  @Test
+  public void shareLeaderException() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    IllegalStateException failure = new IllegalStateException("datastore down");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<Integer> leader = executor.submit(() -> flight.execute("35455", () -> {
+        await(release);
+        throw failure;
+      }));
+      while (flight.getInFlight() == 0) {
+        Thread.yield();
+      }
+      Future<Integer> follower = executor.submit(() -> flight.execute("35455", () -> 1));
+      while (flight.getCoalesced() == 0) {
+        Thread.yield();
+      }
+      release.countDown();
+
+      assertFailsWith(failure, leader);
+      assertFailsWith(failure, follower);
+      Assert.assertEquals(0, flight.getInFlight());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void assertFailsWith(Throwable expected, Future<Integer> future) throws Exception {
+    try {
+      future.get(5, TimeUnit.SECONDS);
+      Assert.fail("Expected " + expected);
+    } catch (ExecutionException e) {
+      Assert.assertSame(expected, e.getCause());
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
@@ -0,0 +1,53 @@
+package com.bc.ecommerce.application.filter;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.SplittableRandom;
+
+/**
+ * Bloom filter test class.
+ * In com.bc.ecommerce.application.filter package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class BloomFilterTest {
+
+  private static final int INSERTIONS = 100_000;
+
+  @Test
+  public void noFalseNegativesAndBoundedFalsePositives() {
+    BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+    SplittableRandom random = new SplittableRandom(42);
+    long[] hashes = random.longs(INSERTIONS).toArray();
+    for (long hash : hashes) {
+      filter.put(hash);
+    }
+
+    for (long hash : hashes) {
+      Assert.assertTrue(filter.mightContain(hash));
+    }
+    int falsePositives = 0;
+    for (int i = 0; i < INSERTIONS; i++) {
+      if (filter.mightContain(random.nextLong())) {
+        falsePositives++;
+      }
+    }
+    Assert.assertTrue("False positive rate " + (double) falsePositives / INSERTIONS,
+            falsePositives < INSERTIONS * 0.015);
+  }
+
+  @Test
+  public void sizeForRate() {
+    BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+    Assert.assertEquals(9600, filter.getBitCount());
+    Assert.assertEquals(7, filter.getHashCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectInvalidRate() {
+    new BloomFilter(1_000, 1);
+  }
+
+}
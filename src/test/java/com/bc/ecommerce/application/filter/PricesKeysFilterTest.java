@@ -0,0 +1,102 @@
+package com.bc.ecommerce.application.filter;
+
+import com.bc.ecommerce.domain.operational.PricesChangedEvent;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import org.junit.Assert;
+import org.junit.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Prices keys filter test class.
+ * In com.bc.ecommerce.application.filter package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesKeysFilterTest {
+
+  private static final PricesKey KNOWN = new PricesKey("1", "35455");
+
+  private static final PricesKey UNKNOWN = new PricesKey("1", "99999");
+
+  @Test
+  public void everyKeyMightExistUntilBuilt() {
+    PricesKeysFilter filter = new PricesKeysFilter(consumer -> consumer.accept(KNOWN), 100, 0.01);
+
+    Assert.assertTrue(filter.mightExist(UNKNOWN));
+    Assert.assertEquals(0, filter.getShortCircuited());
+  }
+
+  @Test
+  public void shortCircuitUnknownKeys() {
+    PricesKeysFilter filter = new PricesKeysFilter(consumer -> consumer.accept(KNOWN), 100, 0.01);
+    filter.rebuild();
+
+    Assert.assertTrue(filter.mightExist(KNOWN));
+    Assert.assertFalse(filter.mightExist(UNKNOWN));
+    Assert.assertEquals(1, filter.getShortCircuited());
+    Assert.assertEquals(1, filter.getKeys());
+  }
+
+  @Test
+  public void addChangedKeys() {
+    PricesKeysFilter filter = new PricesKeysFilter(consumer -> consumer.accept(KNOWN), 100, 0.01);
+    filter.rebuild();
+
+    filter.onPricesChanged(new PricesChangedEvent(UNKNOWN));
+    filter.onPricesChanged(new PricesChangedEvent(KNOWN));
+
+    Assert.assertTrue(filter.mightExist(UNKNOWN));
+    Assert.assertEquals(2, filter.getKeys());
+  }
+
+  @Test
+  public void rebuildWhenFull() {
+    List<PricesKey> relation = new ArrayList<>(List.of(KNOWN));
+    PricesKeysFilter filter = new PricesKeysFilter(relation::forEach, 2, 0.01);
+    filter.rebuild();
+
+    for (int i = 0; i < 10; i++) {
+      PricesKey key = new PricesKey("2", String.valueOf(i));
+      relation.add(key);
+      filter.onPricesChanged(new PricesChangedEvent(key));
+    }
+
+    relation.forEach(key -> Assert.assertTrue(filter.mightExist(key)));
+    Assert.assertTrue(filter.getExpectedFalsePositiveRate() < 0.05);
+  }
+
+  @Test
+  public void refreshWithKeysWrittenElsewhere() throws InterruptedException {
+    List<PricesKey> relation = new CopyOnWriteArrayList<>(List.of(KNOWN));
+    PricesKeysFilter filter = new PricesKeysFilter(relation::forEach, 100, 0.01, Duration.ofMillis(10));
+    try {
+      filter.start();
+      Assert.assertFalse(filter.mightExist(UNKNOWN));
+
+      relation.add(UNKNOWN);
+      long deadline = System.currentTimeMillis() + 5000;
+      while (!filter.mightExist(UNKNOWN) && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      Assert.assertTrue(filter.mightExist(UNKNOWN));
+    } finally {
+      filter.shutdown();
+    }
+  }
+
+  @Test
+  public void keepFailOpenWhenNotBuilt() {
+    PricesKeysFilter filter = new PricesKeysFilter(consumer -> {
+      throw new IllegalStateException("datastore down");
+    }, 100, 0.01);
+    filter.rebuild();
+
+    Assert.assertTrue(filter.mightExist(UNKNOWN));
+    Assert.assertEquals(1, filter.getExpectedFalsePositiveRate(), 0);
+  }
+
+}
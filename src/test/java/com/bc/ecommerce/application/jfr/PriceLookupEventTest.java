@@ -0,0 +1,99 @@
+package com.bc.ecommerce.application.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Price lookup event test class.
+ * In com.bc.ecommerce.application.jfr package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PriceLookupEventTest {
+
+  @Test
+  public void lookupsAreNotRecordedUnlessEnabled() {
+    try (PriceLookupEvent lookup = PriceLookupEvent.start("1", "35455")) {
+      Assert.assertFalse(lookup.isEnabled());
+      PriceLookupEvent.scanned(3);
+    }
+  }
+
+  @Test
+  public void lookupIsRecordedWithItsCacheOutcomeAndRowsScanned() throws IOException {
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(PriceLookupEvent.class);
+      recording.start();
+      try (PriceLookupEvent lookup = PriceLookupEvent.start("1", "35455")) {
+        PriceLookupEvent.cache(PriceLookupEvent.MISS);
+        PriceLookupEvent.scanned(3);
+        PriceLookupEvent.scanned(1);
+      }
+      PriceLookupEvent.scanned(10);
+      recording.stop();
+      events = read(recording);
+    }
+
+    Assert.assertEquals(1, events.size());
+    RecordedEvent event = events.get(0);
+    Assert.assertEquals("1", event.getString("brandId"));
+    Assert.assertEquals("35455", event.getString("productId"));
+    Assert.assertEquals(PriceLookupEvent.MISS, event.getString("cache"));
+    Assert.assertEquals(4, event.getLong("rowsScanned"));
+  }
+
+  @Test
+  public void recorderEnablesTheEventsOnlyWhileRecording() throws IOException {
+    PricesFlightRecorder recorder = new PricesFlightRecorder("default", Duration.ofMinutes(1));
+    Assert.assertNull(recorder.dump());
+
+    recorder.start(null, null);
+    try (PriceLookupEvent lookup = PriceLookupEvent.start("1", "35455")) {
+      Assert.assertTrue(lookup.isEnabled());
+    }
+    Path dump = recorder.dump();
+    try {
+      List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+      Assert.assertTrue(events.stream()
+              .anyMatch(event -> event.getEventType().getName().equals(PriceLookupEvent.NAME)));
+      Assert.assertTrue(events.stream()
+              .noneMatch(event -> PricesFlightRecorder.SECRET_EVENTS.contains(event.getEventType().getName())));
+    } finally {
+      Files.deleteIfExists(dump);
+    }
+    Assert.assertTrue(recorder.stop());
+
+    try (PriceLookupEvent lookup = PriceLookupEvent.start("1", "35455")) {
+      Assert.assertFalse(lookup.isEnabled());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void unknownSettingsAreRejected() {
+    new PricesFlightRecorder("default", Duration.ofMinutes(1)).start("unknown", null);
+  }
+
+  private static List<RecordedEvent> read(Recording recording) throws IOException {
+    Path file = Files.createTempFile("price-lookup-", ".jfr");
+    try {
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+              .filter(event -> event.getEventType().getName().equals(PriceLookupEvent.NAME))
+              .collect(Collectors.toList());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+}
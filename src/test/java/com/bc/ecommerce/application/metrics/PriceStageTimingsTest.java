@@ -0,0 +1,124 @@
+package com.bc.ecommerce.application.metrics;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price stage timings test class.
+ * In com.bc.ecommerce.application.metrics package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PriceStageTimingsTest {
+
+  @After
+  public void tearDown() {
+    PriceStageTimings.attach(null);
+  }
+
+  @Test
+  public void nestedStageIsExcludedFromEnclosingOne() {
+    PriceStageTimings timings = PriceStageTimings.start();
+    try (PriceStageTimings.Scope hydration = PriceStageTimings.enter(PriceStage.HYDRATION)) {
+      sleep(20);
+      try (PriceStageTimings.Scope query = PriceStageTimings.enter(PriceStage.QUERY)) {
+        sleep(50);
+      }
+      sleep(20);
+    }
+    timings.stop();
+
+    long query = TimeUnit.NANOSECONDS.toMillis(timings.getNanos(PriceStage.QUERY));
+    long hydration = TimeUnit.NANOSECONDS.toMillis(timings.getNanos(PriceStage.HYDRATION));
+    Assert.assertTrue("query " + query, query >= 50);
+    Assert.assertTrue("hydration " + hydration, hydration >= 40 && hydration < 40 + query);
+    Assert.assertEquals(0, timings.getNanos(PriceStage.CONNECTION));
+  }
+
+  @Test
+  public void stagesAreNoOpsWithoutTimings() {
+    try (PriceStageTimings.Scope query = PriceStageTimings.enter(PriceStage.QUERY)) {
+      Assert.assertNull(PriceStageTimings.current());
+    }
+  }
+
+  @Test
+  public void stoppedTimingsAreNoLongerCharged() {
+    PriceStageTimings timings = PriceStageTimings.start();
+    timings.stop();
+    try (PriceStageTimings.Scope query = PriceStageTimings.enter(PriceStage.QUERY)) {
+      sleep(5);
+    }
+    Assert.assertEquals(0, timings.getNanos(PriceStage.QUERY));
+  }
+
+  @Test
+  public void timingsAreCarriedToAnotherThread() throws Exception {
+    PriceStageTimings timings = PriceStageTimings.start();
+    Thread worker = new Thread(() -> {
+      PriceStageTimings previous = PriceStageTimings.attach(timings);
+      try (PriceStageTimings.Scope mapping = PriceStageTimings.enter(PriceStage.MAPPING)) {
+        sleep(10);
+      } finally {
+        PriceStageTimings.attach(previous);
+      }
+    });
+    worker.start();
+    worker.join();
+    timings.stop();
+
+    Assert.assertTrue(timings.getNanos(PriceStage.MAPPING) >= TimeUnit.MILLISECONDS.toNanos(10));
+  }
+
+  @Test
+  public void forkedPartIsMovedToItsStages() throws Exception {
+    long start = System.nanoTime();
+    PriceStageTimings timings = PriceStageTimings.start();
+    PriceStageTimings part = timings.fork();
+    Thread worker = new Thread(() -> {
+      PriceStageTimings previous = PriceStageTimings.attach(part);
+      try (PriceStageTimings.Scope mapping = PriceStageTimings.enter(PriceStage.MAPPING)) {
+        sleep(30);
+      } finally {
+        PriceStageTimings.attach(previous);
+      }
+    });
+    worker.start();
+    worker.join();
+    timings.merge(part);
+    timings.stop();
+    long elapsed = System.nanoTime() - start;
+
+    long total = 0;
+    for (PriceStage stage : PriceStage.values()) {
+      total += timings.getNanos(stage);
+    }
+    Assert.assertTrue(timings.getNanos(PriceStage.MAPPING) >= TimeUnit.MILLISECONDS.toNanos(30));
+    Assert.assertTrue("total " + total, total <= elapsed);
+    Assert.assertTrue(timings.getNanos(PriceStage.APPLICATION) < elapsed - TimeUnit.MILLISECONDS.toNanos(30));
+  }
+
+  @Test
+  public void partIsNotChargedOnceStopped() {
+    PriceStageTimings timings = PriceStageTimings.start();
+    PriceStageTimings part = timings.fork();
+    timings.stop();
+    part.switchTo(PriceStage.QUERY);
+    sleep(5);
+    timings.merge(part);
+
+    Assert.assertEquals(0, timings.getNanos(PriceStage.QUERY));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,116 @@
+package com.bc.ecommerce.application.tracing;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.MDC;
+import java.util.List;
+
+/**
+ * Span test class.
+ * In com.bc.ecommerce.application.tracing package.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class SpanTest {
+
+  private static final String TRACE_ID = "463ac35c9f6413ad48485a3953bb6124";
+
+  private static final String CALLER_SPAN_ID = "a2fb4a1d1a96d312";
+
+  private InMemorySpanSink sink;
+
+  private Tracer tracer;
+
+  @Before
+  public void setUp() {
+    sink = new InMemorySpanSink(10);
+    tracer = new Tracer("ecommerce-recorder", List.of(sink));
+  }
+
+  @After
+  public void tearDown() {
+    Span.attach(null);
+  }
+
+  @Test
+  public void spansEnteredWithinTheRequestAreItsChildren() {
+    Span request = tracer.startTrace("GET /price", TRACE_ID, CALLER_SPAN_ID, true);
+    Span.attach(request);
+    Span.trace("PricesService.search", () -> {
+      try (Span.Scope sql = Span.enter("sql").tag("sql.query", "select 1")) {
+        return null;
+      }
+    });
+    Span.attach(null);
+    request.finish();
+
+    List<Span> trace = sink.getTrace(TRACE_ID);
+    Assert.assertEquals(3, trace.size());
+    Assert.assertEquals(CALLER_SPAN_ID, trace.get(0).getParentId());
+    Assert.assertEquals("SERVER", trace.get(0).getKind());
+    Assert.assertEquals("PricesService.search", trace.get(1).getName());
+    Assert.assertEquals(request.getId(), trace.get(1).getParentId());
+    Assert.assertEquals(trace.get(1).getId(), trace.get(2).getParentId());
+    Assert.assertEquals("select 1", trace.get(2).getTags().get("sql.query"));
+    Assert.assertTrue(trace.get(0).getDuration() >= trace.get(1).getDuration());
+  }
+
+  @Test
+  public void idsOfTheBoundSpanAreInTheMdc() {
+    Span request = tracer.startTrace("GET /price", TRACE_ID, null, true);
+    Span.attach(request);
+    try (Span.Scope search = Span.enter("PricesService.search")) {
+      Assert.assertEquals(TRACE_ID, MDC.get(Span.TRACE_ID));
+      Assert.assertEquals(request.getId(), MDC.get(Span.PARENT_ID));
+      Assert.assertFalse(request.getId().equals(MDC.get(Span.SPAN_ID)));
+    }
+    Assert.assertEquals(request.getId(), MDC.get(Span.SPAN_ID));
+    Assert.assertNull(MDC.get(Span.PARENT_ID));
+
+    Span.attach(null);
+    Assert.assertNull(MDC.get(Span.TRACE_ID));
+  }
+
+  @Test
+  public void invalidTraceIdStartsANewTrace() {
+    Span request = tracer.startTrace("GET /price", "not-hex", CALLER_SPAN_ID, true);
+
+    Assert.assertTrue(request.getTraceId().matches("[0-9a-f]{16}"));
+    Assert.assertNull(request.getParentId());
+    Assert.assertEquals(TRACE_ID, tracer.startTrace("GET /price", TRACE_ID.toUpperCase(), null, true).getTraceId());
+  }
+
+  @Test
+  public void failuresAreTaggedAndSpansWithoutTraceAreNoOps() {
+    Assert.assertEquals("none", Span.trace("PricesService.search", () -> "none"));
+    Assert.assertEquals(0, sink.getExported());
+
+    Span.attach(tracer.startTrace("GET /price", TRACE_ID, null, true));
+    try {
+      Span.trace("PricesService.search", () -> {
+        throw new IllegalStateException("boom");
+      });
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("boom", sink.getSpans().get(0).getTags().get(Span.ERROR));
+    }
+  }
+
+  @Test
+  public void spansOfUnsampledTracesAreNotExported() throws InterruptedException {
+    Span request = tracer.startTrace("GET /price", TRACE_ID, null, false);
+    Thread worker = new Thread(() -> {
+      Span.attach(request);
+      Span.trace("PricesRepository.timelineProjection", () -> null);
+    });
+    worker.start();
+    worker.join();
+    request.finish();
+
+    Assert.assertEquals(0, sink.getExported());
+  }
+
+}
@@ -0,0 +1,72 @@
+package com.bc.ecommerce.application.usecases;
+
+import com.bc.ecommerce.application.usescases.PricesChangesUseCase;
+import com.bc.ecommerce.domain.operational.PriceChange;
+import com.bc.ecommerce.domain.operational.PriceChangeOperation;
+import com.bc.ecommerce.domain.operational.PriceChangesPage;
+import com.bc.ecommerce.domain.port.out.PricesChangesRepository;
+import com.bc.ecommerce.utils.UnitTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PricesChangesUseCaseTest extends UnitTest {
+
+    @Mock
+    private PricesChangesRepository repository;
+
+    private PricesChangesUseCase pricesChangesUseCase;
+
+    @Before
+    public void setUp() {
+        initializeFactory();
+        pricesChangesUseCase = new PricesChangesUseCase(repository);
+    }
+
+    @Test
+    public void testPageWithMoreChanges() {
+        doReturn(List.of(change(11), change(12), change(13))).when(repository).changesSince(10, 3);
+
+        PriceChangesPage page = pricesChangesUseCase.searchChanges(10, 2);
+
+        assertEquals(List.of(change(11), change(12)), page.getChanges());
+        assertEquals(12, page.getNext());
+        assertTrue(page.isHasMore());
+    }
+
+    @Test
+    public void testLastPage() {
+        doReturn(List.of(change(11))).when(repository).changesSince(10, 3);
+
+        PriceChangesPage page = pricesChangesUseCase.searchChanges(10, 2);
+
+        assertEquals(11, page.getNext());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    public void testEmptyPageKeepsVersion() {
+        doReturn(List.of()).when(repository).changesSince(10, 3);
+
+        PriceChangesPage page = pricesChangesUseCase.searchChanges(10, 2);
+
+        assertTrue(page.getChanges().isEmpty());
+        assertEquals(10, page.getNext());
+        assertFalse(page.isHasMore());
+    }
+
+    private static PriceChange change(long version) {
+        return new PriceChange(version, PriceChangeOperation.DELETED, "id-" + version, "1", "35455", null);
+    }
+
+}
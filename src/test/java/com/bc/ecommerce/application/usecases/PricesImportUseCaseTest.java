@@ -0,0 +1,82 @@
+package com.bc.ecommerce.application.usecases;
+
+import com.bc.ecommerce.application.usescases.PricesImportUseCase;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesImportReport;
+import com.bc.ecommerce.domain.port.out.PricesStore;
+import com.bc.ecommerce.utils.UnitTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PricesImportUseCaseTest extends UnitTest {
+
+    @Mock
+    private PricesStore store;
+
+    private PricesImportUseCase pricesImportUseCase;
+
+    private final List<Integer> chunkSizes = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        initializeFactory();
+        pricesImportUseCase = new PricesImportUseCase(store, 2);
+    }
+
+    @Test
+    public void testImportInChunks() {
+        doAnswer(invocation -> chunkSizes.add(((List<?>) invocation.getArgument(0)).size()))
+                .when(store).upsert(anyList());
+        List<Prices> prices = List.of(new Prices(), new Prices(), new Prices(), new Prices(), new Prices());
+
+        PricesImportReport report = pricesImportUseCase.importPrices(prices.iterator());
+
+        verify(store, times(3)).upsert(anyList());
+        assertEquals(List.of(2, 2, 1), chunkSizes);
+        assertEquals(5, report.getRows());
+        assertEquals(3, report.getChunks());
+    }
+
+    @Test
+    public void testDeleteInChunks() {
+        doAnswer(invocation -> {
+            int size = ((List<?>) invocation.getArgument(0)).size();
+            chunkSizes.add(size);
+            return size - 1;
+        }).when(store).delete(anyList());
+
+        int deleted = pricesImportUseCase.deletePrices(List.of("a", "b", "c"));
+
+        assertEquals(List.of(2, 1), chunkSizes);
+        assertEquals(1, deleted);
+    }
+
+    @Test
+    public void testDeleteNothing() {
+        assertEquals(0, pricesImportUseCase.deletePrices(List.of()));
+        verify(store, never()).delete(anyList());
+    }
+
+    @Test
+    public void testImportNothing() {
+        PricesImportReport report = pricesImportUseCase.importPrices(List.<Prices>of().iterator());
+
+        verify(store, times(0)).upsert(anyList());
+        assertEquals(0, report.getRows());
+    }
+
+}
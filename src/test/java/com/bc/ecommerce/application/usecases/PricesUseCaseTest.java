@@ -1,10 +1,17 @@
 package com.bc.ecommerce.application.usecases;
 
+import com.bc.ecommerce.application.cache.PricesTimelineCache;
+import com.bc.ecommerce.application.filter.PricesKeysFilter;
 import com.bc.ecommerce.application.usescases.PricesUseCase;
+import com.bc.ecommerce.domain.business.PricesTimeline;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.PricesChangedEvent;
+import com.bc.ecommerce.domain.operational.PricesKey;
 import com.bc.ecommerce.domain.operational.Prices;
 import com.bc.ecommerce.domain.port.out.PricesRepository;
 import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
 import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
 import com.bc.ecommerce.utils.UnitTest;
 import org.junit.Before;
 import org.junit.Test;
@@ -13,8 +20,27 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -47,4 +73,176 @@ public class PricesUseCaseTest extends UnitTest {
         assertEquals(expectedPrices, result);
     }
 
+    @Test
+    public void testSearchAll() {
+        when(repository.pricesProjections(anyList())).thenReturn(List.of(expectedPrices));
+        List<Prices> result = pricesUseCase.searchAll(List.of(pricesCriteria));
+        assertEquals(List.of(expectedPrices), result);
+    }
+
+    @Test
+    public void testSearchCachedTimeline() {
+        PricesTimelineCache cache = new PricesTimelineCache(10, Duration.ofMinutes(1));
+        PricesUseCase cachedUseCase = new PricesUseCase(repository, cache);
+        Prices price = price("2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z");
+        PricesKey key = new PricesKey("1", "35455");
+        when(repository.timelineProjection(key)).thenReturn(PricesTimeline.of(List.of(price)));
+
+        assertEquals(price, cachedUseCase.search(criteria("2020-06-14T10:00:00Z")));
+        assertEquals(price, cachedUseCase.search(criteria("2020-07-01T18:30:00Z")));
+        assertEquals(null, cachedUseCase.search(criteria("2021-01-01T00:00:00Z")).getId());
+        verify(repository, times(1)).timelineProjection(key);
+
+        cache.onPricesChanged(new PricesChangedEvent(key));
+        cachedUseCase.search(criteria("2020-06-14T10:00:00Z"));
+        verify(repository, times(2)).timelineProjection(key);
+    }
+
+    @Test
+    public void testSearchAllOnlyMissesHitRepository() {
+        PricesTimelineCache cache = new PricesTimelineCache(10, Duration.ofMinutes(1));
+        PricesUseCase cachedUseCase = new PricesUseCase(repository, cache);
+        Prices price = price("2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z");
+        cache.put(new PricesKey("1", "35455"), PricesTimeline.of(List.of(price)), cache.stamp());
+        when(repository.pricesProjections(List.of(pricesCriteria))).thenReturn(List.of(expectedPrices));
+
+        List<Prices> result = cachedUseCase.searchAll(List.of(criteria("2020-06-14T10:00:00Z"), pricesCriteria));
+
+        assertEquals(List.of(price, expectedPrices), result);
+    }
+
+    @Test
+    public void testSearchUnknownKeyShortCircuited() {
+        PricesKeysFilter keysFilter = new PricesKeysFilter(consumer -> consumer.accept(new PricesKey("1", "35455")), 10, 0.01);
+        keysFilter.rebuild();
+        PricesUseCase filteredUseCase = new PricesUseCase(repository, null, keysFilter);
+        PricesCriteria known = criteria("2020-06-14T10:00:00Z");
+        PricesCriteria unknown = criteria("2020-06-14T10:00:00Z");
+        unknown.setProductId("99999");
+        when(repository.pricesProjections(List.of(known))).thenReturn(List.of(expectedPrices));
+
+        assertEquals(null, filteredUseCase.search(unknown).getId());
+        List<Prices> result = filteredUseCase.searchAll(List.of(unknown, known));
+
+        assertEquals(null, result.get(0).getId());
+        assertEquals(expectedPrices, result.get(1));
+        verify(repository, never()).pricesProjection(any(PricesCriteria.class));
+        assertEquals(2, keysFilter.getShortCircuited());
+    }
+
+    @Test
+    public void testSearchSegmentBoundedByHigherPriority() {
+        PricesTimelineCache cache = new PricesTimelineCache(10, Duration.ofMinutes(1));
+        PricesUseCase cachedUseCase = new PricesUseCase(repository, cache);
+        Prices base = price("2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z");
+        Prices promotion = price("2020-06-14T15:00:00Z", "2020-06-14T18:30:00Z");
+        promotion.setId("8b74ac21-5761-4de0-9e9b-82a59e1a477b");
+        promotion.setPriceList(2);
+        promotion.setPriority(1);
+        when(repository.timelineProjection(new PricesKey("1", "35455"))).thenReturn(PricesTimeline.of(List.of(base, promotion)));
+
+        PriceSegment segment = cachedUseCase.searchSegment(criteria("2020-06-14T10:00:00Z")).orElseThrow();
+
+        assertEquals(base, segment.getPrice());
+        assertEquals(Instant.parse("2020-06-14T15:00:00Z"), segment.getTo());
+    }
+
+    @Test
+    public void testSearchAllSegmentsOnlyMissesHitRepository() {
+        PricesTimelineCache cache = new PricesTimelineCache(10, Duration.ofMinutes(1));
+        PricesUseCase cachedUseCase = new PricesUseCase(repository, cache);
+        Prices price = price("2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z");
+        cache.put(new PricesKey("1", "35455"), PricesTimeline.of(List.of(price)), cache.stamp());
+        when(repository.segmentProjections(List.of(pricesCriteria))).thenReturn(List.of(Optional.empty()));
+
+        List<Optional<PriceSegment>> result = cachedUseCase.searchAllSegments(List.of(criteria("2020-06-14T10:00:00Z"), pricesCriteria));
+
+        assertEquals(price, result.get(0).orElseThrow().getPrice());
+        assertEquals(PricesTimeline.exclusiveEnd(price), result.get(0).orElseThrow().getTo());
+        assertEquals(Optional.empty(), result.get(1));
+    }
+
+    @Test
+    public void testSearchSegmentsFromCachedTimeline() {
+        PricesTimelineCache cache = new PricesTimelineCache(10, Duration.ofMinutes(1));
+        PricesUseCase cachedUseCase = new PricesUseCase(repository, cache);
+        Prices base = price("2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z");
+        Prices promotion = price("2020-06-14T15:00:00Z", "2020-06-14T18:30:00Z");
+        promotion.setId("8b74ac21-5761-4de0-9e9b-82a59e1a477b");
+        promotion.setPriceList(2);
+        promotion.setPriority(1);
+        when(repository.timelineProjection(new PricesKey("1", "35455"))).thenReturn(PricesTimeline.of(List.of(base, promotion)));
+        PricesRangeCriteria range = PricesRangeCriteria.builder()
+                .productId("35455")
+                .brandId("1")
+                .from(OffsetDateTime.parse("2020-06-14T10:00:00Z"))
+                .to(OffsetDateTime.parse("2020-06-14T16:00:00Z"))
+                .build();
+
+        List<PriceSegment> segments = new ArrayList<>();
+        cachedUseCase.searchSegments(range, segments::add);
+
+        assertEquals(List.of(base, promotion), List.of(segments.get(0).getPrice(), segments.get(1).getPrice()));
+        assertEquals(Instant.parse("2020-06-14T16:00:00Z"), segments.get(1).getTo());
+        verify(repository, never()).segmentsProjection(any(PricesRangeCriteria.class), any());
+    }
+
+    @Test
+    public void testJoinerOfLoadStartedBeforeInvalidationDoesNotCache() throws Exception {
+        PricesTimelineCache cache = new PricesTimelineCache(10, Duration.ofMinutes(1));
+        PricesUseCase cachedUseCase = new PricesUseCase(repository, cache);
+        Prices stale = price("2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z");
+        Prices fresh = price("2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z");
+        fresh.setPriceList(2);
+        PricesKey key = new PricesKey("1", "35455");
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.timelineProjection(key))
+                .thenAnswer(invocation -> {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return PricesTimeline.of(List.of(stale));
+                })
+                .thenReturn(PricesTimeline.of(List.of(fresh)));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Prices> leader = executor.submit(() -> cachedUseCase.search(criteria("2020-06-14T10:00:00Z")));
+            while (cache.getLoads().getInFlight() == 0) {
+                Thread.yield();
+            }
+            cache.onPricesChanged(new PricesChangedEvent(key));
+            Future<Prices> joiner = executor.submit(() -> cachedUseCase.search(criteria("2020-06-14T10:00:00Z")));
+            while (cache.getLoads().getCoalesced() == 0) {
+                Thread.yield();
+            }
+            release.countDown();
+
+            assertEquals(stale, leader.get(5, TimeUnit.SECONDS));
+            assertEquals(stale, joiner.get(5, TimeUnit.SECONDS));
+            assertNull(cache.get(key));
+            assertEquals(fresh, cachedUseCase.search(criteria("2020-06-14T10:00:00Z")));
+            verify(repository, times(2)).timelineProjection(key);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static PricesCriteria criteria(String issueDate) {
+        return PricesCriteria.builder()
+                .productId("35455")
+                .brandId("1")
+                .issueDate(OffsetDateTime.ofInstant(Instant.parse(issueDate), ZoneOffset.UTC))
+                .build();
+    }
+
+    private static Prices price(String startDate, String endDate) {
+        Prices price = new Prices();
+        price.setId("2311a6f1-844d-41c4-8ee1-1baf19ff17bb");
+        price.setBrandId("1");
+        price.setProductId("35455");
+        price.setPriceList(1);
+        price.setPriority(0);
+        price.setStartDate(Instant.parse(startDate));
+        price.setEndDate(Instant.parse(endDate));
+        return price;
+    }
+
 }
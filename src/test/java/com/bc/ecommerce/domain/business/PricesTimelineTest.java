@@ -0,0 +1,118 @@
+package com.bc.ecommerce.domain.business;
+
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class PricesTimelineTest {
+
+  private PricesTimeline timeline;
+
+  @Before
+  public void setUp() {
+    timeline = PricesTimeline.of(List.of(
+            price(1, "2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z", "35.50", 0),
+            price(2, "2020-06-14T15:00:00Z", "2020-06-14T18:30:00Z", "25.45", 1),
+            price(3, "2020-06-15T00:00:00Z", "2020-06-15T11:00:00Z", "30.50", 1),
+            price(4, "2020-06-15T16:00:00Z", "2020-12-31T23:59:59Z", "38.95", 1)
+    ));
+  }
+
+  @Test
+  public void testHighestPriorityPriceIsApplied() {
+    Assert.assertEquals(1, (int) timeline.priceAt(Instant.parse("2020-06-14T10:00:00Z")).getPriceList());
+    Assert.assertEquals(2, (int) timeline.priceAt(Instant.parse("2020-06-14T16:00:00Z")).getPriceList());
+    Assert.assertEquals(1, (int) timeline.priceAt(Instant.parse("2020-06-14T21:00:00Z")).getPriceList());
+    Assert.assertEquals(3, (int) timeline.priceAt(Instant.parse("2020-06-15T10:00:00Z")).getPriceList());
+    Assert.assertEquals(4, (int) timeline.priceAt(Instant.parse("2020-06-16T21:00:00Z")).getPriceList());
+  }
+
+  @Test
+  public void testEndDateIsInclusive() {
+    Assert.assertEquals(2, (int) timeline.priceAt(Instant.parse("2020-06-14T18:30:00Z")).getPriceList());
+    Assert.assertEquals(1, (int) timeline.priceAt(Instant.parse("2020-06-14T18:30:00.000001Z")).getPriceList());
+    Assert.assertEquals(4, (int) timeline.priceAt(Instant.parse("2020-12-31T23:59:59Z")).getPriceList());
+  }
+
+  @Test
+  public void testNoPriceOutsideTheIntervals() {
+    Assert.assertNull(timeline.priceAt(Instant.parse("2020-06-13T23:59:59Z")).getId());
+    Assert.assertNull(timeline.priceAt(Instant.parse("2021-01-01T00:00:00Z")).getId());
+    Assert.assertFalse(timeline.segmentAt(Instant.parse("2021-01-01T00:00:00Z")).isPresent());
+  }
+
+  @Test
+  public void testSegmentsAreDisjointAndMerged() {
+    List<PriceSegment> segments = timeline.getSegments();
+
+    Assert.assertEquals(6, segments.size());
+    for (int i = 1; i < segments.size(); i++) {
+      Assert.assertFalse(segments.get(i).getFrom().isBefore(segments.get(i - 1).getTo()));
+      Assert.assertNotSame(segments.get(i).getPrice(), segments.get(i - 1).getPrice());
+    }
+    Assert.assertEquals(Instant.parse("2020-06-14T15:00:00Z"), segments.get(0).getTo());
+    Assert.assertEquals(Instant.parse("2020-06-15T11:00:00.000001Z"), segments.get(3).getTo());
+  }
+
+  @Test
+  public void testEmptyTimeline() {
+    PricesTimeline empty = PricesTimeline.of(List.of());
+
+    Assert.assertTrue(empty.getSegments().isEmpty());
+    Assert.assertNull(empty.priceAt(Instant.now()).getId());
+  }
+
+  @Test
+  public void testSegmentsBetweenAreClipped() {
+    List<PriceSegment> segments = new ArrayList<>();
+    timeline.segmentsBetween(Instant.parse("2020-06-14T16:00:00Z"), Instant.parse("2020-06-15T10:00:00Z"), segments::add);
+
+    Assert.assertEquals(3, segments.size());
+    Assert.assertEquals(Instant.parse("2020-06-14T16:00:00Z"), segments.get(0).getFrom());
+    Assert.assertEquals(2, (int) segments.get(0).getPrice().getPriceList());
+    Assert.assertEquals(1, (int) segments.get(1).getPrice().getPriceList());
+    Assert.assertEquals(Instant.parse("2020-06-15T10:00:00Z"), segments.get(2).getTo());
+    Assert.assertEquals(3, (int) segments.get(2).getPrice().getPriceList());
+  }
+
+  @Test
+  public void testSweepOfTheRangePricesMatchesTheTimeline() {
+    Instant from = Instant.parse("2020-06-14T16:00:00Z");
+    Instant to = Instant.parse("2020-06-16T00:00:00Z");
+    List<PriceSegment> expected = new ArrayList<>();
+    timeline.segmentsBetween(from, to, expected::add);
+    List<Prices> rangePrices = new ArrayList<>();
+    timeline.getSegments().stream().map(PriceSegment::getPrice).distinct()
+            .filter(price -> price.getStartDate().isBefore(to) && !price.getEndDate().isBefore(from))
+            .sorted(Comparator.comparing(Prices::getStartDate))
+            .forEach(rangePrices::add);
+
+    List<PriceSegment> swept = new ArrayList<>();
+    PricesTimeline.sweep(rangePrices.iterator(), from, to, swept::add);
+
+    Assert.assertEquals(expected, swept);
+  }
+
+  private static Prices price(int priceList, String start, String end, String price, int priority) {
+    Prices prices = new Prices();
+    prices.setId(String.valueOf(priceList));
+    prices.setBrandId("1");
+    prices.setProductId("35455");
+    prices.setPriceList(priceList);
+    prices.setStartDate(Instant.parse(start));
+    prices.setEndDate(Instant.parse(end));
+    prices.setPrice(new BigDecimal(price));
+    prices.setCurrency("EUR");
+    prices.setPriority(priority);
+    return prices;
+  }
+
+}
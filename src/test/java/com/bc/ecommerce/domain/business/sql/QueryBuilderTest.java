@@ -1,7 +1,10 @@
 package com.bc.ecommerce.domain.business.sql;
 
+import com.bc.ecommerce.domain.operational.PricesKey;
 import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SqlTemplate;
 import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.filter.DateIntervalFilter;
 import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
 import com.bc.ecommerce.utils.UnitTest;
 import org.junit.Assert;
@@ -46,4 +49,53 @@ public class QueryBuilderTest extends UnitTest {
     Assert.assertNotNull(prices);
   }
 
+  @Test
+  public void reuseTemplateForSameShape() {
+    SqlTemplate.Bound first = (SqlTemplate.Bound) QueryBuilder.retrieve(criteria);
+    SqlTemplate.Bound second = (SqlTemplate.Bound) QueryBuilder.retrieve(factory.manufacturePojo(PricesCriteria.class));
+
+    Assert.assertSame(first.getTemplate(), second.getTemplate());
+    Assert.assertEquals(3, first.getTemplate().getParamCount());
+    Assert.assertArrayEquals(new Object[] {criteria.getProductId(), criteria.getBrandId(), DateIntervalFilter.asParam(criteria.getIssueDate())},
+            first.getValues());
+  }
+
+  @Test
+  public void compileTemplatePerShape() {
+    SqlTemplate.Bound complete = (SqlTemplate.Bound) QueryBuilder.retrieve(criteria);
+    criteria.setBrandId(null);
+    SqlTemplate.Bound withoutBrand = (SqlTemplate.Bound) QueryBuilder.retrieve(criteria);
+
+    Assert.assertNotEquals(complete.getTemplate().getSql(), withoutBrand.getTemplate().getSql());
+    Assert.assertEquals(2, withoutBrand.getTemplate().getParamCount());
+    Assert.assertArrayEquals(new Object[] {criteria.getProductId(), DateIntervalFilter.asParam(criteria.getIssueDate())}, withoutBrand.getValues());
+  }
+
+  @Test
+  public void jdbcTemplateBindsParamsByAppearance() {
+    SqlTemplate template = new SqlTemplate("select p.id from public.prices p where p.brand_id = ?2 and p.product_id = ?1 "
+            + "and ?3 between p.start_date and p.end_date and ?10 = ?10", 10);
+
+    Assert.assertEquals("select p.id from public.prices p where p.brand_id = ? and p.product_id = ? "
+            + "and ? between p.start_date and p.end_date and ? = ?", template.getJdbcSql());
+    Assert.assertArrayEquals(new int[] {2, 1, 3, 10, 10}, template.getJdbcParams());
+  }
+
+  @Test
+  public void nativeTemplateKeepsParamsByPosition() {
+    SqlTemplate template = new SqlTemplate("select p.id from public.prices p where p.brand_id = ?2 and p.product_id = ?1 "
+            + "and ?3 between p.start_date and p.end_date and ?10 = ?10", 10);
+
+    Assert.assertEquals("select p.id from public.prices p where p.brand_id = $2 and p.product_id = $1 "
+            + "and $3 between p.start_date and p.end_date and $10 = $10", template.getNativeSql());
+  }
+
+  @Test
+  public void boundQueryOfBuilder() {
+    SqlTemplate.Bound bound = QueryBuilder.retrieveByKey(PricesKey.of(criteria)).bound();
+
+    Assert.assertArrayEquals(new Object[] {criteria.getProductId(), criteria.getBrandId()}, bound.getValues());
+    Assert.assertEquals(2, bound.getTemplate().getParamCount());
+  }
+
 }
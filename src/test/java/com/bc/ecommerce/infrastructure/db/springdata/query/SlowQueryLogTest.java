@@ -0,0 +1,110 @@
+package com.bc.ecommerce.infrastructure.db.springdata.query;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Slow query log test class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.query.
+ *
+ * @author Álvaro Carmona.
+ * @since 18/10/2026
+ */
+public class SlowQueryLogTest {
+
+  private static final String SQL = "select id from slow_prices where brand_id = ?1 and product_id = ?2";
+
+  private JdbcTemplate jdbcTemplate;
+
+  private SlowQueryLog slowQueryLog;
+
+  @Before
+  public void setUp() {
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:slow;DB_CLOSE_DELAY=-1", "sa", ""));
+    jdbcTemplate.execute("create table if not exists slow_prices (id int, brand_id varchar(10), product_id varchar(10))");
+  }
+
+  @After
+  public void tearDown() {
+    slowQueryLog.shutdown();
+  }
+
+  @Test
+  public void fastQueriesAreNotCaptured() {
+    create(Duration.ofMinutes(1), 10, null);
+
+    query("1", "35455");
+
+    Assert.assertEquals(0, slowQueryLog.getCaptured());
+    Assert.assertTrue(slowQueryLog.getEntries().isEmpty());
+  }
+
+  @Test
+  public void slowQueriesAreCapturedWithTheirParams() {
+    create(Duration.ZERO, 10, null);
+
+    query("1", "35455");
+
+    List<SlowQuery> entries = slowQueryLog.getEntries();
+    Assert.assertEquals(1, entries.size());
+    Assert.assertEquals(SQL, entries.get(0).getSql());
+    Assert.assertEquals(Map.of(1, "1", 2, "35455"), entries.get(0).getParams());
+    Assert.assertTrue(entries.get(0).getElapsedMillis() > 0);
+    Assert.assertNull(entries.get(0).getPlan());
+  }
+
+  @Test
+  public void onlyTheLatestQueriesAreKept() {
+    create(Duration.ZERO, 2, null);
+
+    query("1", "1");
+    query("1", "2");
+    query("1", "3");
+
+    List<SlowQuery> entries = slowQueryLog.getEntries();
+    Assert.assertEquals(3, slowQueryLog.getCaptured());
+    Assert.assertEquals(2, entries.size());
+    Assert.assertEquals("3", entries.get(0).getParams().get(2));
+    Assert.assertEquals("2", entries.get(1).getParams().get(2));
+  }
+
+  @Test
+  public void planOfSlowQueriesIsExplained() throws InterruptedException {
+    create(Duration.ZERO, 10, jdbcTemplate);
+
+    query("1", "35455");
+
+    SlowQuery entry = slowQueryLog.getEntries().get(0);
+    for (int i = 0; i < 100 && entry.getPlan() == null; i++) {
+      Thread.sleep(20);
+    }
+    Assert.assertNotNull(entry.getPlan());
+    Assert.assertTrue(entry.getPlan(), entry.getPlan().toLowerCase().contains("slow_prices"));
+  }
+
+  @Test
+  public void queriesNotRecordedByTheLogAreNotCaptured() {
+    create(Duration.ZERO, 10, null);
+
+    new SqlTemplate(SQL, 2).bind("1", "35455").doQuery(jdbcTemplate, (resultSet, rowNum) -> resultSet.getInt(1));
+
+    Assert.assertEquals(0, slowQueryLog.getCaptured());
+  }
+
+  private void create(Duration threshold, int capacity, JdbcTemplate explainTemplate) {
+    slowQueryLog = new SlowQueryLog(threshold, capacity, explainTemplate);
+  }
+
+  private void query(String brandId, String productId) {
+    new SqlTemplate(SQL, 2).bind(brandId, productId).recordedBy(slowQueryLog)
+            .doQuery(jdbcTemplate, (resultSet, rowNum) -> resultSet.getInt(1));
+  }
+
+}
@@ -0,0 +1,59 @@
+package com.bc.ecommerce.infrastructure.db.springdata.sql.filter;
+
+import com.bc.ecommerce.infrastructure.db.springdata.query.DefaultCustomQueryBuilder;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SqlTemplate;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
+import com.bc.ecommerce.infrastructure.db.springdata.sql.query.SelectByCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Date interval filter test class.
+ * In com.bc.ecommerce.infrastructure.db.springdata.sql.filter.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class DateIntervalFilterTest {
+
+  private DefaultCustomQueryBuilder customQueryBuilder = new DefaultCustomQueryBuilder();
+
+  @Test
+  public void testIssueDateBoundAsTimestamp() {
+    OffsetDateTime issueDate = OffsetDateTime.parse("2020-06-14T10:00:00.000Z");
+    String expression = new DateIntervalFilter(customQueryBuilder).apply(issueDate);
+    SqlTemplate.Bound bound = (SqlTemplate.Bound) QueryBuilder.retrieve(criteria("2020-06-14T10:00:00.000Z"));
+
+    assertEquals("(?1 between start_date and end_date)", expression);
+    assertEquals(Timestamp.from(issueDate.toInstant()), bound.getValues()[2]);
+  }
+
+  @Test
+  public void testNullIssueDate() {
+    assertNull(new DateIntervalFilter(customQueryBuilder).apply(null));
+  }
+
+  @Test
+  public void testSameSqlForDifferentIssueDates() {
+    SqlTemplate first = new SelectByCriteria().compile(criteria("2020-06-14T10:00:00.000Z")).getTemplate();
+    SqlTemplate second = new SelectByCriteria().compile(criteria("2021-01-01T23:59:59.999+02:00")).getTemplate();
+
+    assertEquals(first.getSql(), second.getSql());
+    assertEquals(first.getParamCount(), second.getParamCount());
+  }
+
+  private PricesCriteria criteria(String issueDate) {
+    return PricesCriteria.builder()
+            .productId("35455")
+            .brandId("1")
+            .issueDate(OffsetDateTime.parse(issueDate))
+            .build();
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.application.exception.InvalidImportException;
+import com.bc.ecommerce.domain.operational.Prices;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Prices CSV reader test class.
+ * In com.bc.ecommerce.infrastructure.io.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesCsvReaderTest {
+
+  private static final String HEADER = "brand_id,product_id,price_list,start_date,end_date,price,currency,priority,id\n";
+
+  @Test
+  public void testReadLines() {
+    List<Prices> prices = read(HEADER
+            + "1,35455,1,2020-06-14T00:00:00Z,2020-12-31T23:59:59Z,35.50,EUR,0,2311a6f1-844d-41c4-8ee1-1baf19ff17bb\n"
+            + "\n"
+            + "1,35455,2,2020-06-14T15:00:00Z,2020-06-14T18:30:00Z,25.45,EUR,1,\n");
+
+    assertEquals(2, prices.size());
+    assertEquals("2311a6f1-844d-41c4-8ee1-1baf19ff17bb", prices.get(0).getId());
+    assertEquals("35455", prices.get(0).getProductId());
+    assertEquals(Instant.parse("2020-12-31T23:59:59Z"), prices.get(0).getEndDate());
+    assertEquals(new BigDecimal("25.45"), prices.get(1).getPrice());
+    assertEquals(1, (int) prices.get(1).getPriority());
+    assertNotNull(prices.get(1).getId());
+  }
+
+  @Test
+  public void testHeaderInAnyOrder() {
+    List<Prices> prices = read("priority,currency,price,end_date,start_date,price_list,product_id,brand_id\n"
+            + "1,EUR,30.50,2020-06-15T11:00:00Z,2020-06-15T00:00:00Z,3,35455,1\n");
+
+    assertEquals(3, (int) prices.get(0).getPriceList());
+    assertEquals("1", prices.get(0).getBrandId());
+  }
+
+  @Test(expected = InvalidImportException.class)
+  public void testMissingColumn() {
+    read("brand_id,product_id\n1,35455\n");
+  }
+
+  @Test(expected = InvalidImportException.class)
+  public void testInvalidDate() {
+    read(HEADER + "1,35455,1,yesterday,2020-12-31T23:59:59Z,35.50,EUR,0,\n");
+  }
+
+  @Test(expected = InvalidImportException.class)
+  public void testMissingField() {
+    read(HEADER + "1,35455,1,2020-06-14T00:00:00Z,2020-12-31T23:59:59Z,,EUR,0,\n");
+  }
+
+  private static List<Prices> read(String content) {
+    List<Prices> prices = new ArrayList<>();
+    new PricesCsvReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))).forEachRemaining(prices::add);
+    return prices;
+  }
+
+}
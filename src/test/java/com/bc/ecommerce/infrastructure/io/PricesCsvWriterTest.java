@@ -0,0 +1,58 @@
+package com.bc.ecommerce.infrastructure.io;
+
+import com.bc.ecommerce.domain.operational.Prices;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Prices CSV writer test class.
+ * In com.bc.ecommerce.infrastructure.io.
+ *
+ * @author Álvaro Carmona
+ * @since 18/10/2026
+ */
+public class PricesCsvWriterTest {
+
+  @Test
+  public void testWrittenPricesAreReadBack() throws IOException {
+    Prices prices = new Prices();
+    prices.setId("2311a6f1-844d-41c4-8ee1-1baf19ff17bb");
+    prices.setBrandId("1");
+    prices.setProductId("35455");
+    prices.setPriceList(1);
+    prices.setStartDate(Instant.parse("2020-06-14T00:00:00Z"));
+    prices.setEndDate(Instant.parse("2020-12-31T23:59:59Z"));
+    prices.setPrice(new BigDecimal("35.50"));
+    prices.setCurrency("EUR");
+    prices.setPriority(0);
+
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    try (PricesWriter writer = new PricesCsvWriter(target)) {
+      writer.write(prices);
+    }
+
+    List<Prices> read = new ArrayList<>();
+    new PricesCsvReader(new ByteArrayInputStream(target.toByteArray())).forEachRemaining(read::add);
+    assertEquals(List.of(prices), read);
+  }
+
+  @Test
+  public void testHeaderWithoutPrices() throws IOException {
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    new PricesCsvWriter(target).close();
+
+    assertEquals("id,brand_id,product_id,price_list,start_date,end_date,price,currency,priority\n",
+            target.toString(StandardCharsets.UTF_8));
+  }
+
+}
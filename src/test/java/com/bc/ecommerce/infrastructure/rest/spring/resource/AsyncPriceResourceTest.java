@@ -0,0 +1,122 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.application.exception.DeadlineExceededException;
+import com.bc.ecommerce.application.exception.ErrorCode;
+import com.bc.ecommerce.application.exception.LookupsSaturatedException;
+import com.bc.ecommerce.application.handler.ErrorHandler;
+import com.bc.ecommerce.application.mapper.ApiErrorMapperImpl;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.in.PricesService;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.utils.UnitTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncPriceResourceTest extends UnitTest {
+
+    @Mock
+    private PricesService service;
+
+    @Mock
+    private PricesMapper mapper;
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void setUp() {
+        initializeFactory();
+        ApiErrorMapperImpl apiErrorMapper = new ApiErrorMapperImpl();
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AsyncPriceResource(service, mapper))
+                .setControllerAdvice(new ErrorHandler(apiErrorMapper))
+                .build();
+    }
+
+    @Test
+    public void priceGet200OkTest() throws Exception {
+        Prices price = factory.manufacturePojo(Prices.class);
+        PriceDto response = factory.manufacturePojo(PriceDto.class);
+        PriceSegment segment = new PriceSegment(Instant.parse("2020-06-14T00:00:00Z"),
+                Instant.parse("2021-01-01T00:00:00Z"), price);
+        doReturn(CompletableFuture.completedFuture(Optional.of(segment)))
+                .when(service).searchSegmentAsync(any(PricesCriteria.class));
+        doReturn(response).when(mapper).map(any(PriceSegment.class));
+
+        mockMvc.perform(asyncDispatch(start()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, EcommerceResource.eTag(segment)))
+                .andExpect(jsonPath("$.productId").value(response.getProductId()));
+    }
+
+    @Test
+    public void priceGet503QueueFullTest() throws Exception {
+        doThrow(new LookupsSaturatedException("100 queued", Duration.ofMillis(1500), new RejectedExecutionException()))
+                .when(service).searchSegmentAsync(any(PricesCriteria.class));
+
+        mockMvc.perform(price())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.code").value(ErrorCode.LOOKUPS_SATURATED.getCode()))
+                .andExpect(jsonPath("$.description").value("Too many price lookups in progress: 100 queued"));
+    }
+
+    @Test
+    public void priceGet504DeadlineExceededTest() throws Exception {
+        CompletableFuture<Optional<PriceSegment>> lookup = new CompletableFuture<>();
+        lookup.completeExceptionally(new DeadlineExceededException("2000 ms"));
+        doReturn(lookup).when(service).searchSegmentAsync(any(PricesCriteria.class));
+
+        mockMvc.perform(asyncDispatch(start()))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(header().doesNotExist(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value(ErrorCode.DEADLINE_EXCEEDED.getCode()))
+                .andExpect(jsonPath("$.description").value("The price lookup did not finish in time: 2000 ms"));
+    }
+
+    private MvcResult start() throws Exception {
+        return mockMvc.perform(price()).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static MockHttpServletRequestBuilder price() {
+        return get("/price")
+                .header("X-B3-TraceId", "traceId")
+                .header("Authorization", "Authorization")
+                .param("product_id", "35455")
+                .param("brand_id", "1")
+                .param("issue_date", "2020-06-14T10:00:00Z");
+    }
+
+}
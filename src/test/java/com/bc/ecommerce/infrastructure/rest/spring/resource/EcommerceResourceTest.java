@@ -1,5 +1,6 @@
 package com.bc.ecommerce.infrastructure.rest.spring.resource;
 
+import com.bc.ecommerce.domain.operational.PriceSegment;
 import com.bc.ecommerce.domain.operational.Prices;
 import com.bc.ecommerce.domain.port.in.PricesService;
 import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
@@ -16,10 +17,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -38,9 +43,6 @@ public class EcommerceResourceTest extends UnitTest {
     @Mock
     private Prices prices;
 
-    @Mock
-    private PriceDto empty;
-
     private PriceDto response;
 
     @Before
@@ -52,22 +54,86 @@ public class EcommerceResourceTest extends UnitTest {
 
     @Test
     public void pricesGet200OkTest() {
-        doReturn(prices).when(service).search(any(PricesCriteria.class));
-        doReturn(response).when(mapper).map(any(Prices.class));
-        ResponseEntity<PriceDto> response = resource.getPrice("traceId", "Authorization", "35456", "1", OffsetDateTime.now());
-        verify(service, times(1)).search(any(PricesCriteria.class));
-        verify(mapper, times(1)).map(any(Prices.class));
+        doReturn(Optional.of(segment(prices))).when(service).searchSegment(any(PricesCriteria.class));
+        doReturn(response).when(mapper).map(any(PriceSegment.class));
+        ResponseEntity<PriceDto> response = resource.getPrice("traceId", "Authorization", "35456", "1", OffsetDateTime.now(), null);
+        verify(service, times(1)).searchSegment(any(PricesCriteria.class));
+        verify(mapper, times(1)).map(any(PriceSegment.class));
         Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
     @Test
     public void pricesGet204NoContentTest() {
-        doReturn(prices).when(service).search(any(PricesCriteria.class));
-        doReturn(empty).when(mapper).map(any(Prices.class));
-        ResponseEntity<PriceDto> response = resource.getPrice("traceId", "Authorization", "35456", "1", OffsetDateTime.now());
-        verify(service, times(1)).search(any(PricesCriteria.class));
-        verify(mapper, times(1)).map(any(Prices.class));
+        doReturn(Optional.empty()).when(service).searchSegment(any(PricesCriteria.class));
+        ResponseEntity<PriceDto> response = resource.getPrice("traceId", "Authorization", "35456", "1", OffsetDateTime.now(), null);
+        verify(service, times(1)).searchSegment(any(PricesCriteria.class));
+        verify(mapper, never()).map(any(PriceSegment.class));
         Assert.assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
 
+    @Test
+    public void pricesGetCacheHeadersTest() {
+        Prices price = price();
+        OffsetDateTime issueDate = OffsetDateTime.parse("2020-06-14T18:28:00Z");
+        PriceSegment segment = new PriceSegment(price.getStartDate(), Instant.parse("2020-06-14T18:30:00Z"), price);
+        doReturn(Optional.of(segment)).when(service).searchSegment(any(PricesCriteria.class));
+        doReturn(response).when(mapper).map(any(PriceSegment.class));
+
+        ResponseEntity<PriceDto> response = resource.getPrice("traceId", "Authorization", "35455", "1", issueDate, null);
+
+        Assert.assertEquals(EcommerceResource.eTag(segment), response.getHeaders().getETag());
+        Assert.assertEquals("max-age=120", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    public void pricesGet304NotModifiedTest() {
+        PriceSegment segment = segment(price());
+        doReturn(Optional.of(segment)).when(service).searchSegment(any(PricesCriteria.class));
+        doReturn(response).when(mapper).map(any(PriceSegment.class));
+
+        ResponseEntity<PriceDto> response = resource.getPrice("traceId", "Authorization", "35455", "1",
+                OffsetDateTime.parse("2020-06-14T10:00:00Z"), "\"other\", W/" + EcommerceResource.eTag(segment));
+
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        Assert.assertNull(response.getBody());
+        Assert.assertEquals(EcommerceResource.eTag(segment), response.getHeaders().getETag());
+    }
+
+    @Test
+    public void eTagChangesWithPriceTest() {
+        Prices price = price();
+        String eTag = EcommerceResource.eTag(segment(price));
+        price.setPrice(new BigDecimal("36.50"));
+
+        Assert.assertNotEquals(eTag, EcommerceResource.eTag(segment(price)));
+        Assert.assertTrue(eTag.startsWith("\"2311a6f1-844d-41c4-8ee1-1baf19ff17bb-"));
+    }
+
+    @Test
+    public void eTagChangesWithSegmentTest() {
+        Prices price = price();
+        PriceSegment whole = new PriceSegment(price.getStartDate(), price.getEndDate(), price);
+        PriceSegment shortened = new PriceSegment(price.getStartDate(), Instant.parse("2020-06-14T15:00:00Z"), price);
+
+        Assert.assertNotEquals(EcommerceResource.eTag(whole), EcommerceResource.eTag(shortened));
+    }
+
+    private static PriceSegment segment(Prices price) {
+        return new PriceSegment(Instant.parse("2020-06-14T00:00:00Z"), Instant.parse("2021-01-01T00:00:00Z"), price);
+    }
+
+    private static Prices price() {
+        Prices price = new Prices();
+        price.setId("2311a6f1-844d-41c4-8ee1-1baf19ff17bb");
+        price.setBrandId("1");
+        price.setProductId("35455");
+        price.setPriceList(1);
+        price.setPriority(0);
+        price.setStartDate(Instant.parse("2020-06-14T00:00:00Z"));
+        price.setEndDate(Instant.parse("2020-12-31T23:59:59Z"));
+        price.setPrice(new BigDecimal("35.50"));
+        price.setCurrency("EUR");
+        return price;
+    }
+
 }
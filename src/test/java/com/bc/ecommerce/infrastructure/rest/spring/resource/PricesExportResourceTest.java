@@ -0,0 +1,173 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.application.exception.ErrorCode;
+import com.bc.ecommerce.application.handler.ErrorHandler;
+import com.bc.ecommerce.application.mapper.ApiErrorMapperImpl;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.in.PricesExportService;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.utils.UnitTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PricesExportResourceTest extends UnitTest {
+
+    private static final String CSV_HEADER = "id,brand_id,product_id,price_list,start_date,end_date,price,currency,"
+            + "priority\n";
+
+    @Mock
+    private PricesExportService service;
+
+    private MockMvc mockMvc;
+
+    private Prices price;
+
+    @Before
+    public void setUp() {
+        initializeFactory();
+        price = factory.manufacturePojo(Prices.class);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new PricesExportResource(service, objectMapper))
+                .setControllerAdvice(new ErrorHandler(new ApiErrorMapperImpl()))
+                .build();
+    }
+
+    @Test
+    public void pricesExportNdjsonByDefaultTest() throws Exception {
+        exportsOnePrice();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(start(export())))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"prices-1.ndjson\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        Assert.assertEquals(1, body.lines().count());
+        Assert.assertTrue(body.contains("\"productId\":\"" + price.getProductId() + "\""));
+    }
+
+    @Test
+    public void pricesExportCsvTest() throws Exception {
+        exportsOnePrice();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(start(export().param("format", "CSV"))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"prices-1.csv\""))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        Assert.assertTrue(body.startsWith(CSV_HEADER));
+        Assert.assertEquals(2, body.lines().count());
+    }
+
+    @Test
+    public void pricesExportGzipTest() throws Exception {
+        exportsOnePrice();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(start(export()
+                        .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.5"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        String body = gunzip(result.getResponse().getContentAsByteArray());
+        Assert.assertTrue(body.contains("\"productId\":\"" + price.getProductId() + "\""));
+    }
+
+    @Test
+    public void pricesExportGzipRefusedTest() throws Exception {
+        mockMvc.perform(asyncDispatch(start(export().header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *"))))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void pricesExportUnknownFormatTest() throws Exception {
+        mockMvc.perform(export().param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_REQUEST_PARAMETER.getCode()));
+
+        verify(service, never()).exportPrices(any(PricesCriteria.class), any());
+    }
+
+    @Test
+    public void acceptsGzipTest() {
+        Assert.assertFalse(PricesExportResource.acceptsGzip(null));
+        Assert.assertFalse(PricesExportResource.acceptsGzip(""));
+        Assert.assertFalse(PricesExportResource.acceptsGzip("identity"));
+        Assert.assertFalse(PricesExportResource.acceptsGzip("deflate, br"));
+        Assert.assertTrue(PricesExportResource.acceptsGzip("gzip"));
+        Assert.assertTrue(PricesExportResource.acceptsGzip("GZIP"));
+        Assert.assertTrue(PricesExportResource.acceptsGzip("deflate, gzip;q=0.5"));
+        Assert.assertTrue(PricesExportResource.acceptsGzip("gzip;q=0.001"));
+        Assert.assertFalse(PricesExportResource.acceptsGzip("gzip;q=0"));
+        Assert.assertFalse(PricesExportResource.acceptsGzip("gzip; q=0.000"));
+        Assert.assertFalse(PricesExportResource.acceptsGzip("gzip;Q=0.0, deflate"));
+        Assert.assertTrue(PricesExportResource.acceptsGzip("*"));
+        Assert.assertTrue(PricesExportResource.acceptsGzip("deflate, *;q=0.1"));
+        Assert.assertFalse(PricesExportResource.acceptsGzip("*;q=0"));
+        Assert.assertFalse(PricesExportResource.acceptsGzip("gzip;q=0, *"));
+        Assert.assertTrue(PricesExportResource.acceptsGzip("*;q=0, gzip"));
+    }
+
+    private MvcResult start(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static MockHttpServletRequestBuilder export() {
+        return get("/prices/export")
+                .header("X-B3-TraceId", "traceId")
+                .header("Authorization", "Authorization")
+                .param("brand_id", "1")
+                .param("issue_date", "2020-06-14T10:00:00Z");
+    }
+
+    private void exportsOnePrice() {
+        doAnswer(invocation -> {
+            Consumer<Prices> consumer = invocation.getArgument(1);
+            consumer.accept(price);
+            return 1L;
+        }).when(service).exportPrices(any(PricesCriteria.class), any());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.application.exception.InvalidRequestParameterException;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.in.PricesChangesService;
+import com.bc.ecommerce.domain.port.in.PricesImportService;
+import com.bc.ecommerce.domain.port.in.PricesService;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceBatchRequestDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceBatchResponseDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceQueryDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.utils.UnitTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PricesResourceTest extends UnitTest {
+
+    private static final String ID = "2315a6f6-8a4d-41c4-8ee1-1baf19ff17bb";
+
+    @Mock
+    private PricesService service;
+
+    @Mock
+    private PricesChangesService changesService;
+
+    @Mock
+    private PricesImportService importService;
+
+    @Mock
+    private PricesMapper mapper;
+
+    @InjectMocks
+    private PricesResource resource;
+
+    @Mock
+    private Prices prices;
+
+    private PriceDto response;
+
+    @Before
+    public void setUp() {
+        initializeFactory();
+        response = factory.manufacturePojo(PriceDto.class);
+    }
+
+    @Test
+    public void pricesBatch200OkTest() {
+        PriceBatchRequestDto request = new PriceBatchRequestDto();
+        request.setItems(List.of(new PriceQueryDto(), new PriceQueryDto()));
+        PriceSegment segment = new PriceSegment(Instant.parse("2020-06-14T00:00:00Z"),
+                Instant.parse("2021-01-01T00:00:00Z"), prices);
+        doReturn(List.of(Optional.of(segment), Optional.empty())).when(service).searchAllSegments(anyList());
+        doReturn(response).when(mapper).map(any(PriceSegment.class));
+        doReturn(PricesCriteria.builder().build()).when(mapper).map(any(PriceQueryDto.class));
+
+        ResponseEntity<PriceBatchResponseDto> batch = resource.getPrices("traceId", "Authorization", request);
+
+        verify(service, times(1)).searchAllSegments(anyList());
+        Assert.assertEquals(HttpStatus.OK, batch.getStatusCode());
+        Assert.assertEquals(2, batch.getBody().getItems().size());
+        Assert.assertTrue(batch.getBody().getItems().get(0).getFound());
+        Assert.assertEquals(response, batch.getBody().getItems().get(0).getPrice());
+        Assert.assertFalse(batch.getBody().getItems().get(1).getFound());
+        Assert.assertNull(batch.getBody().getItems().get(1).getPrice());
+    }
+
+    @Test(expected = InvalidRequestParameterException.class)
+    public void priceChangesLimitOutOfRangeTest() {
+        try {
+            resource.getPriceChanges("traceId", "Authorization", 0L, 1001);
+        } finally {
+            verify(changesService, never()).searchChanges(anyLong(), anyInt());
+        }
+    }
+
+    @Test
+    public void priceDelete204NoContentTest() {
+        doReturn(1).when(importService).deletePrices(List.of(ID));
+
+        ResponseEntity<Void> response = resource.deletePrice("traceId", "Authorization", ID);
+
+        Assert.assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+
+    @Test
+    public void priceDelete404NotFoundTest() {
+        doReturn(0).when(importService).deletePrices(List.of(ID));
+
+        ResponseEntity<Void> response = resource.deletePrice("traceId", "Authorization", ID);
+
+        Assert.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test(expected = InvalidRequestParameterException.class)
+    public void priceDeleteInvalidIdTest() {
+        try {
+            resource.deletePrice("traceId", "Authorization", "not-a-uuid");
+        } finally {
+            verify(importService, never()).deletePrices(anyList());
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.bc.ecommerce.infrastructure.rest.spring.resource;
+
+import com.bc.ecommerce.application.exception.ErrorCode;
+import com.bc.ecommerce.application.handler.ErrorHandler;
+import com.bc.ecommerce.application.mapper.ApiErrorMapperImpl;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.port.in.PricesService;
+import com.bc.ecommerce.infrastructure.rest.spring.dto.PriceDto;
+import com.bc.ecommerce.infrastructure.rest.spring.mapper.PricesMapper;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import com.bc.ecommerce.utils.UnitTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PricesTimelineResourceTest extends UnitTest {
+
+    private static final String TIMELINE = "/price/timeline?product_id=35455&brand_id=1&from={from}&to={to}";
+
+    @Mock
+    private PricesService service;
+
+    @Mock
+    private PricesMapper mapper;
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void setUp() {
+        initializeFactory();
+        ApiErrorMapperImpl apiErrorMapper = new ApiErrorMapperImpl();
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new PricesTimelineResource(service, mapper, objectMapper, apiErrorMapper))
+                .setControllerAdvice(new ErrorHandler(apiErrorMapper))
+                .build();
+    }
+
+    @Test
+    public void priceTimelineStreamsSegmentsTest() throws Exception {
+        PriceDto price = new PriceDto();
+        price.setProductId("35455");
+        doReturn(price).when(mapper).map(any(Prices.class));
+        doAnswer(invocation -> {
+            Consumer<PriceSegment> consumer = invocation.getArgument(1);
+            consumer.accept(segment("2020-06-14T00:00:00Z", "2020-06-14T15:00:00Z"));
+            consumer.accept(segment("2020-06-14T15:00:00Z", "2020-06-14T18:30:00Z"));
+            return null;
+        }).when(service).searchSegments(any(PricesRangeCriteria.class), any());
+
+        mockMvc.perform(asyncDispatch(start("2020-06-14T00:00:00Z", "2020-06-14T18:30:00Z")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].from").value("2020-06-14T00:00:00Z"))
+                .andExpect(jsonPath("$[0].to").value("2020-06-14T15:00:00Z"))
+                .andExpect(jsonPath("$[0].price.productId").value("35455"))
+                .andExpect(jsonPath("$[1].from").value("2020-06-14T15:00:00Z"))
+                .andExpect(jsonPath("$[1].to").value("2020-06-14T18:30:00Z"));
+    }
+
+    @Test
+    public void priceTimelineEmptyRangeTest() throws Exception {
+        mockMvc.perform(asyncDispatch(start("2019-01-01T00:00:00Z", "2019-01-02T00:00:00Z")))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]", true));
+    }
+
+    @Test
+    public void priceTimelineFailureEndsWithErrorTest() throws Exception {
+        doReturn(new PriceDto()).when(mapper).map(any(Prices.class));
+        doAnswer(invocation -> {
+            Consumer<PriceSegment> consumer = invocation.getArgument(1);
+            consumer.accept(segment("2020-06-14T00:00:00Z", "2020-06-14T15:00:00Z"));
+            throw new IllegalStateException("connection lost");
+        }).when(service).searchSegments(any(PricesRangeCriteria.class), any());
+
+        mockMvc.perform(asyncDispatch(start("2020-06-14T00:00:00Z", "2020-06-14T18:30:00Z")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].from").value("2020-06-14T00:00:00Z"))
+                .andExpect(jsonPath("$[1].error.code").value(ErrorCode.UNHANDLED_ERROR.getCode()));
+    }
+
+    @Test
+    public void priceTimeline400FromNotBeforeToTest() throws Exception {
+        mockMvc.perform(get(TIMELINE, "2020-06-14T18:30:00Z", "2020-06-14T18:30:00Z")
+                        .header("X-B3-TraceId", "traceId")
+                        .header("Authorization", "Authorization"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_REQUEST_PARAMETER.getCode()));
+
+        verify(service, never()).searchSegments(any(PricesRangeCriteria.class), any());
+    }
+
+    private MvcResult start(String from, String to) throws Exception {
+        return mockMvc.perform(get(TIMELINE, from, to)
+                        .header("X-B3-TraceId", "traceId")
+                        .header("Authorization", "Authorization"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static PriceSegment segment(String from, String to) {
+        return new PriceSegment(Instant.parse(from), Instant.parse(to), new Prices());
+    }
+
+}
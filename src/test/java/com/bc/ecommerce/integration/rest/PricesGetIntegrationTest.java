@@ -1,7 +1,9 @@
 package com.bc.ecommerce.integration.rest;
 
+import com.bc.ecommerce.application.filter.PricesKeysFilter;
 import com.bc.ecommerce.boot.spring.config.EcommerceRecorderSpringBootService;
 import com.bc.ecommerce.utils.IntegrationTest;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -37,6 +39,9 @@ public class PricesGetIntegrationTest extends IntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private PricesKeysFilter keysFilter;
+
     private final String productId;
 
     private final String brandId;
@@ -68,6 +73,11 @@ public class PricesGetIntegrationTest extends IntegrationTest {
         TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
     }
 
+    @Before
+    public void rebuildKeysFilter() {
+        keysFilter.rebuild();
+    }
+
     @Test
     public void priceGetHappyPath() throws Exception {
         MockHttpServletRequestBuilder mockMvcRequestBuilders =
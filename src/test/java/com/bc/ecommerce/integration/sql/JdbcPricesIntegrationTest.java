@@ -0,0 +1,150 @@
+package com.bc.ecommerce.integration.sql;
+
+import com.bc.ecommerce.boot.spring.config.EcommerceRecorderSpringBootService;
+import com.bc.ecommerce.domain.operational.PriceSegment;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.JdbcPricesKeysRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.JdbcPricesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.JdbcPricesSnapshotRepository;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesRangeCriteria;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import javax.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = EcommerceRecorderSpringBootService.class)
+@ActiveProfiles("integration")
+@AutoConfigureEmbeddedDatabase
+@TestPropertySource(properties = "ecommerce.prices.repository=jdbc")
+@Sql(scripts = "/sql/fill_prices_relation.sql")
+@Transactional
+public class JdbcPricesIntegrationTest {
+
+  @Autowired
+  private JdbcPricesRepository repository;
+
+  @Autowired
+  private JdbcPricesKeysRepository keysRepository;
+
+  @Autowired
+  private JdbcPricesSnapshotRepository snapshotRepository;
+
+  @Test
+  public void testPricesMappedFromRows() {
+    Prices prices = lookup("2020-06-14T16:00:00.000Z");
+
+    Assert.assertNotNull(prices.getId());
+    Assert.assertEquals("1", prices.getBrandId());
+    Assert.assertEquals("35455", prices.getProductId());
+    Assert.assertEquals(2, (int) prices.getPriceList());
+    Assert.assertEquals(Instant.parse("2020-06-14T15:00:00Z"), prices.getStartDate());
+    Assert.assertEquals(Instant.parse("2020-06-14T18:30:00Z"), prices.getEndDate());
+    Assert.assertEquals(0, new BigDecimal("25.45").compareTo(prices.getPrice()));
+    Assert.assertEquals("EUR", prices.getCurrency());
+    Assert.assertEquals(1, (int) prices.getPriority());
+  }
+
+  @Test
+  public void testPricesNotMatch() {
+    Assert.assertNull(lookup("2019-06-14T10:00:00.000Z").getId());
+  }
+
+  @Test
+  public void testPricesBatchInRequestOrder() {
+    List<Prices> prices = repository.pricesProjections(List.of(
+            criteria("2020-06-15T10:00:00.000Z"), criteria("2019-06-14T10:00:00.000Z"), criteria("2020-06-14T10:00:00.000Z")));
+
+    Assert.assertEquals(3, (int) prices.get(0).getPriceList());
+    Assert.assertNull(prices.get(1).getId());
+    Assert.assertEquals(1, (int) prices.get(2).getPriceList());
+  }
+
+  @Test
+  public void testSegmentsBatchBoundedByLaterPrice() {
+    List<Optional<PriceSegment>> segments = repository.segmentProjections(List.of(
+            criteria("2020-06-14T10:00:00.000Z"), criteria("2019-06-14T10:00:00.000Z")));
+
+    Assert.assertEquals(1, (int) segments.get(0).orElseThrow().getPrice().getPriceList());
+    Assert.assertEquals(Instant.parse("2020-06-14T15:00:00Z"), segments.get(0).orElseThrow().getTo());
+    Assert.assertTrue(segments.get(1).isEmpty());
+  }
+
+  @Test
+  public void testSegmentsOfRange() {
+    List<Integer> priceLists = new ArrayList<>();
+    repository.segmentsProjection(PricesRangeCriteria.builder()
+            .productId("35455")
+            .brandId("1")
+            .from(OffsetDateTime.parse("2020-06-14T10:00:00.000Z"))
+            .to(OffsetDateTime.parse("2020-06-15T12:00:00.000Z"))
+            .build(), segment -> priceLists.add(segment.getPrice().getPriceList()));
+
+    Assert.assertEquals(List.of(1, 2, 1, 3, 1), priceLists);
+  }
+
+  @Test
+  public void testSnapshotOfBrand() {
+    List<Prices> prices = new ArrayList<>();
+    snapshotRepository.snapshotProjection(PricesCriteria.builder()
+            .brandId("1")
+            .issueDate(OffsetDateTime.parse("2020-06-14T16:00:00.000Z"))
+            .build(), prices::add);
+
+    Assert.assertEquals(1, prices.size());
+    Assert.assertEquals("35455", prices.get(0).getProductId());
+    Assert.assertEquals(2, prices.get(0).getPriceList().intValue());
+  }
+
+  @Test
+  public void testSnapshotOfProductWithoutPrice() {
+    List<Prices> prices = new ArrayList<>();
+    snapshotRepository.snapshotProjection(criteria("2019-06-14T16:00:00.000Z"), prices::add);
+
+    Assert.assertTrue(prices.isEmpty());
+  }
+
+  @Test
+  public void testTimeline() {
+    Assert.assertEquals(2, repository.timelineProjection(new PricesKey("1", "35455")).priceAt(Instant.parse("2020-06-14T16:00:00Z")).getPriceList().intValue());
+  }
+
+  @Test
+  public void testKeysProjection() {
+    Set<PricesKey> keys = new HashSet<>();
+    keysRepository.keysProjection(keys::add);
+
+    Assert.assertEquals(7, keys.size());
+    Assert.assertTrue(keys.contains(new PricesKey("1", "35455")));
+  }
+
+  private Prices lookup(String issueDate) {
+    return repository.pricesProjection(criteria(issueDate));
+  }
+
+  private PricesCriteria criteria(String issueDate) {
+    return PricesCriteria.builder()
+            .productId("35455")
+            .brandId("1")
+            .issueDate(OffsetDateTime.parse(issueDate))
+            .build();
+  }
+
+}
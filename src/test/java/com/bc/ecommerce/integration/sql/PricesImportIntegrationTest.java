@@ -0,0 +1,122 @@
+package com.bc.ecommerce.integration.sql;
+
+import com.bc.ecommerce.application.cache.PricesTimelineCache;
+import com.bc.ecommerce.boot.spring.config.EcommerceRecorderSpringBootService;
+import com.bc.ecommerce.domain.operational.PriceChange;
+import com.bc.ecommerce.domain.operational.PriceChangeOperation;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.DefaultPricesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.JdbcPricesChangesRepository;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.JdbcPricesStore;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import javax.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = EcommerceRecorderSpringBootService.class)
+@ActiveProfiles("integration")
+@AutoConfigureEmbeddedDatabase
+@Sql(scripts = "/sql/fill_prices_relation.sql")
+@Transactional
+public class PricesImportIntegrationTest {
+
+  @Autowired
+  private JdbcPricesStore store;
+
+  @Autowired
+  private DefaultPricesRepository repository;
+
+  @Autowired
+  private JdbcPricesChangesRepository changesRepository;
+
+  @Autowired
+  private PricesTimelineCache cache;
+
+  @Test
+  public void testUpsertByUniqueKey() {
+    store.upsert(List.of(
+            price(null, "35455", 2, 1, "99.99"),
+            price("9c1e2d6a-5b7f-4b0a-9a3e-2f6d8c4b1a10", "35456", 1, 0, "10.00")));
+
+    Prices updated = repository.pricesProjection(criteria("35455", "2020-06-14T16:00:00.000Z"));
+    Assert.assertEquals("8b74ac21-5761-4de0-9e9b-82a59e1a477b", updated.getId());
+    Assert.assertEquals(0, new BigDecimal("99.99").compareTo(updated.getPrice()));
+
+    Prices inserted = repository.pricesProjection(criteria("35456", "2020-06-14T16:00:00.000Z"));
+    Assert.assertEquals("9c1e2d6a-5b7f-4b0a-9a3e-2f6d8c4b1a10", inserted.getId());
+    Assert.assertEquals(1, repository.timelineProjection(new PricesKey("1", "35456")).getSegments().size());
+  }
+
+  @Test
+  public void testBrandChangeInvalidatesPreviousKey() {
+    PricesKey previous = new PricesKey("1", "35455");
+    cache.put(previous, repository.timelineProjection(previous), cache.stamp());
+    Prices moved = price(null, "35455", 2, 1, "25.45");
+    moved.setBrandId("2");
+
+    store.upsert(List.of(moved));
+
+    Assert.assertNull(cache.get(previous));
+    Assert.assertEquals(1, repository.timelineProjection(new PricesKey("2", "35455")).getSegments().size());
+  }
+
+  @Test
+  public void testChangesSinceVersion() {
+    List<PriceChange> before = changesRepository.changesSince(0, 1000);
+    long since = before.get(before.size() - 1).getVersion();
+
+    store.upsert(List.of(
+            price(null, "35455", 2, 1, "99.99"),
+            price("9c1e2d6a-5b7f-4b0a-9a3e-2f6d8c4b1a10", "35456", 1, 0, "10.00")));
+    Assert.assertEquals(1, store.delete(List.of("2315a6f6-8a4d-41c4-8ee1-1baf19ff17bb",
+            "9f0e8d7c-6b5a-4c3d-8e2f-1a0b9c8d7e6f")));
+
+    List<PriceChange> changes = changesRepository.changesSince(since, 10);
+    Assert.assertEquals(List.of(PriceChangeOperation.UPDATED, PriceChangeOperation.INSERTED,
+            PriceChangeOperation.DELETED), changes.stream().map(PriceChange::getOperation).collect(Collectors.toList()));
+    Assert.assertEquals(List.of("8b74ac21-5761-4de0-9e9b-82a59e1a477b", "9c1e2d6a-5b7f-4b0a-9a3e-2f6d8c4b1a10",
+            "2315a6f6-8a4d-41c4-8ee1-1baf19ff17bb"), changes.stream().map(PriceChange::getId).collect(Collectors.toList()));
+    Assert.assertNull(changes.get(2).getPrice());
+    Assert.assertEquals(changes.subList(1, 3), changesRepository.changesSince(changes.get(0).getVersion(), 10));
+    Assert.assertEquals(PriceChangeOperation.INSERTED, changesRepository.changesSince(0, 1000).stream()
+            .filter(change -> change.getId().equals("8b74ac21-5761-4de0-9e9b-82a59e1a477b"))
+            .findFirst().orElseThrow().getOperation());
+  }
+
+  private static Prices price(String id, String productId, int priceList, int priority, String amount) {
+    Prices price = new Prices();
+    price.setId(id != null ? id : "00000000-0000-0000-0000-000000000000");
+    price.setBrandId("1");
+    price.setProductId(productId);
+    price.setPriceList(priceList);
+    price.setStartDate(Instant.parse("2020-06-14T15:00:00Z"));
+    price.setEndDate(Instant.parse("2020-06-14T18:30:00Z"));
+    price.setPrice(new BigDecimal(amount));
+    price.setCurrency("EUR");
+    price.setPriority(priority);
+    return price;
+  }
+
+  private static PricesCriteria criteria(String productId, String issueDate) {
+    return PricesCriteria.builder()
+            .productId(productId)
+            .brandId("1")
+            .issueDate(OffsetDateTime.parse(issueDate))
+            .build();
+  }
+
+}
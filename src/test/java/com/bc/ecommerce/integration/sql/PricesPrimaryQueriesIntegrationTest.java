@@ -1,9 +1,11 @@
 package com.bc.ecommerce.integration.sql;
 
 import com.bc.ecommerce.boot.spring.config.EcommerceRecorderSpringBootService;
+import com.bc.ecommerce.domain.operational.Prices;
 import com.bc.ecommerce.infrastructure.db.springdata.sql.QueryBuilder;
 import com.bc.ecommerce.infrastructure.db.springdata.model.PricesDbo;
 import com.bc.ecommerce.infrastructure.db.springdata.query.CustomQuery;
+import com.bc.ecommerce.infrastructure.db.springdata.query.SqlTemplate;
 import com.bc.ecommerce.infrastructure.db.springdata.repository.DefaultPricesRepository;
 import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
 import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
@@ -20,10 +22,12 @@ import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
 import javax.transaction.Transactional;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest(classes = EcommerceRecorderSpringBootService.class)
@@ -63,6 +67,48 @@ public class PricesPrimaryQueriesIntegrationTest {
     Assert.assertEquals("35455", result.get(0).getProductId());
   }
 
+  @Test
+  public void testPricesBatchInRequestOrder() {
+    List<Prices> result = repository.pricesProjections(List.of(
+            criteria("35455", "1", "2020-06-14T16:00:00.000Z"),
+            criteria("35455", "1", "2019-06-14T10:00:00.000Z"),
+            criteria("35455", "1", "2020-06-14T10:00:00.000Z"),
+            criteria("product_4", "brand_2", "2022-04-01T10:00:00.000Z"),
+            criteria("35455", "1", "2020-06-15T10:00:00.000Z")));
+
+    Assert.assertEquals(5, result.size());
+    Assert.assertEquals(2, (int) result.get(0).getPriceList());
+    Assert.assertNull(result.get(1).getId());
+    Assert.assertEquals(1, (int) result.get(2).getPriceList());
+    Assert.assertEquals("product_4", result.get(3).getProductId());
+    Assert.assertEquals(3, (int) result.get(4).getPriceList());
+  }
+
+  @Test
+  public void testLookupPlanUsesCoveringIndexWithoutSort() {
+    SqlTemplate.Bound lookup = (SqlTemplate.Bound) QueryBuilder.retrieve(criteria("35455", "1", "2020-06-14T16:00:00.000Z"));
+    // The relation is tiny, so the planner would rather read it whole.
+    entityManager.createNativeQuery("set local enable_seqscan = off").executeUpdate();
+
+    Query explain = entityManager.createNativeQuery("explain " + lookup.getTemplate().getSql());
+    for (int i = 0; i < lookup.getValues().length; i++) {
+      explain.setParameter(i + 1, lookup.getValues()[i]);
+    }
+    List<?> rows = explain.getResultList();
+    String plan = rows.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+
+    Assert.assertTrue(plan, plan.contains("prices_lookup_idx"));
+    Assert.assertFalse(plan, plan.contains("Sort"));
+  }
+
+  private static PricesCriteria criteria(String productId, String brandId, String issueDate) {
+    return PricesCriteria.builder()
+            .productId(productId)
+            .brandId(brandId)
+            .issueDate(toOffsetDateTime(issueDate))
+            .build();
+  }
+
   private static OffsetDateTime toOffsetDateTime(String date) {
     return OffsetDateTime.parse(date, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
   }
@@ -0,0 +1,70 @@
+package com.bc.ecommerce.integration.sql;
+
+import com.bc.ecommerce.boot.spring.config.EcommerceRecorderSpringBootService;
+import com.bc.ecommerce.domain.operational.Prices;
+import com.bc.ecommerce.domain.operational.PricesKey;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.PricesTimelineMaterializer;
+import com.bc.ecommerce.infrastructure.db.springdata.repository.TimelinePricesRepository;
+import com.bc.ecommerce.infrastructure.rest.spring.pojo.PricesCriteria;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import javax.transaction.Transactional;
+import java.time.OffsetDateTime;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = EcommerceRecorderSpringBootService.class)
+@ActiveProfiles("integration")
+@AutoConfigureEmbeddedDatabase
+@TestPropertySource(properties = "ecommerce.prices.repository=timeline")
+@Sql(scripts = "/sql/fill_prices_relation.sql")
+@Transactional
+public class PricesTimelineIntegrationTest {
+
+  @Autowired
+  private PricesTimelineMaterializer materializer;
+
+  @Autowired
+  private TimelinePricesRepository repository;
+
+  @Test
+  public void testPricesFromMaterializedTimeline() {
+    materializer.rebuild();
+
+    Assert.assertEquals(1, (int) lookup("2020-06-14T10:00:00.000Z").getPriceList());
+    Assert.assertEquals(2, (int) lookup("2020-06-14T16:00:00.000Z").getPriceList());
+    Assert.assertEquals(1, (int) lookup("2020-06-14T21:00:00.000Z").getPriceList());
+    Assert.assertEquals(3, (int) lookup("2020-06-15T10:00:00.000Z").getPriceList());
+    Assert.assertEquals(4, (int) lookup("2020-06-16T21:00:00.000Z").getPriceList());
+  }
+
+  @Test
+  public void testPricesNotMatch() {
+    materializer.rebuild();
+
+    Assert.assertNull(lookup("2019-06-14T10:00:00.000Z").getId());
+  }
+
+  @Test
+  public void testIncrementalRebuild() {
+    materializer.rebuild(new PricesKey("1", "35455"));
+
+    Assert.assertEquals(2, (int) lookup("2020-06-14T16:00:00.000Z").getPriceList());
+  }
+
+  private Prices lookup(String issueDate) {
+    return repository.pricesProjection(PricesCriteria.builder()
+            .productId("35455")
+            .brandId("1")
+            .issueDate(OffsetDateTime.parse(issueDate))
+            .build());
+  }
+
+}